@@ -34,6 +34,7 @@ public class LocalizationStrings {
      public static String ABOUT = "About";
      public static String GITHUB = "Github";
      public static String TITLE = "Title";
+     public static String TITLE_DEAL = "TitleDeal";
      public static String GAME = "Game";
      public static String GAME_ICON = "GameIcon";
      public static String GAME_OVER = "GameOver";
@@ -41,7 +42,14 @@ public class LocalizationStrings {
      public static String GAME_WON_STATUS_BAR = "GameWonStatusBar";
      public static String HELP = "Help";
      public static String DEAL = "Deal";
+     public static String SELECT_GAME = "SelectGame";
+     public static String SELECT_GAME_PROMPT = "SelectGamePrompt";
+     public static String SELECT_GAME_INVALID = "SelectGameInvalid";
      public static String UNDO = "Undo";
+     public static String REDO = "Redo";
+     public static String REPLAY = "Replay";
+     public static String REPLAY_POSITION = "ReplayPosition";
+     public static String REPLAY_POSITION_UNTIMED = "ReplayPositionUntimed";
      public static String DECK = "Deck";
      public static String OPTIONS = "Options";
      public static String EXIT = "Exit";
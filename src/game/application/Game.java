@@ -29,6 +29,7 @@ import java.awt.EventQueue;
 import java.awt.event.KeyAdapter;
 import java.awt.event.KeyEvent;
 import java.io.File;
+import java.util.Arrays;
 import java.util.List;
 
 import javax.swing.AbstractButton;
@@ -43,17 +44,26 @@ import framework.core.system.EngineProperties.Property;
 import framework.utils.globalisation.Localization;
 
 import game.config.OptionsPreferences;
+import game.config.OptionsSnapshot;
+import game.engine.Deal;
+import game.engine.GameSession;
+import game.entities.SpriteCache;
 import game.menu.AboutMenuItem;
 import game.menu.DeckMenuItem;
 import game.menu.ExitMenuItem;
 import game.menu.NewGameMenuItem;
 import game.menu.OptionsMenuItem;
+import game.menu.RedoMenuItem;
+import game.menu.ReplayMenuItem;
+import game.menu.SelectGameMenuItem;
 import game.menu.UndoMenuItem;
+import game.views.BoardView;
 import game.views.FoundationPileView;
 import game.views.GameView;
+import game.views.IBoardView;
 import game.views.TableauPileView;
 import game.views.TalonPileView;
-import game.views.helpers.WinAnimationHelper;
+import game.views.helpers.DamageTracker;
 
 import resources.LocalizationStrings;
 
@@ -62,6 +72,27 @@ import resources.LocalizationStrings;
  */
 public final class Game extends Application {
 
+    /**
+     * Indicates if the board is painted as a whole by the board view instead of being made up of the game view components.
+     * This is static because the application starts the game from within its own constructor
+     */
+    private static boolean _isBoardPainted;
+
+    /**
+     * The deal number to use the next time that the game restarts, or null if a random deal should be used
+     */
+    private Long _selectedDealNumber;
+    
+    /**
+     * The session of the game being played, or null if no game was started yet
+     */
+    private GameSession _session;
+    
+    /**
+     * The view that shows the board of the game being played, or null if no game was started yet
+     */
+    private IBoardView _boardView;
+    
     /**
      * Constructs a new instance of this class type
      * 
@@ -84,6 +115,11 @@ public final class Game extends Application {
                         options.load();
                         System.out.println(options);
                         
+                        if(_isBoardPainted) {
+                            System.out.println(_boardView.getController().getState());
+                            return;
+                        }
+                        
                         System.out.println(viewFactory.get(TalonPileView.class).toString());
                         
                         List<TableauPileView> pileViews =  viewFactory.getAll(TableauPileView.class);
@@ -95,10 +131,14 @@ public final class Game extends Application {
                             System.out.println(foundationViews.get(i));
                         }
                     }
-                    else if(event.getKeyCode() == KeyEvent.VK_F3) {
+                    else if(event.getKeyCode() == KeyEvent.VK_F3 && !_isBoardPainted) {
                         event.consume();
                         System.out.println(viewFactory.get(TalonPileView.class).toString());
                     }
+                    else if(event.getKeyCode() == KeyEvent.VK_F4) {
+                        event.consume();
+                        DamageTracker.setIsDebugging(!DamageTracker.getIsDebugging());
+                    }
                 }
             });
         }
@@ -108,10 +148,10 @@ public final class Game extends Application {
                 boolean _locked = false;
                 
                 //Alt + Shift + 2
-                if(event.getKeyCode() == KeyEvent.VK_2 && event.getModifiersEx() == (KeyEvent.ALT_DOWN_MASK | KeyEvent.SHIFT_DOWN_MASK)) {
+                if(event.getKeyCode() == KeyEvent.VK_2 && event.getModifiersEx() == (KeyEvent.ALT_DOWN_MASK | KeyEvent.SHIFT_DOWN_MASK) && !_isBoardPainted) {
                     if(!_locked) { 
                         _locked = true;
-                        GameView.forceGameWin();
+                        ((GameView)_boardView).forceGameWin();
                         _locked = false;
                     }
                 }
@@ -120,11 +160,28 @@ public final class Game extends Application {
     }
     
     /**
-     * Main entrypoint method
+     * Main entrypoint method. When the first argument is {@code survey} the solvability survey
+     * is run from the command-line instead, see {@link Survey}, when it is {@code replay} the
+     * replay tool is run instead, see {@link Replays}, and when it is {@code sprites} the card
+     * painting benchmark is run instead, see {@link SpriteBenchmark}. Passing {@code canvas}
+     * paints the board as a whole onto a single component, see {@link BoardView}
      * 
      * @param args The arguments associated to the application entry point
      */
     public static void main(String[] args) {
+        if(args.length > 0 && args[0].trim().equals("survey")) {
+            Survey.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+        if(args.length > 0 && args[0].trim().equals("replay")) {
+            Replays.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+        if(args.length > 0 && args[0].trim().equals("sprites")) {
+            SpriteBenchmark.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+        
         EventQueue.invokeLater(new Runnable() {
             @Override public void run() {
                 boolean debugMode = false;
@@ -134,6 +191,10 @@ public final class Game extends Application {
                         debugMode = true;
                         break;
                     }
+                    case "canvas": {
+                        _isBoardPainted = true;
+                        break;
+                    }
                     }
                 }
                 new Game(debugMode);
@@ -141,9 +202,29 @@ public final class Game extends Application {
         });
     }
     
+    /**
+     * Restarts the game using the specified deal
+     * 
+     * @param dealNumber The deal number of the game
+     */
+    public void onRestart(long dealNumber) {
+        _selectedDealNumber = dealNumber;
+        onRestart();
+    }
+    
+    /**
+     * @return The view that shows the board of the game being played, which holds the movement controller of the game
+     */
+    public IBoardView getBoardView() {
+        return _boardView;
+    }
+    
     @Override public void onRestart() {
         super.onRestart();
         
+        // The score of the previous game is only carried over by a new game, not when the options restart the game
+        GameSession previousSession = isRestarting ? null : _session;
+        
         if(AbstractFactory.isRunning()) {
             
             // Clear the factory of it's contents
@@ -156,12 +237,27 @@ public final class Game extends Application {
             isRestarting = false;
         }
 
-        WinAnimationHelper.clear();
+        // Get the deal to play, either the one that was selected or a random one
+        long dealNumber = _selectedDealNumber != null ? _selectedDealNumber : Deal.newDealNumber();
+        _selectedDealNumber = null;
+        _session = new GameSession(dealNumber, OptionsSnapshot.get(), previousSession);
         
         // Spawn a new game view and render its contents
-        GameView gameView = AbstractFactory.getFactory(ViewFactory.class).add(new GameView(), true);
-        instance.setContentPane(gameView);
-        gameView.render();
+        if(_isBoardPainted) {
+            BoardView boardView = AbstractFactory.getFactory(ViewFactory.class).add(new BoardView(_session), true);
+            _boardView = boardView;
+            instance.setContentPane(boardView);
+            boardView.render();
+        }
+        else {
+            GameView gameView = AbstractFactory.getFactory(ViewFactory.class).add(new GameView(_session), true);
+            _boardView = gameView;
+            instance.setContentPane(gameView);
+            gameView.render();
+        }
+        
+        // Show the deal number within the title so that the game can be replayed
+        setTitle(String.format(Localization.instance().getLocalizedString(LocalizationStrings.TITLE_DEAL), Localization.instance().getLocalizedString(LocalizationStrings.TITLE), Deal.toString(dealNumber)));
     }
     
     @Override protected void onBeforeEngineDataInitialized() {
@@ -186,12 +282,18 @@ public final class Game extends Application {
         // Always show mnemonics in the menu system
         UIManager.put("Button.showMnemonics", Boolean.TRUE);
         
+        // Copy the card sprites out of the sprite sheet once, before any card is painted
+        SpriteCache.load();
+        
         // Game Menu
         MenuBuilder.start(getJMenuBar())
         .addMenu(Localization.instance().getLocalizedString(LocalizationStrings.GAME), KeyEvent.VK_G)
         .addMenuItem(NewGameMenuItem.class)
+        .addMenuItem(SelectGameMenuItem.class)
         .addSeparator()
         .addMenuItem(UndoMenuItem.class)
+        .addMenuItem(RedoMenuItem.class)
+        .addMenuItem(ReplayMenuItem.class)
         .addMenuItem(DeckMenuItem.class)
         .addMenuItem(OptionsMenuItem.class)
         .addSeparator()
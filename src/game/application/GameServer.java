@@ -0,0 +1,522 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2019 Daniel Ricci {@literal <thedanny09@icloud.com>}
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package game.application;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+import game.config.OptionsPreferences.DrawOption;
+import game.config.OptionsPreferences.ScoringOption;
+import game.config.OptionsSnapshot;
+import game.engine.Card;
+import game.engine.Deal;
+import game.engine.GameSession;
+import game.engine.GameState;
+import game.engine.Move;
+import game.engine.MoveGenerator;
+import game.engine.SessionCache;
+
+import generated.DataLookup;
+
+/**
+ * Command-line game server that plays games without a board. Sessions are created by deal number, and every
+ * connection is served on a thread of its own that plays the moves it is sent against the sessions it names. No view
+ * of the game is ever loaded, so the server runs without a display.
+ *
+ * Usage: {@code server [port=7777] [backlog=1024] [sessions=10000] [memory=0] [directory=path] [workers=cores]}
+ *
+ * The protocol is made of lines of text, every request being answered by a single line that starts with {@code OK} or
+ * with {@code ERR} followed by the reason of the error. A session is played from any connection once it is created.
+ * <ul>
+ * <li>{@code NEW <deal> [ONE|THREE] [STANDARD|VEGAS|NONE] [TIMED]} creates a session, answered by its identifier and
+ * its state</li>
+ * <li>{@code STATE <id>} is answered by the state of the session</li>
+ * <li>{@code MOVES <id>} is answered by the legal moves of the session, as encoded moves</li>
+ * <li>{@code MOVE <id> <move>} plays an encoded move, answered by the state delta of the move</li>
+ * <li>{@code UNDO <id>} undoes the last move, answered by the state delta of the move that was undone</li>
+ * <li>{@code CLOSE <id>} ends the session</li>
+ * <li>{@code STATS} is answered by the number of sessions, the number of sessions held in memory and the number of
+ * connections that are open</li>
+ * <li>{@code QUIT} closes the connection</li>
+ * </ul>
+ *
+ * A state is written as the score, 1 if the game is won or 0 otherwise, then the piles. A state delta is written as the
+ * score, the won flag and the encoded move, then only the piles that the move changed. The piles are written as
+ * {@code W=<stock size>:<talon top>}, {@code F<suite>=<foundation top>} and {@code T<column>=<backside count>:<face up
+ * cards>}, the cards being separated by commas.
+ *
+ * At most {@code sessions} sessions are held in memory, and at most {@code memory} bytes of them when a memory budget
+ * is given. The sessions that were used least recently are passivated to their snapshot within {@code directory}, a
+ * temporary directory by default, and are read back the next time that they are played.
+ *
+ * At most {@code workers} requests are executed at once, one per processor by default, the others waiting their turn
+ * in the order that they were read. Every connection is served by a thread of its own, so without this limit the
+ * threads of a loaded server would all be competing for the processors at once, leaving some of them waiting for
+ * seconds before they are scheduled again.
+ *
+ * Note: every connection runs on a virtual thread when the runtime has them, and on a thread of its own otherwise.
+ *
+ * @author Daniel Ricci {@literal <thedanny09@icloud.com>}
+ */
+public final class GameServer {
+
+    /**
+     * The default port that the server listens on
+     */
+    public static final int DEFAULT_PORT = 7777;
+
+    /**
+     * The separator of the command and the arguments of a request, compiled once rather than for every request
+     */
+    private static final Pattern REQUEST_SEPARATOR = Pattern.compile("\\s+");
+
+    /**
+     * The port that the server listens on
+     */
+    private final int _port;
+
+    /**
+     * The maximum number of connections waiting to be accepted
+     */
+    private final int _backlog;
+
+    /**
+     * The sessions being played, the least recently used of them being passivated to disk
+     */
+    private final SessionCache _sessions;
+
+    /**
+     * The number of connections that are open
+     */
+    private final AtomicLong _connections = new AtomicLong();
+
+    /**
+     * The permits of the requests being executed, handed out in the order that they were asked for
+     */
+    private final Semaphore _workers;
+
+    /**
+     * Constructs a new instance of this class type
+     *
+     * @param args The arguments of the server, as key=value pairs
+     *
+     * @throws IOException If the directory that the sessions are passivated into could not be created
+     */
+    private GameServer(String[] args) throws IOException {
+        int port = DEFAULT_PORT;
+        int backlog = 1024;
+        int sessions = 10000;
+        long memory = SessionCache.UNLIMITED;
+        String directory = null;
+        int workers = Runtime.getRuntime().availableProcessors();
+
+        for(String arg : args) {
+            String[] pair = arg.trim().split("=", 2);
+            if(pair.length != 2) {
+                throw new IllegalArgumentException("Invalid argument " + arg);
+            }
+            switch(pair[0]) {
+            case "port":
+                port = Integer.parseInt(pair[1]);
+                break;
+            case "backlog":
+                backlog = Integer.parseInt(pair[1]);
+                break;
+            case "sessions":
+                sessions = Integer.parseInt(pair[1]);
+                break;
+            case "memory":
+                memory = Long.parseLong(pair[1]);
+                break;
+            case "directory":
+                directory = pair[1];
+                break;
+            case "workers":
+                workers = Integer.parseInt(pair[1]);
+                if(workers < 1) {
+                    throw new IllegalArgumentException("The number of workers must be at least 1");
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown argument " + pair[0]);
+            }
+        }
+
+        _port = port;
+        _backlog = backlog;
+        _workers = new Semaphore(workers, true);
+        _sessions = new SessionCache(directory != null ? Paths.get(directory) : Files.createTempDirectory("solitaire-sessions"), sessions, memory);
+    }
+
+    /**
+     * Main entrypoint of the server
+     *
+     * @param args The arguments of the server, as key=value pairs
+     */
+    public static void main(String[] args) {
+        try {
+            new GameServer(args).run();
+        }
+        catch(IllegalArgumentException exception) {
+            System.err.println(exception.getMessage());
+            System.err.println("Usage: server [port=7777] [backlog=1024] [sessions=10000] [memory=0] [directory=path] [workers=cores]");
+            System.exit(1);
+        }
+        catch(Exception exception) {
+            exception.printStackTrace();
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Creates the executor that runs a task per connection, on a virtual thread if the runtime has them. Virtual threads
+     * are looked up reflectively so that the game keeps building and running on runtimes that predate them, and the
+     * kind of thread that was picked is printed since it weighs on how many connections can be served at once
+     *
+     * @return The executor
+     */
+    static ExecutorService newConnectionExecutor() {
+        try {
+            ExecutorService executor = (ExecutorService)Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            System.out.println("Running every connection on a virtual thread");
+            return executor;
+        }
+        catch(ReflectiveOperationException | UnsupportedOperationException exception) {
+            System.out.println(String.format("Running every connection on a platform thread, virtual threads are not available on Java %s", System.getProperty("java.version")));
+            return Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    /**
+     * Accepts connections until the server is stopped
+     *
+     * @throws IOException If the server could not listen on its port
+     */
+    private void run() throws IOException {
+        ExecutorService executor = newConnectionExecutor();
+        try(ServerSocket serverSocket = new ServerSocket()) {
+            serverSocket.setReuseAddress(true);
+            serverSocket.bind(new InetSocketAddress(_port), _backlog);
+            System.out.println(String.format("Listening on port %d", _port));
+
+            while(true) {
+                Socket socket = serverSocket.accept();
+                executor.execute(() -> serve(socket));
+            }
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Serves the requests of a connection until it is closed
+     *
+     * @param socket The socket of the connection
+     */
+    private void serve(Socket socket) {
+        _connections.incrementAndGet();
+        try(Socket connection = socket) {
+            connection.setTcpNoDelay(true);
+            BufferedReader reader = new BufferedReader(new InputStreamReader(connection.getInputStream(), StandardCharsets.US_ASCII));
+            Writer writer = new BufferedWriter(new OutputStreamWriter(connection.getOutputStream(), StandardCharsets.US_ASCII));
+            StringBuilder response = new StringBuilder();
+            int[] moves = new int[MoveGenerator.MAX_MOVES];
+
+            for(String request = reader.readLine(); request != null && !request.trim().equalsIgnoreCase("QUIT"); request = reader.readLine()) {
+                response.setLength(0);
+                _workers.acquireUninterruptibly();
+                try {
+                    execute(REQUEST_SEPARATOR.split(request.trim()), moves, response);
+                }
+                catch(IllegalArgumentException | IndexOutOfBoundsException | IOException exception) {
+                    response.setLength(0);
+                    response.append("ERR ").append(exception.getMessage());
+                }
+                finally {
+                    _workers.release();
+                }
+                writer.append(response).append('\n');
+                writer.flush();
+            }
+        }
+        catch(IOException exception) {
+            // The connection was dropped by the client, which ends its requests
+        }
+        finally {
+            _connections.decrementAndGet();
+        }
+    }
+
+    /**
+     * Executes a single request
+     *
+     * @param request The request, split into its command and its arguments
+     * @param moves The buffer that the legal moves are generated into
+     * @param response The response to write into
+     *
+     * @throws IOException If a session could not be passivated or read back from its snapshot
+     */
+    private void execute(String[] request, int[] moves, StringBuilder response) throws IOException {
+        String command = request[0].toUpperCase();
+        switch(command) {
+        case "NEW": {
+            GameSession session = new GameSession(Deal.parse(request[1]), parseOptions(request), null);
+            response.append("OK ").append(_sessions.add(session));
+            synchronized(session) {
+                appendState(session, response);
+            }
+            break;
+        }
+        case "CLOSE": {
+            if(!_sessions.remove(Long.parseLong(request[1]))) {
+                throw new IllegalArgumentException("Unknown session " + request[1]);
+            }
+            response.append("OK");
+            break;
+        }
+        case "STATS": {
+            response.append("OK ").append(_sessions.size()).append(' ').append(_sessions.getResidentCount()).append(' ').append(_connections.get());
+            break;
+        }
+        case "STATE":
+        case "MOVES":
+        case "MOVE":
+        case "UNDO": {
+            long sessionId = Long.parseLong(request[1]);
+            GameSession session = _sessions.acquire(sessionId);
+            if(session == null) {
+                throw new IllegalArgumentException("Unknown session " + request[1]);
+            }
+            try {
+                synchronized(session) {
+                    execute(command, session, request, moves, response);
+                }
+            }
+            finally {
+                _sessions.release(sessionId);
+            }
+            break;
+        }
+        default:
+            throw new IllegalArgumentException("Unknown command " + request[0]);
+        }
+    }
+
+    /**
+     * Executes a single request made to a session, which must be locked by the calling thread
+     *
+     * @param command The command of the request
+     * @param session The session
+     * @param request The request, split into its command and its arguments
+     * @param moves The buffer that the legal moves are generated into
+     * @param response The response to write into
+     */
+    private static void execute(String command, GameSession session, String[] request, int[] moves, StringBuilder response) {
+        switch(command) {
+        case "STATE": {
+            response.append("OK");
+            appendState(session, response);
+            break;
+        }
+        case "MOVES": {
+            response.append("OK");
+            for(int i = 0, size = session.getLegalMoves(moves); i < size; ++i) {
+                response.append(' ').append(moves[i]);
+            }
+            break;
+        }
+        case "MOVE": {
+            int move = session.play(Integer.parseInt(request[2]));
+            if(move == Move.NONE) {
+                throw new IllegalArgumentException("Illegal move " + request[2]);
+            }
+            response.append("OK");
+            appendDelta(session, move, response);
+            break;
+        }
+        case "UNDO": {
+            int move = session.undo();
+            if(move == Move.NONE) {
+                throw new IllegalArgumentException("There is no move to undo");
+            }
+            response.append("OK");
+            appendDelta(session, move, response);
+            break;
+        }
+        }
+    }
+
+    /**
+     * Parses the options of a new session, which follow its deal number
+     *
+     * @param request The request creating the session
+     *
+     * @return The snapshot of the options of the session
+     */
+    private static OptionsSnapshot parseOptions(String[] request) {
+        DrawOption drawOption = DrawOption.ONE;
+        ScoringOption scoringOption = ScoringOption.STANDARD;
+        boolean timedGame = false;
+        for(int i = 2; i < request.length; ++i) {
+            String option = request[i].toUpperCase();
+            switch(option) {
+            case "ONE":
+            case "THREE":
+                drawOption = DrawOption.valueOf(option);
+                break;
+            case "STANDARD":
+            case "VEGAS":
+            case "NONE":
+                scoringOption = ScoringOption.valueOf(option);
+                break;
+            case "TIMED":
+                timedGame = true;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown option " + request[i]);
+            }
+        }
+        return new OptionsSnapshot(timedGame, false, false, false, drawOption, scoringOption, DataLookup.BACKSIDES.DECK_1);
+    }
+
+    /**
+     * Appends the state of the session, which must be locked by the calling thread
+     *
+     * @param session The session
+     * @param response The response to append to
+     */
+    private static void appendState(GameSession session, StringBuilder response) {
+        GameState state = session.getState();
+        response.append(' ').append(session.getScore()).append(' ').append(state.isWon() ? 1 : 0);
+        appendTalon(state, response);
+        for(int suite = 0; suite < Card.SUITE_COUNT; ++suite) {
+            appendFoundation(state, suite, response);
+        }
+        for(int column = 0; column < GameState.TABLEAU_COUNT; ++column) {
+            appendTableau(state, column, response);
+        }
+    }
+
+    /**
+     * Appends the delta that the specified move made to the state of the session, which must be locked by the calling
+     * thread. The piles that the move changed are the same whether the move was played or undone
+     *
+     * @param session The session
+     * @param move The move that was played or undone
+     * @param response The response to append to
+     */
+    private static void appendDelta(GameSession session, int move, StringBuilder response) {
+        GameState state = session.getState();
+        response.append(' ').append(session.getScore()).append(' ').append(state.isWon() ? 1 : 0).append(' ').append(move);
+        switch(Move.type(move)) {
+        case Move.DRAW:
+        case Move.RECYCLE:
+            appendTalon(state, response);
+            break;
+        case Move.TALON_TO_TABLEAU:
+            appendTalon(state, response);
+            appendTableau(state, Move.to(move), response);
+            break;
+        case Move.TALON_TO_FOUNDATION:
+            appendTalon(state, response);
+            appendFoundation(state, Move.to(move), response);
+            break;
+        case Move.TABLEAU_TO_TABLEAU:
+            appendTableau(state, Move.from(move), response);
+            appendTableau(state, Move.to(move), response);
+            break;
+        case Move.TABLEAU_TO_FOUNDATION:
+            appendTableau(state, Move.from(move), response);
+            appendFoundation(state, Move.to(move), response);
+            break;
+        case Move.FOUNDATION_TO_TABLEAU:
+            appendFoundation(state, Move.from(move), response);
+            appendTableau(state, Move.to(move), response);
+            break;
+        case Move.UNCOVER:
+            appendTableau(state, Move.from(move), response);
+            break;
+        }
+    }
+
+    /**
+     * Appends the stock size and the top-most card of the talon
+     *
+     * @param state The game state
+     * @param response The response to append to
+     */
+    private static void appendTalon(GameState state, StringBuilder response) {
+        response.append(" W=").append(state.getStockSize()).append(':').append(Card.toString(state.getTalonTop()));
+    }
+
+    /**
+     * Appends the top-most card of a foundation
+     *
+     * @param state The game state
+     * @param suite The suite of the foundation
+     * @param response The response to append to
+     */
+    private static void appendFoundation(GameState state, int suite, StringBuilder response) {
+        response.append(" F").append(suite).append('=').append(Card.toString(state.getFoundationTop(suite)));
+    }
+
+    /**
+     * Appends the number of backsides and the face up cards of a tableau pile
+     *
+     * @param state The game state
+     * @param column The tableau pile index
+     * @param response The response to append to
+     */
+    private static void appendTableau(GameState state, int column, StringBuilder response) {
+        int backsideCount = state.getBacksideCount(column);
+        response.append(" T").append(column).append('=').append(backsideCount).append(':');
+        for(int i = backsideCount, size = state.getColumnSize(column); i < size; ++i) {
+            if(i > backsideCount) {
+                response.append(',');
+            }
+            response.append(Card.toString(state.getTableauCard(column, i)));
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,315 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2019 Daniel Ricci {@literal <thedanny09@icloud.com>}
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package game.application;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import game.engine.Deal;
+
+/**
+ * Command-line load generator of the game server. Every client opens a connection of its own and plays games one
+ * after the other, picking a random legal move at every turn until the game is won, runs out of legal moves or reaches
+ * the move limit. The latency of every move is measured from the moment that it is sent until its response is read,
+ * and the throughput along with the percentiles of the latencies are reported once every client is done.
+ *
+ * Usage: {@code load [host=localhost] [port=7777] [clients=1000] [games=10] [moves=200] [first=0] [options=ONE,STANDARD]}
+ *
+ * Note: every client runs on a virtual thread when the runtime has them, and on a thread of its own otherwise.
+ *
+ * @author Daniel Ricci {@literal <thedanny09@icloud.com>}
+ */
+public final class LoadGenerator {
+
+    /**
+     * The host of the server
+     */
+    private final String _host;
+
+    /**
+     * The port of the server
+     */
+    private final int _port;
+
+    /**
+     * The number of clients playing at the same time
+     */
+    private final int _clients;
+
+    /**
+     * The number of games played by every client
+     */
+    private final int _games;
+
+    /**
+     * The maximum number of moves played per game
+     */
+    private final int _moves;
+
+    /**
+     * The first deal number, every game being dealt the next deal number
+     */
+    private final long _firstDealNumber;
+
+    /**
+     * The options that the games are created with, as they are sent to the server
+     */
+    private final String _options;
+
+    /**
+     * The number of games that were played
+     */
+    private final AtomicLong _gamesPlayed = new AtomicLong();
+
+    /**
+     * The number of games that were won
+     */
+    private final AtomicLong _gamesWon = new AtomicLong();
+
+    /**
+     * Constructs a new instance of this class type
+     *
+     * @param args The arguments of the load generator, as key=value pairs
+     */
+    private LoadGenerator(String[] args) {
+        String host = "localhost";
+        int port = GameServer.DEFAULT_PORT;
+        int clients = 1000;
+        int games = 10;
+        int moves = 200;
+        long firstDealNumber = 0;
+        String options = "ONE";
+
+        for(String arg : args) {
+            String[] pair = arg.trim().split("=", 2);
+            if(pair.length != 2) {
+                throw new IllegalArgumentException("Invalid argument " + arg);
+            }
+            switch(pair[0]) {
+            case "host":
+                host = pair[1];
+                break;
+            case "port":
+                port = Integer.parseInt(pair[1]);
+                break;
+            case "clients":
+                clients = Integer.parseInt(pair[1]);
+                break;
+            case "games":
+                games = Integer.parseInt(pair[1]);
+                break;
+            case "moves":
+                moves = Integer.parseInt(pair[1]);
+                break;
+            case "first":
+                firstDealNumber = Deal.parse(pair[1]);
+                break;
+            case "options":
+                options = pair[1].replace(',', ' ');
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown argument " + pair[0]);
+            }
+        }
+
+        _host = host;
+        _port = port;
+        _clients = clients;
+        _games = games;
+        _moves = moves;
+        _firstDealNumber = firstDealNumber;
+        _options = options;
+    }
+
+    /**
+     * Main entrypoint of the load generator
+     *
+     * @param args The arguments of the load generator, as key=value pairs
+     */
+    public static void main(String[] args) {
+        try {
+            new LoadGenerator(args).run();
+        }
+        catch(IllegalArgumentException exception) {
+            System.err.println(exception.getMessage());
+            System.err.println("Usage: load [host=localhost] [port=7777] [clients=1000] [games=10] [moves=200] [first=0] [options=ONE,STANDARD]");
+            System.exit(1);
+        }
+        catch(Exception exception) {
+            exception.printStackTrace();
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Runs every client until they are done, then reports the results
+     *
+     * @throws InterruptedException If the load generator was interrupted
+     */
+    private void run() throws InterruptedException {
+        List<Callable<long[]>> clients = new ArrayList<Callable<long[]>>(_clients);
+        for(int i = 0; i < _clients; ++i) {
+            int client = i;
+            clients.add(() -> play(client));
+        }
+
+        ExecutorService executor = GameServer.newConnectionExecutor();
+        long start = System.nanoTime();
+        List<long[]> latencies = new ArrayList<long[]>(_clients);
+        try {
+            for(Future<long[]> future : executor.invokeAll(clients)) {
+                try {
+                    latencies.add(future.get());
+                }
+                catch(ExecutionException exception) {
+                    throw new IllegalStateException(exception.getCause());
+                }
+            }
+        }
+        finally {
+            executor.shutdownNow();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        int count = 0;
+        for(long[] clientLatencies : latencies) {
+            count += clientLatencies.length;
+        }
+        long[] moves = new long[count];
+        count = 0;
+        for(long[] clientLatencies : latencies) {
+            System.arraycopy(clientLatencies, 0, moves, count, clientLatencies.length);
+            count += clientLatencies.length;
+        }
+        Arrays.sort(moves);
+
+        System.out.println(String.format("%d clients, %d games, %d won, %d moves in %.1f s, %.0f moves/s", _clients, _gamesPlayed.get(), _gamesWon.get(), moves.length, seconds, moves.length / seconds));
+        System.out.println(String.format("Move latency: p50 %.3f ms, p90 %.3f ms, p99 %.3f ms, p99.9 %.3f ms, max %.3f ms", getPercentile(moves, 0.5), getPercentile(moves, 0.9), getPercentile(moves, 0.99), getPercentile(moves, 0.999), getPercentile(moves, 1)));
+    }
+
+    /**
+     * Plays the games of a single client on a connection of its own
+     *
+     * @param client The index of the client
+     *
+     * @return The latency of every move that was played, in nanoseconds
+     *
+     * @throws IOException If the connection to the server failed
+     */
+    private long[] play(int client) throws IOException {
+        Random random = new Random(client);
+        long[] latencies = new long[_games * _moves];
+        int count = 0;
+
+        try(Socket socket = new Socket(_host, _port)) {
+            socket.setTcpNoDelay(true);
+            BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+            Writer writer = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.US_ASCII));
+
+            for(int game = 0; game < _games; ++game) {
+                long dealNumber = _firstDealNumber + (long)client * _games + game;
+                String sessionId = request(reader, writer, "NEW " + Deal.toString(dealNumber) + " " + _options)[1];
+
+                boolean isWon = false;
+                for(int move = 0; move < _moves && !isWon; ++move) {
+                    String[] moves = request(reader, writer, "MOVES " + sessionId);
+                    if(moves.length == 1) {
+                        break;
+                    }
+
+                    long start = System.nanoTime();
+                    String[] response = request(reader, writer, "MOVE " + sessionId + " " + moves[1 + random.nextInt(moves.length - 1)]);
+                    latencies[count++] = System.nanoTime() - start;
+                    isWon = response[2].equals("1");
+                }
+
+                request(reader, writer, "CLOSE " + sessionId);
+                _gamesPlayed.incrementAndGet();
+                if(isWon) {
+                    _gamesWon.incrementAndGet();
+                }
+            }
+
+            writer.append("QUIT\n");
+            writer.flush();
+        }
+
+        return Arrays.copyOf(latencies, count);
+    }
+
+    /**
+     * Sends a request to the server and reads its response
+     *
+     * @param reader The reader of the connection
+     * @param writer The writer of the connection
+     * @param request The request
+     *
+     * @return The response, split into its parts
+     *
+     * @throws IOException If the connection to the server failed or if the server answered with an error
+     */
+    private static String[] request(BufferedReader reader, Writer writer, String request) throws IOException {
+        writer.append(request).append('\n');
+        writer.flush();
+
+        String response = reader.readLine();
+        if(response == null) {
+            throw new IOException("The connection was closed by the server");
+        }
+        if(!response.startsWith("OK")) {
+            throw new IOException("The request " + request + " failed: " + response);
+        }
+        return response.split(" ");
+    }
+
+    /**
+     * @param values The sorted values, in nanoseconds
+     * @param percentile The percentile, between 0 and 1
+     *
+     * @return The value at the specified percentile, in milliseconds
+     */
+    private static double getPercentile(long[] values, double percentile) {
+        if(values.length == 0) {
+            return 0;
+        }
+        int index = (int)Math.ceil(percentile * values.length) - 1;
+        return values[Math.max(0, Math.min(values.length - 1, index))] / 1e6;
+    }
+}
\ No newline at end of file
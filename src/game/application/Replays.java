@@ -0,0 +1,250 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2019 Daniel Ricci {@literal <thedanny09@icloud.com>}
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package game.application;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.SplittableRandom;
+
+import game.config.OptionsPreferences.DrawOption;
+import game.config.OptionsPreferences.ScoringOption;
+import game.engine.Deal;
+import game.engine.GameState;
+import game.engine.MoveGenerator;
+import game.engine.Replay;
+import game.engine.ReplayReader;
+import game.engine.ReplayWriter;
+import game.engine.Solver;
+import game.engine.SolverResult;
+
+/**
+ * Command-line tool to validate files of recorded games, see {@link Replay}. Every record of the file
+ * is replayed headlessly and checked against the rules of the game.
+ *
+ * Usage: {@code replay validate input=replays.bin}
+ *
+ * A file of games can also be recorded for benchmarking, where every deal is played by the solver when it finds a
+ * win and by random moves with the odd undo otherwise, with made up delays between the actions.
+ *
+ * Usage: {@code replay record output=replays.bin first=0 count=1000 [draw=ONE] [scoring=STANDARD] [timestamps=true] [keyframes=64] [nodes=100000]}
+ *
+ * @author Daniel Ricci {@literal <thedanny09@icloud.com>}
+ */
+public final class Replays {
+
+    /**
+     * The maximum number of moves of a game played by random moves
+     */
+    private static final int RANDOM_GAME_LENGTH = 200;
+
+    /**
+     * Constructs a new instance of this class type
+     */
+    private Replays() {
+    }
+
+    /**
+     * Main entrypoint of the tool
+     *
+     * @param args The command followed by its arguments, as key=value pairs
+     */
+    public static void main(String[] args) {
+        try {
+            if(args.length == 0) {
+                throw new IllegalArgumentException("Missing command");
+            }
+
+            String input = "replays.bin";
+            String output = "replays.bin";
+            long firstDealNumber = 0;
+            long count = 1000;
+            DrawOption drawOption = DrawOption.ONE;
+            ScoringOption scoringOption = ScoringOption.STANDARD;
+            boolean timestamps = true;
+            int keyframeInterval = Replay.DEFAULT_KEYFRAME_INTERVAL;
+            long nodeLimit = 100000;
+
+            for(int i = 1; i < args.length; ++i) {
+                String[] pair = args[i].trim().split("=", 2);
+                if(pair.length != 2) {
+                    throw new IllegalArgumentException("Invalid argument " + args[i]);
+                }
+                switch(pair[0]) {
+                case "input":
+                    input = pair[1];
+                    break;
+                case "output":
+                    output = pair[1];
+                    break;
+                case "first":
+                    firstDealNumber = Deal.parse(pair[1]);
+                    break;
+                case "count":
+                    count = Long.parseLong(pair[1]);
+                    break;
+                case "draw":
+                    drawOption = DrawOption.valueOf(pair[1].toUpperCase());
+                    break;
+                case "scoring":
+                    scoringOption = ScoringOption.valueOf(pair[1].toUpperCase());
+                    break;
+                case "timestamps":
+                    timestamps = Boolean.parseBoolean(pair[1]);
+                    break;
+                case "keyframes":
+                    keyframeInterval = Integer.parseInt(pair[1]);
+                    break;
+                case "nodes":
+                    nodeLimit = Long.parseLong(pair[1]);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown argument " + pair[0]);
+                }
+            }
+
+            switch(args[0].trim()) {
+            case "validate":
+                validate(Paths.get(input));
+                break;
+            case "record":
+                record(Paths.get(output), firstDealNumber, count, drawOption, scoringOption, timestamps, keyframeInterval, nodeLimit);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown command " + args[0]);
+            }
+        }
+        catch(IllegalArgumentException exception) {
+            System.err.println(exception.getMessage());
+            System.err.println("Usage: replay validate input=replays.bin");
+            System.err.println("       replay record output=replays.bin first=0 count=1000 [draw=ONE] [scoring=STANDARD] [timestamps=true] [keyframes=64] [nodes=100000]");
+            System.exit(1);
+        }
+        catch(Exception exception) {
+            exception.printStackTrace();
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Replays every record of the specified file and prints a summary of them
+     *
+     * @param input The path of the file
+     *
+     * @throws IOException If the file could not be read or is not a valid file of records
+     */
+    private static void validate(Path input) throws IOException {
+        long start = System.nanoTime();
+        long records = 0;
+        long invalid = 0;
+        long won = 0;
+        long actions = 0;
+        try(InputStream stream = Files.newInputStream(input); ReplayReader reader = new ReplayReader(stream)) {
+            while(reader.nextGame()) {
+                ++records;
+                actions += reader.getActionCount();
+                if(!reader.isValid()) {
+                    ++invalid;
+                    System.out.println(String.format("Deal %s is not valid at action %d", Deal.toString(reader.getDealNumber()), reader.getInvalidAction()));
+                }
+                else if(reader.getState().isWon()) {
+                    ++won;
+                }
+            }
+
+            double seconds = Math.max(System.nanoTime() - start, 1) / 1e9;
+            System.out.println(String.format("%d records, %d valid, %d invalid, %d won", records, records - invalid, invalid, won));
+            System.out.println(String.format("%.1f bytes and %.1f actions per record", reader.getOffset() / (double)Math.max(records, 1), actions / (double)Math.max(records, 1)));
+            System.out.println(String.format("%.3fs, %.0f records/min", seconds, records * 60 / seconds));
+        }
+    }
+
+    /**
+     * Records a range of deals into the specified file
+     *
+     * @param output The path of the file
+     * @param firstDealNumber The first deal number of the range
+     * @param count The number of deals to record
+     * @param drawOption The draw option of the games
+     * @param scoringOption The scoring option of the games
+     * @param timestamps If the time at which every action was taken is recorded
+     * @param keyframeInterval The number of actions between two keyframes, or 0 for records without keyframes
+     * @param nodeLimit The maximum number of nodes that the solver visits per deal
+     *
+     * @throws IOException If the file could not be written
+     */
+    private static void record(Path output, long firstDealNumber, long count, DrawOption drawOption, ScoringOption scoringOption, boolean timestamps, int keyframeInterval, long nodeLimit) throws IOException {
+        Solver solver = new Solver(nodeLimit, Solver.UNLIMITED);
+        int[] moves = new int[MoveGenerator.MAX_MOVES];
+        int[] applied = new int[RANDOM_GAME_LENGTH];
+
+        try(OutputStream stream = new BufferedOutputStream(Files.newOutputStream(output)); ReplayWriter writer = new ReplayWriter(stream)) {
+            for(long i = 0; i < count; ++i) {
+                long dealNumber = firstDealNumber + i;
+                SplittableRandom random = new SplittableRandom(dealNumber);
+                GameState state = new GameState(drawOption, scoringOption);
+                state.deal(Deal.newDeck(dealNumber));
+
+                long time = 0;
+                writer.begin(dealNumber, drawOption, scoringOption, timestamps, time, keyframeInterval);
+
+                SolverResult result = solver.solve(state);
+                if(result.isWon()) {
+                    for(int move : result.getMoves()) {
+                        time += random.nextInt(250, 3000);
+                        writer.writeMove(move, time);
+                    }
+                }
+                else {
+                    int size = 0;
+                    for(int length = 0; length < RANDOM_GAME_LENGTH; ++length) {
+                        time += random.nextInt(250, 3000);
+                        if(size > 0 && random.nextInt(10) == 0) {
+                            int move = applied[--size];
+                            state.revert(move);
+                            writer.writeUndo(move, time);
+                            continue;
+                        }
+
+                        int moveCount = MoveGenerator.generate(state, moves);
+                        if(moveCount == 0) {
+                            break;
+                        }
+                        int move = state.apply(moves[random.nextInt(moveCount)]);
+                        applied[size++] = move;
+                        writer.writeMove(move, time);
+                    }
+                }
+                writer.end();
+            }
+        }
+
+        System.out.println(String.format("%d records, %d bytes", count, Files.size(output)));
+    }
+}
\ No newline at end of file
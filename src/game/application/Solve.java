@@ -0,0 +1,137 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2019 Daniel Ricci {@literal <thedanny09@icloud.com>}
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package game.application;
+
+import java.util.concurrent.ForkJoinPool;
+
+import game.config.OptionsPreferences.DrawOption;
+import game.config.OptionsPreferences.ScoringOption;
+import game.engine.Deal;
+import game.engine.GameState;
+import game.engine.ParallelSolver;
+import game.engine.Solver;
+import game.engine.SolverResult;
+
+/**
+ * Command-line solver of a single deal. The deal is solved by the {@link Solver}, or by the {@link ParallelSolver} on
+ * the specified number of threads, and the result is printed along with the number of nodes visited per second by every
+ * worker of the search.
+ *
+ * Usage: {@code solve deal=0 [draw=ONE] [scoring=STANDARD] [nodes=2000000] [time=10000] [parallel=false] [threads=N] [split=6]}
+ *
+ * @author Daniel Ricci {@literal <thedanny09@icloud.com>}
+ */
+public final class Solve {
+
+    /**
+     * Constructs a new instance of this class type
+     */
+    private Solve() {
+    }
+
+    /**
+     * Main entrypoint of the solver
+     *
+     * @param args The arguments of the solver, as key=value pairs
+     */
+    public static void main(String[] args) {
+        try {
+            String deal = null;
+            DrawOption drawOption = DrawOption.ONE;
+            ScoringOption scoringOption = ScoringOption.STANDARD;
+            long nodeLimit = 2000000;
+            long timeLimit = 10000;
+            boolean parallel = false;
+            int threads = Runtime.getRuntime().availableProcessors();
+            int splitDepth = ParallelSolver.DEFAULT_SPLIT_DEPTH;
+
+            for(String arg : args) {
+                String[] pair = arg.trim().split("=", 2);
+                if(pair.length != 2) {
+                    throw new IllegalArgumentException("Invalid argument " + arg);
+                }
+                switch(pair[0]) {
+                case "deal":
+                    deal = pair[1];
+                    break;
+                case "draw":
+                    drawOption = DrawOption.valueOf(pair[1].toUpperCase());
+                    break;
+                case "scoring":
+                    scoringOption = ScoringOption.valueOf(pair[1].toUpperCase());
+                    break;
+                case "nodes":
+                    nodeLimit = Long.parseLong(pair[1]);
+                    break;
+                case "time":
+                    timeLimit = Long.parseLong(pair[1]);
+                    break;
+                case "parallel":
+                    parallel = Boolean.parseBoolean(pair[1]);
+                    break;
+                case "threads":
+                    threads = Integer.parseInt(pair[1]);
+                    break;
+                case "split":
+                    splitDepth = Integer.parseInt(pair[1]);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown argument " + pair[0]);
+                }
+            }
+            if(deal == null) {
+                throw new IllegalArgumentException("Missing deal");
+            }
+            long dealNumber = Deal.parse(deal);
+
+            GameState state = new GameState(drawOption, scoringOption);
+            state.deal(Deal.newDeck(dealNumber));
+
+            SolverResult result;
+            if(parallel) {
+                ForkJoinPool pool = new ForkJoinPool(threads);
+                try {
+                    result = new ParallelSolver(pool, nodeLimit, timeLimit, ParallelSolver.DEFAULT_TABLE_CAPACITY, splitDepth).solve(state);
+                }
+                finally {
+                    pool.shutdownNow();
+                }
+            }
+            else {
+                result = new Solver(nodeLimit, timeLimit).solve(state);
+            }
+
+            System.out.println(String.format("Deal %s: %s in %d moves, %d nodes, %d ms", Deal.toString(dealNumber), result.getStatus(), result.getMoves().length, result.getNodes(), result.getElapsedTime()));
+            for(int worker = 0; worker < result.getWorkerCount(); ++worker) {
+                System.out.println(String.format("Worker %d: %d nodes, %d nodes/s", worker, result.getWorkerNodes(worker), result.getWorkerNodesPerSecond(worker)));
+            }
+        }
+        catch(IllegalArgumentException exception) {
+            System.err.println(exception.getMessage());
+            System.err.println("Usage: solve deal=0 [draw=ONE] [scoring=STANDARD] [nodes=2000000] [time=10000] [parallel=false] [threads=N] [split=6]");
+            System.exit(1);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,190 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2019 Daniel Ricci {@literal <thedanny09@icloud.com>}
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package game.application;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.GraphicsEnvironment;
+import java.awt.Image;
+import java.awt.Toolkit;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+
+import javax.imageio.ImageIO;
+
+import game.engine.Card;
+import game.entities.SpriteCache;
+
+/**
+ * Command-line benchmark of the time that it takes to paint the cards, comparing the sprites as they are resolved out
+ * of the sprite sheet against the sprites of the {@link SpriteCache}.
+ *
+ * Every frame paints the background of the board followed by the 52 cards fanned out the way that a dragged stack of
+ * cards is, and the 12 backsides, into a back buffer that is compatible with the screen. The sheet must be on the class
+ * path, which is the case when the data folder is.
+ *
+ * Usage: {@code sprites [frames=2000]}
+ *
+ * @author Daniel Ricci {@literal <thedanny09@icloud.com>}
+ */
+public final class SpriteBenchmark {
+
+    /**
+     * The path of the sprite sheet
+     */
+    private static final String SHEET_PATH = "/generated/tilemap.png";
+
+    /**
+     * The width of a sprite within the sheet
+     */
+    private static final int SPRITE_WIDTH = 71;
+
+    /**
+     * The height of a sprite within the sheet
+     */
+    private static final int SPRITE_HEIGHT = 96;
+
+    /**
+     * The column of the first backside within the sheet
+     */
+    private static final int BACKSIDE_COLUMN = 15;
+
+    /**
+     * The number of backsides within the sheet
+     */
+    private static final int BACKSIDE_COUNT = 12;
+
+    /**
+     * The distance between two cards that are fanned out
+     */
+    private static final int FAN_OFFSET = 15;
+
+    /**
+     * The width of the back buffer
+     */
+    private static final int BOARD_WIDTH = 620;
+
+    /**
+     * The height of the back buffer
+     */
+    private static final int BOARD_HEIGHT = 436;
+
+    /**
+     * Constructs a new instance of this class type
+     */
+    private SpriteBenchmark() {
+    }
+
+    /**
+     * Main entrypoint of the benchmark
+     *
+     * @param args The arguments, as key=value pairs
+     */
+    public static void main(String[] args) {
+        try {
+            int frames = 2000;
+            for(String arg : args) {
+                String[] pair = arg.trim().split("=", 2);
+                if(pair.length != 2 || !pair[0].equals("frames")) {
+                    throw new IllegalArgumentException("Invalid argument " + arg);
+                }
+                frames = Integer.parseInt(pair[1]);
+            }
+
+            BufferedImage sheet;
+            try(InputStream stream = SpriteBenchmark.class.getResourceAsStream(SHEET_PATH)) {
+                if(stream == null) {
+                    throw new IOException("The sprite sheet " + SHEET_PATH + " is not on the class path");
+                }
+                sheet = ImageIO.read(stream);
+            }
+
+            // The sprites as the data factory resolves them, and their copies as the sprite cache holds them
+            Image[] sheetSprites = new Image[Card.DECK_SIZE + BACKSIDE_COUNT];
+            Image[] cachedSprites = new Image[sheetSprites.length];
+            for(int i = 0; i < sheetSprites.length; ++i) {
+                int column = i < Card.DECK_SIZE ? i % Card.RANK_COUNT : BACKSIDE_COLUMN + i - Card.DECK_SIZE;
+                int row = i < Card.DECK_SIZE ? i / Card.RANK_COUNT : 0;
+                sheetSprites[i] = sheet.getSubimage(column * SPRITE_WIDTH, row * SPRITE_HEIGHT, SPRITE_WIDTH, SPRITE_HEIGHT);
+                cachedSprites[i] = SpriteCache.toCompatibleImage(sheetSprites[i]);
+            }
+
+            BufferedImage buffer = GraphicsEnvironment.isHeadless()
+                ? new BufferedImage(BOARD_WIDTH, BOARD_HEIGHT, BufferedImage.TYPE_INT_RGB)
+                : GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration().createCompatibleImage(BOARD_WIDTH, BOARD_HEIGHT, Transparency.OPAQUE);
+
+            // Warm both up before timing them
+            paint(buffer, sheetSprites, frames / 4 + 1);
+            paint(buffer, cachedSprites, frames / 4 + 1);
+
+            double sheetTime = paint(buffer, sheetSprites, frames);
+            double cachedTime = paint(buffer, cachedSprites, frames);
+
+            System.out.println(String.format("%d frames of %d sprites, %s", frames, sheetSprites.length, GraphicsEnvironment.isHeadless() ? "headless" : "screen compatible"));
+            System.out.println(String.format("sheet:  %.3f ms/frame", sheetTime));
+            System.out.println(String.format("cached: %.3f ms/frame", cachedTime));
+            System.out.println(String.format("%.1fx faster", sheetTime / cachedTime));
+        }
+        catch(IllegalArgumentException exception) {
+            System.err.println(exception.getMessage());
+            System.err.println("Usage: sprites [frames=2000]");
+            System.exit(1);
+        }
+        catch(Exception exception) {
+            exception.printStackTrace();
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Paints the specified number of frames
+     *
+     * @param buffer The back buffer to paint into
+     * @param sprites The sprites of the cards followed by the sprites of the backsides
+     * @param frames The number of frames to paint
+     *
+     * @return The average time that a frame took, in milliseconds
+     */
+    private static double paint(BufferedImage buffer, Image[] sprites, int frames) {
+        Graphics2D graphics = buffer.createGraphics();
+        long start = System.nanoTime();
+        for(int frame = 0; frame < frames; ++frame) {
+            graphics.setColor(Color.GREEN.darker());
+            graphics.fillRect(0, 0, BOARD_WIDTH, BOARD_HEIGHT);
+            for(int i = 0; i < Card.DECK_SIZE; ++i) {
+                graphics.drawImage(sprites[i], (i / Card.RANK_COUNT) * (SPRITE_WIDTH + FAN_OFFSET) + frame % FAN_OFFSET, (i % Card.RANK_COUNT) * FAN_OFFSET, null);
+            }
+            for(int i = Card.DECK_SIZE; i < sprites.length; ++i) {
+                graphics.drawImage(sprites[i], (i - Card.DECK_SIZE) * FAN_OFFSET + BOARD_WIDTH - SPRITE_WIDTH - BACKSIDE_COUNT * FAN_OFFSET, BOARD_HEIGHT - SPRITE_HEIGHT, null);
+            }
+        }
+        Toolkit.getDefaultToolkit().sync();
+        long elapsed = System.nanoTime() - start;
+        graphics.dispose();
+        return elapsed / 1e6 / Math.max(frames, 1);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,464 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2019 Daniel Ricci {@literal <thedanny09@icloud.com>}
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package game.application;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import game.config.OptionsPreferences.DrawOption;
+import game.config.OptionsPreferences.ScoringOption;
+import game.engine.Deal;
+import game.engine.GameState;
+import game.engine.Solver;
+import game.engine.SolverResult;
+
+/**
+ * Command-line survey of the solvability of a range of deals. Every deal is solved under every rule set on all the
+ * available cores, and the results are appended to a binary file in deal order. A checkpoint is written after every
+ * batch of deals so that an interrupted survey resumes where it left off when it is run again with the same arguments.
+ *
+ * Usage: {@code survey first=0 count=10000 output=survey.bin [nodes=2000000] [time=10000] [threads=N] [batch=256] [table=2097152]}
+ *
+ * The output file starts with a header (magic, version, rule set count, node limit, time limit) followed by one
+ * record per deal: the deal number, then for each rule set the status (0 won, 1 lost, 2 timed out), the length of
+ * the winning sequence of moves and the number of nodes visited.
+ *
+ * Note: {@code ScoringOption.NONE} plays by the same rules as {@code ScoringOption.STANDARD} and is not surveyed separately.
+ *
+ * @author Daniel Ricci {@literal <thedanny09@icloud.com>}
+ */
+public final class Survey {
+
+    /**
+     * The magic number that starts a survey file
+     */
+    public static final int MAGIC = 0x534F4C56;
+
+    /**
+     * The version of the survey file format
+     */
+    public static final int VERSION = 1;
+
+    /**
+     * The draw option of every rule set, in the order that they are written
+     */
+    public static final DrawOption[] DRAW_OPTIONS = { DrawOption.ONE, DrawOption.ONE, DrawOption.THREE, DrawOption.THREE };
+
+    /**
+     * The scoring option of every rule set, in the order that they are written
+     */
+    public static final ScoringOption[] SCORING_OPTIONS = { ScoringOption.STANDARD, ScoringOption.VEGAS, ScoringOption.STANDARD, ScoringOption.VEGAS };
+
+    /**
+     * The size of the header of a survey file, in bytes
+     */
+    public static final int HEADER_SIZE = 4 + 4 + 4 + 8 + 8;
+
+    /**
+     * The size of a single deal record, in bytes
+     */
+    public static final int RECORD_SIZE = 8 + DRAW_OPTIONS.length * (1 + 2 + 4);
+
+    /**
+     * The first deal number of the survey
+     */
+    private final long _firstDealNumber;
+
+    /**
+     * The number of deals of the survey
+     */
+    private final long _count;
+
+    /**
+     * The maximum number of nodes to visit per deal and rule set
+     */
+    private final long _nodeLimit;
+
+    /**
+     * The maximum time to search for per deal and rule set, in milliseconds
+     */
+    private final long _timeLimit;
+
+    /**
+     * The number of threads solving deals
+     */
+    private final int _threads;
+
+    /**
+     * The number of deals solved between checkpoints
+     */
+    private final int _batchSize;
+
+    /**
+     * The number of states held by the transposition table of every thread
+     */
+    private final int _tableCapacity;
+
+    /**
+     * The path of the output file
+     */
+    private final Path _output;
+
+    /**
+     * The path of the checkpoint file
+     */
+    private final Path _checkpoint;
+
+    /**
+     * The solver of the current thread
+     */
+    private final ThreadLocal<Solver> _solver;
+
+    /**
+     * The number of deals of every status for every rule set
+     */
+    private final long[][] _totals = new long[DRAW_OPTIONS.length][SolverResult.Status.values().length];
+
+    /**
+     * Constructs a new instance of this class type
+     *
+     * @param args The arguments of the survey, as key=value pairs
+     */
+    private Survey(String[] args) {
+        long firstDealNumber = 0;
+        long count = 1000;
+        long nodeLimit = 2000000;
+        long timeLimit = 10000;
+        int threads = Runtime.getRuntime().availableProcessors();
+        int batchSize = 256;
+        int tableCapacity = Solver.DEFAULT_TABLE_CAPACITY;
+        String output = "survey.bin";
+
+        for(String arg : args) {
+            String[] pair = arg.trim().split("=", 2);
+            if(pair.length != 2) {
+                throw new IllegalArgumentException("Invalid argument " + arg);
+            }
+            switch(pair[0]) {
+            case "first":
+                firstDealNumber = Deal.parse(pair[1]);
+                break;
+            case "count":
+                count = Long.parseLong(pair[1]);
+                break;
+            case "output":
+                output = pair[1];
+                break;
+            case "nodes":
+                nodeLimit = Long.parseLong(pair[1]);
+                break;
+            case "time":
+                timeLimit = Long.parseLong(pair[1]);
+                break;
+            case "threads":
+                threads = Integer.parseInt(pair[1]);
+                break;
+            case "batch":
+                batchSize = Integer.parseInt(pair[1]);
+                break;
+            case "table":
+                tableCapacity = Integer.parseInt(pair[1]);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown argument " + pair[0]);
+            }
+        }
+
+        _firstDealNumber = firstDealNumber;
+        _count = count;
+        _nodeLimit = nodeLimit;
+        _timeLimit = timeLimit;
+        _threads = threads;
+        _batchSize = batchSize;
+        _tableCapacity = tableCapacity;
+        _output = Paths.get(output);
+        _checkpoint = Paths.get(output + ".checkpoint");
+        _solver = ThreadLocal.withInitial(() -> new Solver(_nodeLimit, _timeLimit, _tableCapacity));
+    }
+
+    /**
+     * Main entrypoint of the survey
+     *
+     * @param args The arguments of the survey, as key=value pairs
+     */
+    public static void main(String[] args) {
+        try {
+            new Survey(args).run();
+        }
+        catch(IllegalArgumentException exception) {
+            System.err.println(exception.getMessage());
+            System.err.println("Usage: survey first=0 count=10000 output=survey.bin [nodes=2000000] [time=10000] [threads=N] [batch=256] [table=2097152]");
+            System.exit(1);
+        }
+        catch(Exception exception) {
+            exception.printStackTrace();
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Runs the survey, resuming from the checkpoint if there is one
+     *
+     * @throws IOException If the output or the checkpoint could not be accessed
+     * @throws InterruptedException If the survey was interrupted
+     */
+    private void run() throws IOException, InterruptedException {
+        long done = resume();
+
+        ExecutorService executor = Executors.newFixedThreadPool(_threads);
+        try(FileChannel channel = FileChannel.open(_output, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            channel.position(channel.size());
+            OutputStream output = new BufferedOutputStream(Channels.newOutputStream(channel), RECORD_SIZE * _batchSize);
+            if(channel.size() == 0) {
+                writeHeader(output);
+            }
+
+            long start = System.nanoTime();
+            long surveyed = 0;
+            while(done < _count) {
+                int size = (int)Math.min(_batchSize, _count - done);
+                byte[][] records = solveBatch(executor, _firstDealNumber + done, size);
+
+                // Write the batch in deal order and make it durable before the checkpoint points past it
+                for(byte[] record : records) {
+                    output.write(record);
+                }
+                output.flush();
+                channel.force(false);
+
+                done += size;
+                surveyed += size;
+                writeCheckpoint(done, channel.size());
+
+                double seconds = (System.nanoTime() - start) / 1e9;
+                System.out.println(String.format("%d/%d deals, %.1f deals/s, %s", done, _count, surveyed / seconds, getSummary()));
+            }
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Solves a batch of consecutive deals on all the threads
+     *
+     * @param executor The executor running the threads
+     * @param firstDealNumber The first deal number of the batch
+     * @param size The number of deals of the batch
+     *
+     * @return The records of the deals, in deal order
+     *
+     * @throws InterruptedException If the survey was interrupted
+     */
+    private byte[][] solveBatch(ExecutorService executor, long firstDealNumber, int size) throws InterruptedException {
+        byte[][] records = new byte[size][];
+        AtomicInteger next = new AtomicInteger();
+
+        List<Callable<Void>> workers = new ArrayList<Callable<Void>>(_threads);
+        for(int i = 0; i < _threads; ++i) {
+            workers.add(() -> {
+                for(int index = next.getAndIncrement(); index < size; index = next.getAndIncrement()) {
+                    records[index] = solveDeal(firstDealNumber + index);
+                }
+                return null;
+            });
+        }
+
+        for(Future<Void> future : executor.invokeAll(workers)) {
+            try {
+                future.get();
+            }
+            catch(ExecutionException exception) {
+                throw new IllegalStateException(exception.getCause());
+            }
+        }
+
+        synchronized(_totals) {
+            for(byte[] record : records) {
+                for(int i = 0; i < DRAW_OPTIONS.length; ++i) {
+                    ++_totals[i][record[8 + i * 7]];
+                }
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Solves a single deal under every rule set
+     *
+     * @param dealNumber The deal number
+     *
+     * @return The record of the deal
+     */
+    private byte[] solveDeal(long dealNumber) {
+        Solver solver = _solver.get();
+        byte[] deck = Deal.newDeck(dealNumber);
+        ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+        record.putLong(dealNumber);
+        for(int i = 0; i < DRAW_OPTIONS.length; ++i) {
+            GameState state = new GameState(DRAW_OPTIONS[i], SCORING_OPTIONS[i]);
+            state.deal(deck);
+            SolverResult result = solver.solve(state);
+            record.put((byte)result.getStatus().ordinal());
+            record.putShort((short)result.getMoves().length);
+            record.putInt((int)Math.min(result.getNodes(), Integer.MAX_VALUE));
+        }
+        return record.array();
+    }
+
+    /**
+     * Writes the header of the output file
+     *
+     * @param output The output stream
+     *
+     * @throws IOException If the header could not be written
+     */
+    private void writeHeader(OutputStream output) throws IOException {
+        DataOutputStream stream = new DataOutputStream(output);
+        stream.writeInt(MAGIC);
+        stream.writeInt(VERSION);
+        stream.writeInt(DRAW_OPTIONS.length);
+        stream.writeLong(_nodeLimit);
+        stream.writeLong(_timeLimit);
+        stream.flush();
+    }
+
+    /**
+     * Resumes the survey from its checkpoint. The output file is truncated back to the last checkpoint, so that
+     * a batch that was only partially written when the survey was interrupted is solved again. The survey is only
+     * resumed with the same deals and the same limits that its output was written with, since the records that were
+     * kept would otherwise not compare with the ones that are added
+     *
+     * @return The number of deals that were already surveyed
+     *
+     * @throws IOException If the output or the checkpoint could not be accessed
+     */
+    private long resume() throws IOException {
+        if(!Files.exists(_checkpoint)) {
+            if(Files.exists(_output) && Files.size(_output) > 0) {
+                throw new IllegalArgumentException("The output " + _output + " already exists without a checkpoint");
+            }
+            return 0;
+        }
+
+        long firstDealNumber;
+        long count;
+        long done;
+        long length;
+        try(DataInputStream stream = new DataInputStream(Files.newInputStream(_checkpoint))) {
+            firstDealNumber = stream.readLong();
+            count = stream.readLong();
+            done = stream.readLong();
+            length = stream.readLong();
+        }
+        if(firstDealNumber != _firstDealNumber || count != _count) {
+            throw new IllegalArgumentException("The checkpoint " + _checkpoint + " belongs to a different survey, first=" + Deal.toString(firstDealNumber) + " count=" + count);
+        }
+
+        try(DataInputStream stream = new DataInputStream(Files.newInputStream(_output))) {
+            if(stream.readInt() != MAGIC || stream.readInt() != VERSION || stream.readInt() != DRAW_OPTIONS.length) {
+                throw new IllegalArgumentException("The output " + _output + " is not a survey of this version");
+            }
+            long nodeLimit = stream.readLong();
+            long timeLimit = stream.readLong();
+            if(nodeLimit != _nodeLimit || timeLimit != _timeLimit) {
+                throw new IllegalArgumentException("The output " + _output + " belongs to a different survey, nodes=" + nodeLimit + " time=" + timeLimit);
+            }
+        }
+
+        try(FileChannel channel = FileChannel.open(_output, StandardOpenOption.WRITE)) {
+            channel.truncate(length);
+        }
+
+        // Rebuild the totals from the records that were kept
+        try(InputStream input = Files.newInputStream(_output)) {
+            DataInputStream stream = new DataInputStream(input);
+            stream.skipBytes(HEADER_SIZE);
+            byte[] record = new byte[RECORD_SIZE];
+            for(long i = 0; i < done; ++i) {
+                stream.readFully(record);
+                for(int j = 0; j < DRAW_OPTIONS.length; ++j) {
+                    ++_totals[j][record[8 + j * 7]];
+                }
+            }
+        }
+
+        System.out.println("Resuming survey at deal " + Deal.toString(_firstDealNumber + done));
+        return done;
+    }
+
+    /**
+     * Atomically replaces the checkpoint
+     *
+     * @param done The number of deals that were surveyed
+     * @param length The length of the output file holding those deals
+     *
+     * @throws IOException If the checkpoint could not be written
+     */
+    private void writeCheckpoint(long done, long length) throws IOException {
+        Path temporary = Paths.get(_checkpoint + ".tmp");
+        try(DataOutputStream stream = new DataOutputStream(Files.newOutputStream(temporary))) {
+            stream.writeLong(_firstDealNumber);
+            stream.writeLong(_count);
+            stream.writeLong(done);
+            stream.writeLong(length);
+        }
+        Files.move(temporary, _checkpoint, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * @return The readable summary of the deals surveyed so far
+     */
+    private String getSummary() {
+        StringBuilder builder = new StringBuilder();
+        synchronized(_totals) {
+            for(int i = 0; i < DRAW_OPTIONS.length; ++i) {
+                long[] totals = _totals[i];
+                builder.append(String.format("%s%s %d/%d/%d ", i == 0 ? "" : "| ", DRAW_OPTIONS[i] + "-" + SCORING_OPTIONS[i], totals[0], totals[1], totals[2]));
+            }
+        }
+        return builder.toString().trim();
+    }
+}
\ No newline at end of file
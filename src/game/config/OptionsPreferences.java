@@ -24,10 +24,7 @@
 
 package game.config;
 
-import java.util.logging.Level;
-
 import framework.core.system.GamePreferences;
-import framework.utils.logging.Tracelog;
 
 import game.views.OptionsDialogView;
 
@@ -58,6 +55,22 @@ public final class OptionsPreferences extends GamePreferences {
     }
 
     @Override public void load() {
+        
+        // The snapshot holds the options that were last saved, even if they were not written to the backing store yet
+        OptionsSnapshot snapshot = OptionsSnapshot.get();
+        drawOption = snapshot.drawOption;
+        scoringOption = snapshot.scoringOption;
+        timedGame = snapshot.timedGame;
+        statusBar = snapshot.statusBar;
+        outlineDragging = snapshot.outlineDragging;
+        cumulativeScore = snapshot.cumulativeScore;
+        deck = snapshot.deck;
+    }
+
+    /**
+     * Reads the options from the backing store
+     */
+    void read() {
         drawOption = DrawOption.values()[preferences.getInt("drawOption", DrawOption.ONE.ordinal())];
         scoringOption = ScoringOption.values()[preferences.getInt("scoringOption", ScoringOption.STANDARD.ordinal())];
         timedGame = preferences.getBoolean("timedGame", false);
@@ -68,19 +81,19 @@ public final class OptionsPreferences extends GamePreferences {
     }
 
     @Override public void save() {
-        try {
-            preferences.putInt("drawOption", drawOption.ordinal());
-            preferences.putInt("scoringOption", scoringOption.ordinal());
-            preferences.putBoolean("timedGame", timedGame);
-            preferences.putBoolean("statusBar", statusBar);
-            preferences.putBoolean("outlineDragging", outlineDragging);
-            preferences.putBoolean("cumulativeScore", cumulativeScore);
-            preferences.putInt("deck", deck.ordinal());
-            preferences.flush();
-        } 
-        catch (Exception exception) {
-            Tracelog.log(Level.SEVERE, true, exception);
-        }
+        OptionsSnapshot snapshot = new OptionsSnapshot(this);
+        OptionsSnapshot.set(snapshot);
+        
+        // The backing store can be slow, so the options are written to it in the background
+        PreferencesWriter.write(preferences, node -> {
+            node.putInt("drawOption", snapshot.drawOption.ordinal());
+            node.putInt("scoringOption", snapshot.scoringOption.ordinal());
+            node.putBoolean("timedGame", snapshot.timedGame);
+            node.putBoolean("statusBar", snapshot.statusBar);
+            node.putBoolean("outlineDragging", snapshot.outlineDragging);
+            node.putBoolean("cumulativeScore", snapshot.cumulativeScore);
+            node.putInt("deck", snapshot.deck.ordinal());
+        });
     }
     
     @Override public String toString() {
@@ -0,0 +1,220 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2019 Daniel Ricci {@literal <thedanny09@icloud.com>}
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package game.config;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+
+import game.config.OptionsPreferences.DrawOption;
+import game.config.OptionsPreferences.ScoringOption;
+
+import generated.DataLookup;
+
+/**
+ * An immutable copy of the options of the game.
+ *
+ * The options are read from the backing store once, the first time that they are needed, and every part of the game
+ * reads them from the snapshot that is current instead of loading them again. Saving the options swaps the current
+ * snapshot for a new one and notifies the listeners of the change, so that views can update themselves instead of
+ * loading the options each time that they are used. A game played without a board, such as by the game server, builds
+ * its own snapshot from the options that it is given and never reads the backing store.
+ *
+ * @author Daniel Ricci {@literal <thedanny09@icloud.com>}
+ */
+public final class OptionsSnapshot {
+
+    /**
+     * A listener of the changes made to the options of the game
+     *
+     * @author Daniel Ricci {@literal <thedanny09@icloud.com>}
+     */
+    public interface IOptionsListener {
+
+        /**
+         * Called once the options of the game have changed, on the thread that saved them
+         *
+         * @param previous The snapshot of the options before the change
+         * @param current The snapshot of the options after the change
+         */
+        void optionsChanged(OptionsSnapshot previous, OptionsSnapshot current);
+    }
+
+    /**
+     * Holds the snapshot of the options that is current, which is only loaded the first time that it is needed since
+     * reading the backing store goes through the views of the game
+     *
+     * @author Daniel Ricci {@literal <thedanny09@icloud.com>}
+     */
+    private static final class Current {
+
+        /**
+         * The snapshot of the options that is current
+         */
+        private static final AtomicReference<OptionsSnapshot> SNAPSHOT = new AtomicReference<OptionsSnapshot>(load());
+    }
+
+    /**
+     * The listeners of the changes made to the options
+     */
+    private static final List<IOptionsListener> LISTENERS = new CopyOnWriteArrayList<IOptionsListener>();
+
+    /**
+     * Indicates if the game is timed
+     */
+    public final boolean timedGame;
+
+    /**
+     * Indicates if the status bar is shown
+     */
+    public final boolean statusBar;
+
+    /**
+     * Indicates if the cards are dragged as an outline
+     */
+    public final boolean outlineDragging;
+
+    /**
+     * Indicates if the Vegas score is carried over from one game to the next
+     */
+    public final boolean cumulativeScore;
+
+    /**
+     * The number of cards drawn from the stock at a time
+     */
+    public final DrawOption drawOption;
+
+    /**
+     * The scoring of the game
+     */
+    public final ScoringOption scoringOption;
+
+    /**
+     * The backside of the deck
+     */
+    public final DataLookup.BACKSIDES deck;
+
+    /**
+     * Constructs a new instance of this class type
+     *
+     * @param preferences The options preferences to copy
+     */
+    OptionsSnapshot(OptionsPreferences preferences) {
+        this(preferences.timedGame, preferences.statusBar, preferences.outlineDragging, preferences.cumulativeScore, preferences.drawOption, preferences.scoringOption, preferences.deck);
+    }
+
+    /**
+     * Constructs a new instance of this class type
+     *
+     * @param timedGame If the game is timed
+     * @param statusBar If the status bar is shown
+     * @param outlineDragging If the cards are dragged as an outline
+     * @param cumulativeScore If the Vegas score is carried over from one game to the next
+     * @param drawOption The number of cards drawn from the stock at a time
+     * @param scoringOption The scoring of the game
+     * @param deck The backside of the deck
+     */
+    public OptionsSnapshot(boolean timedGame, boolean statusBar, boolean outlineDragging, boolean cumulativeScore, DrawOption drawOption, ScoringOption scoringOption, DataLookup.BACKSIDES deck) {
+        this.timedGame = timedGame;
+        this.statusBar = statusBar;
+        this.outlineDragging = outlineDragging;
+        this.cumulativeScore = cumulativeScore;
+        this.drawOption = drawOption;
+        this.scoringOption = scoringOption;
+        this.deck = deck;
+    }
+
+    /**
+     * @return The snapshot of the options that is current
+     */
+    public static OptionsSnapshot get() {
+        return Current.SNAPSHOT.get();
+    }
+
+    /**
+     * Swaps the current snapshot for the specified snapshot, and notifies the listeners if the options have changed
+     *
+     * @param snapshot The new snapshot of the options
+     */
+    static void set(OptionsSnapshot snapshot) {
+        OptionsSnapshot previous = Current.SNAPSHOT.getAndSet(snapshot);
+        if(!previous.equals(snapshot)) {
+            for(IOptionsListener listener : LISTENERS) {
+                listener.optionsChanged(previous, snapshot);
+            }
+        }
+    }
+
+    /**
+     * Adds a listener of the changes made to the options
+     *
+     * @param listener The listener
+     */
+    public static void addListener(IOptionsListener listener) {
+        LISTENERS.add(listener);
+    }
+
+    /**
+     * Removes a listener of the changes made to the options
+     *
+     * @param listener The listener
+     */
+    public static void removeListener(IOptionsListener listener) {
+        LISTENERS.remove(listener);
+    }
+
+    /**
+     * Loads the options from the backing store
+     *
+     * @return The snapshot of the options that were loaded
+     */
+    private static OptionsSnapshot load() {
+        OptionsPreferences preferences = new OptionsPreferences();
+        preferences.read();
+        return new OptionsSnapshot(preferences);
+    }
+
+    @Override public boolean equals(Object object) {
+        if(!(object instanceof OptionsSnapshot)) {
+            return false;
+        }
+
+        OptionsSnapshot snapshot = (OptionsSnapshot)object;
+        return timedGame == snapshot.timedGame
+            && statusBar == snapshot.statusBar
+            && outlineDragging == snapshot.outlineDragging
+            && cumulativeScore == snapshot.cumulativeScore
+            && drawOption == snapshot.drawOption
+            && scoringOption == snapshot.scoringOption
+            && deck == snapshot.deck;
+    }
+
+    @Override public int hashCode() {
+        int hash = (timedGame ? 1 : 0) | (statusBar ? 2 : 0) | (outlineDragging ? 4 : 0) | (cumulativeScore ? 8 : 0);
+        hash = 31 * hash + drawOption.hashCode();
+        hash = 31 * hash + scoringOption.hashCode();
+        return 31 * hash + deck.hashCode();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,130 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2019 Daniel Ricci {@literal <thedanny09@icloud.com>}
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package game.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.prefs.Preferences;
+
+import framework.utils.logging.Tracelog;
+
+/**
+ * Writes preferences to their backing store in the background.
+ *
+ * Writing a node of preferences only records what has to be written to it, replacing whatever was recorded for that node
+ * and not yet written, so that saving the same preferences many times in a row only writes them once. The recorded writes
+ * are made on a background thread at most a fixed delay after the first of them, so that a slow backing store does not
+ * hold up the thread saving the preferences. Whatever was not written yet is written when the game exits, either by
+ * flushing this writer explicitly or from a shutdown hook.
+ *
+ * @author Daniel Ricci {@literal <thedanny09@icloud.com>}
+ */
+public final class PreferencesWriter {
+
+    /**
+     * The most time that a write waits before being made, in milliseconds
+     */
+    private static final int MAX_DELAY = 500;
+
+    /**
+     * The writes that were not made yet, indexed by the node of preferences that they are made to
+     */
+    private static final Map<Preferences, Consumer<Preferences>> PENDING_WRITES = new LinkedHashMap<Preferences, Consumer<Preferences>>();
+
+    /**
+     * The lock held while writes are being made, so that two flushes never write at the same time
+     */
+    private static final Object WRITE_LOCK = new Object();
+
+    /**
+     * The thread that makes the writes in the background
+     */
+    private static final ScheduledExecutorService EXECUTOR = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, PreferencesWriter.class.getSimpleName());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Indicates if a flush is scheduled on the background thread
+     */
+    private static boolean _isFlushScheduled;
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(PreferencesWriter::flush, PreferencesWriter.class.getSimpleName() + " Shutdown"));
+    }
+
+    /**
+     * Constructs a new instance of this class type
+     */
+    private PreferencesWriter() {
+    }
+
+    /**
+     * Records a write to the specified node of preferences, replacing the write that was recorded for that node and
+     * not made yet
+     *
+     * @param node The node of preferences
+     * @param write The write, which puts the values into the node
+     */
+    public static void write(Preferences node, Consumer<Preferences> write) {
+        synchronized(PENDING_WRITES) {
+            PENDING_WRITES.put(node, write);
+            if(!_isFlushScheduled) {
+                _isFlushScheduled = true;
+                EXECUTOR.schedule(PreferencesWriter::flush, MAX_DELAY, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * Makes every write that was not made yet, on the calling thread
+     */
+    public static void flush() {
+        synchronized(WRITE_LOCK) {
+            Map<Preferences, Consumer<Preferences>> writes;
+            synchronized(PENDING_WRITES) {
+                writes = new LinkedHashMap<Preferences, Consumer<Preferences>>(PENDING_WRITES);
+                PENDING_WRITES.clear();
+                _isFlushScheduled = false;
+            }
+
+            for(Map.Entry<Preferences, Consumer<Preferences>> write : writes.entrySet()) {
+                try {
+                    write.getValue().accept(write.getKey());
+                    write.getKey().flush();
+                }
+                catch(Exception exception) {
+                    Tracelog.log(Level.SEVERE, true, exception);
+                }
+            }
+        }
+    }
+}
\ No newline at end of file
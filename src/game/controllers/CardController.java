@@ -26,7 +26,7 @@ package game.controllers;
 
 import framework.core.mvc.controller.BaseController;
 
-import game.entities.AbstractCardEntity;
+import game.engine.Card;
 import game.models.CardModel;
 
 public class CardController extends BaseController {
@@ -71,8 +71,6 @@ public class CardController extends BaseController {
      * @return TRUE if this card is before the specified card and of the same suite, FALSE otherwise 
      */
     public boolean isValidFoundationMove(CardModel card) {
-        AbstractCardEntity thisCardEntity = _card.getCardEntity();
-        AbstractCardEntity cardEntity = card.getCardEntity();
-        return cardEntity.isSameSuite(thisCardEntity) && cardEntity.isCardRankedAfter(thisCardEntity); 
+        return Card.isValidFoundationMove(_card.getCardEntity().getEncodedCard(), card.getCardEntity().getEncodedCard());
     }
 }
\ No newline at end of file
@@ -24,22 +24,44 @@
 
 package game.controllers;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
 import java.util.logging.Level;
 
 import framework.communication.internal.signal.ISignalListener;
-import framework.core.factories.AbstractFactory;
-import framework.core.factories.ViewFactory;
 import framework.core.mvc.controller.BaseController;
 import framework.utils.logging.Tracelog;
 
+import game.config.OptionsSnapshot;
+import game.engine.Card;
+import game.engine.GameSession;
+import game.engine.GameState;
+import game.engine.Move;
+import game.engine.MoveLog;
+import game.engine.Replay;
+import game.engine.ReplayWriter;
 import game.models.MovementModel;
 import game.models.MovementModel.MovementType;
-import game.views.GameView;
+import game.views.FoundationPileView;
+import game.views.IBoardView;
 import game.views.IUndoable;
+import game.views.StockView;
+import game.views.TableauPileView;
+import game.views.TalonPileView;
 
 /**
  * The controller that handles recording of movement
  * 
+ * Every movement is applied to a game state that mirrors the board and is recorded within a log as an encoded move, which
+ * allows for any number of movements to be undone and redone. Undoing or redoing a movement is done on the game state, after which
+ * the board is laid out again from it.
+ * 
+ * Every movement, undo and redo is also written as it happens into a replay of the game, see {@link Replay}.
+ * 
+ * Every board view creates a controller of its own and hands it to the views of its board, so the controller is never
+ * looked up while a movement is recorded.
+ * 
  * @author Daniel Ricci {@literal <thedanny09@icloud.com>}
  */
 public class MovementRecorderController extends BaseController {
@@ -50,60 +72,101 @@ public class MovementRecorderController extends BaseController {
     private final MovementModel _movementModel = new MovementModel();
     
     /**
-     * This flag indicates if the current state of the game can perform an undo
+     * The session of the game being played
+     */
+    private final GameSession _session;
+    
+    /**
+     * The view that shows the board, which is laid out again from the game state
+     */
+    private final IBoardView _boardView;
+    
+    /**
+     * The game state that mirrors the board
      */
-    private boolean _canUndo;
+    private final GameState _state;
     
     /**
-     * This flag indicates if this instance can record undo's.
+     * The log of the movements that were recorded
      */
-    private boolean _lockRecording;
+    private final MoveLog _log;
     
     /**
-     * The last recorded `from` movement
+     * The index of the foundation pile view holding each suite
      */
-    private IUndoable _source;
+    private final int[] _foundations = new int[Card.SUITE_COUNT];
     
     /**
-     * The last recorded `from` movement
+     * The replay of the game being played
      */
-    private IUndoable _destination;
+    private final ByteArrayOutputStream _replay = new ByteArrayOutputStream();
+    
+    /**
+     * The writer of the replay of the game being played. The replay has neither timestamps nor keyframes, which keeps it
+     * to about a byte per movement, and a replay that short is played from the deal as fast as from a keyframe
+     */
+    private final ReplayWriter _replayWriter = new ReplayWriter(_replay);
+    
+    /**
+     * Constructs a new instance of this class type
+     *
+     * @param session The session of the game being played
+     * @param boardView The view that shows the board
+     */
+    public MovementRecorderController(GameSession session, IBoardView boardView) {
+        OptionsSnapshot preferences = session.getOptions();
+        
+        _session = session;
+        _boardView = boardView;
+        _state = session.getState();
+        _log = session.getLog();
+        Arrays.fill(_foundations, -1);
+        
+        try {
+            _replayWriter.begin(session.getDealNumber(), preferences.drawOption, preferences.scoringOption, false, System.currentTimeMillis(), 0);
+        }
+        catch(IOException exception) {
+            Tracelog.log(Level.SEVERE, true, exception);
+        }
+    }
     
     /**
      * Records the specified movement from one pile view implement to the other
      *
      * @param source The pile view implementation source
-     * @param destination The pile view implementation destination
+     * @param destination The pile view implementation destination, or null if a card of the source was uncovered
      * 
      */
     public void recordMovement(IUndoable source, IUndoable destination) {
-        // Do not preoceed with the record movement if the lock is enabled
-        if(_lockRecording) {
+        int foundationIndex = Math.max(getFoundationIndex(source), getFoundationIndex(destination));
+        int move = getMove(source, destination, foundationIndex);
+        if(move == Move.NONE) {
+            // The board and the game state no longer agree, so nothing that was recorded can be undone anymore
+            Tracelog.log(Level.SEVERE, true, String.format("Could not record the movement from [%s] to [%s]", MovementType.fromClass(source), MovementType.fromClass(destination)));
+            clearUndo();
             return;
         }
-        
-        // Reset the values of this recorder
-        reset();
 
-        // Perform a backup on the source location
-        _source = source;
-        _source.performBackup();
-        _destination = destination;
-        
-        MovementType fromMovement = MovementType.fromClass(source);
-        MovementType toMovement = MovementType.fromClass(destination);
-
-        Tracelog.log(Level.INFO, true, String.format("Movement Detected: from [%s] to [%s]", fromMovement, toMovement));
-            
-        if(fromMovement == MovementType.NONE || toMovement == MovementType.NONE) {
-            _canUndo = false;
-        }
-        else {
-            _canUndo = true;
-        }
+        recordMove(move, foundationIndex);
+    }
+    
+    /**
+     * Records the specified move, which must be valid with respect to the game state
+     *
+     * @param move The encoded move
+     * @param foundationIndex The index of the foundation involved in the move, or -1 if there is none
+     */
+    public void recordMove(int move, int foundationIndex) {
+        move = _state.apply(move);
+        Tracelog.log(Level.INFO, true, String.format("Movement Detected: %s", Move.toString(move)));
             
-        // Update the model
-        _movementModel.setMovement(fromMovement, toMovement, false);
+        // Update the model, the score given to the move is set by the view that scores it
+        _movementModel.setMovement(move, 0, false);
+        
+        int entry = MoveLog.valueOf(move, foundationIndex + 1, getLoggedScore());
+        updateFoundation(entry);
+        _log.push(entry);
+        writeReplay(move, false);
     }
         
     /**
@@ -115,60 +178,295 @@ public class MovementRecorderController extends BaseController {
             return;
         }
 
-        // Prevent recording undo's, to avoid performing an undo and have that movement recorded
-        _lockRecording = true;
-
-        // Undo the last action associated to the source
-        _source.undoLastAction();
+        int entry = _log.undo();
+        int move = MoveLog.move(entry);
+        _state.revert(move);
+        updateFoundation(entry);
         
-        // Update the model to notify listeners that a movement has occurred
-        _movementModel.setMovement(MovementType.fromClass(_source), MovementType.fromClass(_destination), true);
-
-        // Repaint the source and destination
-        AbstractFactory.getFactory(ViewFactory.class).get(GameView.class).repaint();
-        _source.getContainerClass().repaint();
-        _destination.getContainerClass().repaint();
+        // Update the model to notify listeners that a movement has been undone
+        _movementModel.setMovement(move, MoveLog.score(entry), true);
+        writeReplay(move, true);
+        synchronize();
+    }
+    
+    /**
+     * Performs a redo of the last move that was undone
+     */
+    public void redoLastMovement() {
+        if(!canRedo()) {
+            Tracelog.log(Level.SEVERE, true, "Cannot perform a redo");
+            return;
+        }
         
-        // Reset the state of this recorder
-        reset();
-               
-        // Enable back the lock
-        _lockRecording = false;
+        int entry = _log.redo();
+        int move = _state.apply(MoveLog.move(entry));
+        updateFoundation(entry);
+        
+        // Update the model to notify listeners that a movement has occurred, the move is scored again
+        _movementModel.setMovement(move, 0, false);
+        _log.set(_log.size() - 1, MoveLog.valueOf(move, MoveLog.data(entry), getLoggedScore()));
+        writeReplay(move, false);
+        synchronize();
     }
 
     /**
      * @return TRUE if an undo operation can be made, FALSE otherwise
      */
     public boolean canUndo() {
-        return _canUndo;
+        return _log.canUndo();
     }
     
     /**
-     * Clears the undo availability
+     * @return TRUE if a redo operation can be made, FALSE otherwise
+     */
+    public boolean canRedo() {
+        return _log.canRedo();
+    }
+    
+    /**
+     * Clears the undo and redo availability
      */
     public void clearUndo() {
-        _canUndo = false;
-        reset();
+        _log.clear();
     }
     
     /**
-     * Resets the contents of this recorder
+     * @return TRUE if the game being played has a replay that can be played back, FALSE otherwise
      */
-    private void reset() {
-        _canUndo = false;
-        
-        if(_source != null) {
-            _source.clearBackup();
+    public boolean canReplay() {
+        return _replayWriter.getActionCount() > 0 && !_state.isWon();
+    }
+    
+    /**
+     * Gets the replay of the game being played, holding every movement up to now
+     *
+     * @return The record of the game, see {@link Replay}
+     */
+    public byte[] getReplay() {
+        try {
+            _replayWriter.flush();
         }
-        _source = null;
-        
-        if(_destination != null) {
-            _destination.clearBackup();
+        catch(IOException exception) {
+            Tracelog.log(Level.SEVERE, true, exception);
         }
-        _destination = null;
+        
+        // The record is only ended within the copy, so that the game can keep on being recorded
+        byte[] replay = Arrays.copyOf(_replay.toByteArray(), _replay.size() + 1);
+        replay[replay.length - 1] = Replay.END;
+        return replay;
+    }
+    
+    /**
+     * @return The deal number of the game being played
+     */
+    public long getDealNumber() {
+        return _session.getDealNumber();
+    }
+    
+    /**
+     * @return The session of the game being played
+     */
+    public GameSession getSession() {
+        return _session;
+    }
+    
+    /**
+     * @return The game state that mirrors the board
+     */
+    public GameState getState() {
+        return _state;
+    }
+    
+    /**
+     * @return The number of times that the stock was gone through, counting the pass under way once the stock is empty
+     */
+    public int getDeckPlays() {
+        return _session.getDeckPlays();
     }
     
     public void addSignalListener(ISignalListener listener) {
         _movementModel.addListener(listener);
     }
+    
+    /**
+     * Gets the move of the specified movement, using the state before the movement is applied
+     *
+     * @param source The pile view implementation source
+     * @param destination The pile view implementation destination, or null if a card of the source was uncovered
+     * @param foundationIndex The index of the foundation pile view involved in the movement, or -1 if there is none
+     * 
+     * @return The encoded move, or {@link Move#NONE} if the movement is not valid with respect to the state
+     */
+    private int getMove(IUndoable source, IUndoable destination, int foundationIndex) {
+        if(source instanceof StockView && destination instanceof TalonPileView) {
+            if(_state.getStockSize() > 0) {
+                return Move.valueOf(Move.DRAW, 0, 0, 0);
+            }
+            return _state.canRecycleStock() ? Move.valueOf(Move.RECYCLE, 0, 0, 0) : Move.NONE;
+        }
+        else if(source instanceof TableauPileView && destination == null) {
+            int column = ((TableauPileView)source).getColumn();
+            int size = _state.getColumnSize(column);
+            return size > 0 && _state.getBacksideCount(column) == size ? Move.valueOf(Move.UNCOVER, column, 0, 0) : Move.NONE;
+        }
+        else if(source instanceof TalonPileView && destination instanceof TableauPileView) {
+            return _state.getTalonTop() != Card.NONE ? Move.valueOf(Move.TALON_TO_TABLEAU, 0, ((TableauPileView)destination).getColumn(), 1) : Move.NONE;
+        }
+        else if(source instanceof TalonPileView && destination instanceof FoundationPileView) {
+            byte card = _state.getTalonTop();
+            return card != Card.NONE ? Move.valueOf(Move.TALON_TO_FOUNDATION, 0, Card.suite(card), 1) : Move.NONE;
+        }
+        else if(source instanceof TableauPileView && destination instanceof TableauPileView) {
+            int from = ((TableauPileView)source).getColumn();
+            int to = ((TableauPileView)destination).getColumn();
+            int count = getRunLength(from, to);
+            return count > 0 ? Move.valueOf(Move.TABLEAU_TO_TABLEAU, from, to, count) : Move.NONE;
+        }
+        else if(source instanceof TableauPileView && destination instanceof FoundationPileView) {
+            int column = ((TableauPileView)source).getColumn();
+            byte card = _state.getColumnTop(column);
+            return card != Card.NONE ? Move.valueOf(Move.TABLEAU_TO_FOUNDATION, column, Card.suite(card), 1) : Move.NONE;
+        }
+        else if(source instanceof FoundationPileView && destination instanceof TableauPileView) {
+            for(int suite = 0; suite < Card.SUITE_COUNT; ++suite) {
+                if(_foundations[suite] == foundationIndex && _state.getFoundationSize(suite) > 0) {
+                    return Move.valueOf(Move.FOUNDATION_TO_TABLEAU, suite, ((TableauPileView)destination).getColumn(), 1);
+                }
+            }
+        }
+        
+        return Move.NONE;
+    }
+    
+    /**
+     * Gets the number of cards of the source pile that are moved onto the destination pile
+     *
+     * @param from The index of the source pile
+     * @param to The index of the destination pile
+     * 
+     * @return The number of cards moved, or 0 if no face up card of the source pile can go onto the destination pile
+     */
+    private int getRunLength(int from, int to) {
+        int size = _state.getColumnSize(from);
+        byte target = _state.getColumnTop(to);
+        for(int i = _state.getBacksideCount(from); i < size; ++i) {
+            byte card = _state.getTableauCard(from, i);
+            if(target == Card.NONE ? Card.isCardKing(card) : Card.isCardBeforeAndOppositeSuite(target, card)) {
+                return size - i;
+            }
+        }
+        
+        return 0;
+    }
+    
+    /**
+     * @param view The pile view
+     * 
+     * @return The index of the specified foundation pile view, or -1 if the view is not a foundation pile view
+     */
+    private int getFoundationIndex(IUndoable view) {
+        if(view instanceof FoundationPileView) {
+            return ((FoundationPileView)view).getIndex();
+        }
+        return -1;
+    }
+    
+    /**
+     * Updates the foundation pile view holding the suite of the specified entry, when the entry involves a foundation
+     *
+     * @param entry The entry of the log, holding the index of the foundation pile view plus one as its data
+     */
+    private void updateFoundation(int entry) {
+        int move = MoveLog.move(entry);
+        int foundationIndex = MoveLog.data(entry) - 1;
+        switch(Move.type(move)) {
+        case Move.TALON_TO_FOUNDATION:
+        case Move.TABLEAU_TO_FOUNDATION:
+            _foundations[Move.to(move)] = foundationIndex;
+            break;
+        case Move.FOUNDATION_TO_TABLEAU:
+            _foundations[Move.from(move)] = foundationIndex;
+            break;
+        }
+    }
+    
+    /**
+     * @return The score given to the last movement, bounded to what the log can hold
+     */
+    private int getLoggedScore() {
+        return (int)Math.max(MoveLog.MIN_SCORE, Math.min(MoveLog.MAX_SCORE, _movementModel.getScore()));
+    }
+    
+    /**
+     * Gets the number of cards at the top of the waste that belong to the last hand drawn
+     *
+     * @return The number of cards of the last hand that are still within the waste
+     */
+    public int getFanSize() {
+        int removed = 0;
+        for(int i = _log.size() - 1; i >= 0; --i) {
+            int move = MoveLog.move(_log.get(i));
+            switch(Move.type(move)) {
+            case Move.DRAW:
+                return Math.max(0, Move.count(move) - removed);
+            case Move.RECYCLE:
+                return 0;
+            case Move.TALON_TO_TABLEAU:
+            case Move.TALON_TO_FOUNDATION:
+                ++removed;
+                break;
+            }
+        }
+        
+        return 0;
+    }
+    
+    /**
+     * Writes the specified movement into the replay of the game
+     *
+     * @param move The encoded move
+     * @param isUndo If the movement is an undo of the move
+     */
+    private void writeReplay(int move, boolean isUndo) {
+        try {
+            if(isUndo) {
+                _replayWriter.writeUndo(move, System.currentTimeMillis());
+            }
+            else {
+                _replayWriter.writeMove(move, System.currentTimeMillis());
+            }
+        }
+        catch(IOException exception) {
+            Tracelog.log(Level.SEVERE, true, exception);
+        }
+    }
+    
+    /**
+     * Lays out the board again from the game state, used to bring the board back to the game being played after
+     * it has shown something else such as a replay
+     */
+    public void refresh() {
+        _boardView.synchronizeBoard(_state, getFoundationSuites(), getFanSize());
+    }
+    
+    /**
+     * @return The suite held by every foundation, or -1 for the ones that are empty
+     */
+    public int[] getFoundationSuites() {
+        int[] suites = new int[Card.SUITE_COUNT];
+        Arrays.fill(suites, -1);
+        for(int suite = 0; suite < Card.SUITE_COUNT; ++suite) {
+            if(_state.getFoundationSize(suite) > 0) {
+                suites[_foundations[suite]] = suite;
+            }
+        }
+        return suites;
+    }
+    
+    /**
+     * Lays out the board from the game state
+     */
+    private void synchronize() {
+        _boardView.synchronize(_state, getFoundationSuites(), getFanSize());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,249 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2019 Daniel Ricci {@literal <thedanny09@icloud.com>}
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package game.engine;
+
+/**
+ * Primitive encoding of a single playing card. A card is stored as one byte where the
+ * upper nibble is the suite and the lower nibble is the rank (0 for an ACE, 12 for a KING).
+ *
+ * The suites are ordered the same way that {@code CardModel.newInstances} creates them, so
+ * that a deck of bytes and a deck of card models can always be mapped one to one.
+ *
+ * @author Daniel Ricci {@literal <thedanny09@icloud.com>}
+ */
+public final class Card {
+
+    /**
+     * The hearts suite
+     */
+    public static final int HEARTS = 0;
+
+    /**
+     * The clubs suite
+     */
+    public static final int CLUBS = 1;
+
+    /**
+     * The diamonds suite
+     */
+    public static final int DIAMONDS = 2;
+
+    /**
+     * The spades suite
+     */
+    public static final int SPADES = 3;
+
+    /**
+     * The number of suites in a deck
+     */
+    public static final int SUITE_COUNT = 4;
+
+    /**
+     * The number of ranks in a suite
+     */
+    public static final int RANK_COUNT = 13;
+
+    /**
+     * The number of cards in a deck
+     */
+    public static final int DECK_SIZE = SUITE_COUNT * RANK_COUNT;
+
+    /**
+     * The rank of an ace
+     */
+    public static final int ACE = 0;
+
+    /**
+     * The rank of a king
+     */
+    public static final int KING = 12;
+
+    /**
+     * The exclusive upper bound of any encoded card, used to size lookup tables indexed by an encoded card
+     */
+    public static final int ENCODED_LIMIT = SUITE_COUNT << 4;
+
+    /**
+     * Value used to represent the absence of a card
+     */
+    public static final byte NONE = -1;
+
+    /**
+     * Constructs a new instance of this class type
+     */
+    private Card() {
+    }
+
+    /**
+     * Encodes the specified suite and rank into a card
+     *
+     * @param suite The suite of the card
+     * @param rank The rank of the card, 0 being an ACE
+     *
+     * @return The encoded card
+     */
+    public static byte valueOf(int suite, int rank) {
+        return (byte)((suite << 4) | rank);
+    }
+
+    /**
+     * Encodes the card that lives at the specified position of a sorted deck
+     *
+     * @param ordinal The position of the card within a sorted deck, between 0 and 51
+     *
+     * @return The encoded card
+     */
+    public static byte fromOrdinal(int ordinal) {
+        return valueOf(ordinal / RANK_COUNT, ordinal % RANK_COUNT);
+    }
+
+    /**
+     * @param card The encoded card
+     *
+     * @return The position of the card within a sorted deck, between 0 and 51
+     */
+    public static int ordinal(byte card) {
+        return suite(card) * RANK_COUNT + rank(card);
+    }
+
+    /**
+     * @param card The encoded card
+     *
+     * @return The suite of the card
+     */
+    public static int suite(byte card) {
+        return card >> 4;
+    }
+
+    /**
+     * @param card The encoded card
+     *
+     * @return The rank of the card, 0 being an ACE
+     */
+    public static int rank(byte card) {
+        return card & 0xF;
+    }
+
+    /**
+     * @param card The encoded card
+     *
+     * @return TRUE if the card is a heart or a diamond, FALSE otherwise
+     */
+    public static boolean isRed(byte card) {
+        return (card & 0x10) == 0;
+    }
+
+    /**
+     * @param card The encoded card
+     *
+     * @return TRUE if the card is an ACE, FALSE otherwise
+     */
+    public static boolean isAceCard(byte card) {
+        return rank(card) == ACE;
+    }
+
+    /**
+     * @param card The encoded card
+     *
+     * @return TRUE if the card is a KING, FALSE otherwise
+     */
+    public static boolean isCardKing(byte card) {
+        return rank(card) == KING;
+    }
+
+    /**
+     * Indicates if both cards are of different color
+     *
+     * @param card The first card
+     * @param other The second card
+     *
+     * @return TRUE if the suites of both cards are opposite, FALSE otherwise
+     */
+    public static boolean isOppositeSuite(byte card, byte other) {
+        return ((card ^ other) & 0x10) != 0;
+    }
+
+    /**
+     * Indicates if both cards are of the same suite
+     *
+     * @param card The first card
+     * @param other The second card
+     *
+     * @return TRUE if both cards are of the same suite, FALSE otherwise
+     */
+    public static boolean isSameSuite(byte card, byte other) {
+        return ((card ^ other) & 0xF0) == 0;
+    }
+
+    /**
+     * Indicates if the card is ranked directly before the other card. This method is suite agnostic
+     *
+     * @param card The card
+     * @param other The card to check rank against
+     *
+     * @return TRUE if the card is ranked directly before the other card, FALSE otherwise
+     */
+    public static boolean isCardRankedBefore(byte card, byte other) {
+        return rank(card) + 1 == rank(other);
+    }
+
+    /**
+     * Indicates if the card can be put over the specified tableau card, which is the same rule
+     * as {@code CardModel.isCardBeforeAndOppositeSuite} minus the backside checks
+     *
+     * @param target The card that is being put over
+     * @param card The card being put over the target
+     *
+     * @return TRUE if the card is ranked before and of opposite suite to the target, FALSE otherwise
+     */
+    public static boolean isCardBeforeAndOppositeSuite(byte target, byte card) {
+        return isOppositeSuite(card, target) && isCardRankedBefore(card, target);
+    }
+
+    /**
+     * Indicates if the card can be put over the specified foundation card, which is the same
+     * rule as {@code CardController.isValidFoundationMove}
+     *
+     * @param target The card at the top of the foundation
+     * @param card The card being put over the target
+     *
+     * @return TRUE if the card is of the same suite and ranked directly after the target, FALSE otherwise
+     */
+    public static boolean isValidFoundationMove(byte target, byte card) {
+        return isSameSuite(card, target) && isCardRankedBefore(target, card);
+    }
+
+    /**
+     * @param card The encoded card
+     *
+     * @return The readable representation of the card
+     */
+    public static String toString(byte card) {
+        if(card == NONE) {
+            return "--";
+        }
+        return "A23456789TJQK".charAt(rank(card)) + "" + "HCDS".charAt(suite(card));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,114 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2019 Daniel Ricci {@literal <thedanny09@icloud.com>}
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package game.engine;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free set of the state hashes that were already visited by a search, shared between the workers
+ * of a parallel search. Slots are claimed using a compare-and-set so that no lock is ever taken, and
+ * the probing and replacement policy is the same as the one of {@link TranspositionTable}.
+ *
+ * Note: Two workers racing on the same state may both be told that the state was added, which only costs some extra work.
+ *
+ * @author Daniel Ricci {@literal <thedanny09@icloud.com>}
+ */
+public final class ConcurrentTranspositionTable implements ITranspositionTable {
+
+    /**
+     * The number of slots looked at before an entry is replaced
+     */
+    private static final int PROBE_LENGTH = 8;
+
+    /**
+     * The slots of the table, 0 being used to indicate an empty slot
+     */
+    private final AtomicLongArray _slots;
+
+    /**
+     * The mask used to map a hash onto a slot
+     */
+    private final int _mask;
+
+    /**
+     * The number of entries held by the table
+     */
+    private final LongAdder _size = new LongAdder();
+
+    /**
+     * Constructs a new instance of this class type
+     *
+     * @param capacity The number of entries that the table can hold, rounded up to the next power of two
+     */
+    public ConcurrentTranspositionTable(int capacity) {
+        int size = Integer.highestOneBit(Math.max(capacity - 1, PROBE_LENGTH) << 1);
+        _slots = new AtomicLongArray(size);
+        _mask = size - 1;
+    }
+
+    @Override public boolean add(long hash) {
+        if(hash == 0) {
+            hash = 1;
+        }
+
+        int index = (int)(hash ^ (hash >>> 32)) & _mask;
+        for(int i = 0; i < PROBE_LENGTH; ++i) {
+            int slot = (index + i) & _mask;
+            long value = _slots.get(slot);
+            if(value == 0) {
+                if(_slots.compareAndSet(slot, 0, hash)) {
+                    _size.increment();
+                    return true;
+                }
+                
+                // Another worker claimed the slot first, it could have been for the same state
+                value = _slots.get(slot);
+            }
+            if(value == hash) {
+                return false;
+            }
+        }
+
+        // Every slot of the sequence is taken, replace the first one
+        _slots.set(index, hash);
+        return true;
+    }
+
+    @Override public int size() {
+        return _size.intValue();
+    }
+
+    @Override public int capacity() {
+        return _slots.length();
+    }
+
+    @Override public void clear() {
+        for(int i = 0; i < _slots.length(); ++i) {
+            _slots.set(i, 0);
+        }
+        _size.reset();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,139 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2019 Daniel Ricci {@literal <thedanny09@icloud.com>}
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package game.engine;
+
+import java.util.SplittableRandom;
+
+/**
+ * Seeded deals of a deck. A deal is identified by a 64-bit deal number, and the same deal number
+ * will always result in the same deck so that games can be replayed, benchmarked and shared.
+ *
+ * The deck is shuffled the same way that {@code Collections.shuffle} does, starting from the order
+ * that {@code CardModel.newInstances} creates the cards in.
+ *
+ * @author Daniel Ricci {@literal <thedanny09@icloud.com>}
+ */
+public final class Deal {
+
+    /**
+     * Consumer of the deals produced by {@link Deal#generate(long, long, IDealConsumer)}
+     */
+    @FunctionalInterface
+    public interface IDealConsumer {
+
+        /**
+         * Called once per deal
+         *
+         * @param dealNumber The deal number
+         * @param deck The dealt deck. The array is reused between deals and must be copied if it needs to be kept
+         */
+        void accept(long dealNumber, byte[] deck);
+    }
+
+    /**
+     * Constructs a new instance of this class type
+     */
+    private Deal() {
+    }
+
+    /**
+     * @return A new random deal number
+     */
+    public static long newDealNumber() {
+        return new SplittableRandom().nextLong();
+    }
+
+    /**
+     * Deals the deck associated to the specified deal number
+     *
+     * @param dealNumber The deal number
+     *
+     * @return The deck of encoded cards, in dealing order
+     */
+    public static byte[] newDeck(long dealNumber) {
+        byte[] deck = new byte[Card.DECK_SIZE];
+        shuffle(dealNumber, deck);
+        return deck;
+    }
+
+    /**
+     * Deals the deck associated to the specified deal number into the specified buffer
+     *
+     * @param dealNumber The deal number
+     * @param deck The buffer that will hold the deck of encoded cards, of at least {@link Card#DECK_SIZE} in length
+     */
+    public static void shuffle(long dealNumber, byte[] deck) {
+        for(int i = 0; i < Card.DECK_SIZE; ++i) {
+            deck[i] = Card.fromOrdinal(i);
+        }
+
+        SplittableRandom random = new SplittableRandom(dealNumber);
+        for(int i = Card.DECK_SIZE - 1; i > 0; --i) {
+            int j = random.nextInt(i + 1);
+            byte card = deck[i];
+            deck[i] = deck[j];
+            deck[j] = card;
+        }
+    }
+
+    /**
+     * Generates the decks of a consecutive range of deal numbers. A single buffer is used for
+     * every deal so that millions of deals can be produced without putting pressure on the collector
+     *
+     * @param firstDealNumber The first deal number of the range
+     * @param count The number of deals to generate
+     * @param consumer The consumer of the generated deals
+     */
+    public static void generate(long firstDealNumber, long count, IDealConsumer consumer) {
+        byte[] deck = new byte[Card.DECK_SIZE];
+        for(long i = 0; i < count; ++i) {
+            long dealNumber = firstDealNumber + i;
+            shuffle(dealNumber, deck);
+            consumer.accept(dealNumber, deck);
+        }
+    }
+
+    /**
+     * @param dealNumber The deal number
+     *
+     * @return The readable representation of the deal number
+     */
+    public static String toString(long dealNumber) {
+        return Long.toUnsignedString(dealNumber);
+    }
+
+    /**
+     * Parses the readable representation of a deal number
+     *
+     * @param dealNumber The readable representation of the deal number
+     *
+     * @return The deal number
+     *
+     * @throws NumberFormatException If the specified text is not a valid deal number
+     */
+    public static long parse(String dealNumber) {
+        return Long.parseUnsignedLong(dealNumber.trim());
+    }
+}
\ No newline at end of file
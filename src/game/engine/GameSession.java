@@ -0,0 +1,428 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2019 Daniel Ricci {@literal <thedanny09@icloud.com>}
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package game.engine;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import game.config.OptionsPreferences.DrawOption;
+import game.config.OptionsPreferences.ScoringOption;
+import game.config.OptionsSnapshot;
+
+import generated.DataLookup;
+
+/**
+ * The context of a single game being played, owning everything that belongs to that game and nothing else.
+ *
+ * A session holds the game state dealt from its deal number, the log of the moves that were played, the score, the game
+ * timer and the snapshot of the options that the game was started with. Nothing within a session is shared with another
+ * session, so that any number of games can be played at the same time within the same process, whether they are shown
+ * on a board or played without one. The views and controllers of a board hold a reference to the session of the game
+ * that they show instead of looking it up, while a game played without a board, such as by the game server, plays its
+ * moves through the session itself which validates and scores them. Such a session can be written to a compact snapshot
+ * made of its deal number and its encoded moves, and read back by playing the moves again onto its deal.
+ *
+ * @author Daniel Ricci {@literal <thedanny09@icloud.com>}
+ */
+public final class GameSession {
+
+    /**
+     * The number of nanoseconds within a second
+     */
+    private static final long NANOSECONDS_PER_SECOND = 1000000000L;
+
+    /**
+     * The magic number that starts a snapshot of a session
+     */
+    private static final int SNAPSHOT_MAGIC = 0x534F4C53;
+
+    /**
+     * The version of the snapshot format
+     */
+    private static final int SNAPSHOT_VERSION = 2;
+
+    /**
+     * The flag of a snapshot indicating that the game timer was started
+     */
+    private static final int TIMER_STARTED = 1;
+
+    /**
+     * The flag of a snapshot indicating that the game timer was stopped
+     */
+    private static final int TIMER_STOPPED = 2;
+
+    /**
+     * The deal number of the game
+     */
+    private final long _dealNumber;
+
+    /**
+     * The snapshot of the options that the game was started with
+     */
+    private final OptionsSnapshot _options;
+
+    /**
+     * The game state
+     */
+    private final GameState _state;
+
+    /**
+     * The log of the moves that were played
+     */
+    private final MoveLog _log = new MoveLog();
+
+    /**
+     * The score of the game
+     */
+    private long _score;
+
+    /**
+     * Indicates if the game timer was started
+     */
+    private boolean _isTimerStarted;
+
+    /**
+     * Indicates if the game timer was stopped
+     */
+    private boolean _isTimerStopped;
+
+    /**
+     * The time that the game timer ran for before it was last resumed, in nanoseconds
+     */
+    private long _timerElapsed;
+
+    /**
+     * The value of {@link System#nanoTime()} when the game timer was last resumed, only meaningful while it is running
+     */
+    private long _timerResumed;
+
+    /**
+     * The time of the game timer up to which the score was penalized, in seconds
+     */
+    private long _penalizedTime;
+
+    /**
+     * The buffer that the legal moves are generated into when a move is played
+     */
+    private final int[] _moves = new int[MoveGenerator.MAX_MOVES];
+
+    /**
+     * Constructs a new instance of this class type
+     *
+     * @param dealNumber The deal number of the game
+     * @param options The snapshot of the options that the game is started with
+     * @param previous The session of the game played before this one, whose score is carried over when the Vegas score is
+     * cumulative, or null if there is none
+     */
+    public GameSession(long dealNumber, OptionsSnapshot options, GameSession previous) {
+        _dealNumber = dealNumber;
+        _options = options;
+        _state = new GameState(options.drawOption, options.scoringOption);
+        _state.deal(Deal.newDeck(dealNumber));
+
+        // A game of Vegas starts out by paying the buy-in, from the score of the previous game when it is cumulative
+        boolean isCumulative = options.cumulativeScore && previous != null && previous._options.scoringOption == ScoringOption.VEGAS;
+        _score = Scoring.getStartingScore(options.scoringOption, isCumulative, isCumulative ? previous.getScore() : 0);
+    }
+
+    /**
+     * Writes the snapshot of this session, made of its deal number, its options, its score, its game timer and the moves
+     * that are applied, each move being written as its replay code along with the score that it was given. The moves
+     * that were undone are not written, so they can no longer be redone once the snapshot is read back. The game timer
+     * is written as the time that it ran for, and a running timer resumes from that time once the snapshot is read back,
+     * whichever process reads it, so the time between the two does not count
+     *
+     * @param output The output to write into
+     *
+     * @throws IOException If the snapshot could not be written
+     */
+    public synchronized void writeSnapshot(DataOutput output) throws IOException {
+        output.writeInt(SNAPSHOT_MAGIC);
+        output.writeByte(SNAPSHOT_VERSION);
+        output.writeLong(_dealNumber);
+        output.writeByte((_options.timedGame ? 1 : 0) | (_options.statusBar ? 2 : 0) | (_options.outlineDragging ? 4 : 0) | (_options.cumulativeScore ? 8 : 0));
+        output.writeByte(_options.drawOption.ordinal());
+        output.writeByte(_options.scoringOption.ordinal());
+        output.writeByte(_options.deck.ordinal());
+        output.writeLong(_score);
+        output.writeByte((_isTimerStarted ? TIMER_STARTED : 0) | (_isTimerStopped ? TIMER_STOPPED : 0));
+        output.writeLong(getTimerElapsed());
+        output.writeLong(_penalizedTime);
+
+        int size = _log.size();
+        output.writeInt(size);
+        for(int i = 0; i < size; ++i) {
+            int entry = _log.get(i);
+            output.writeByte(Replay.encode(MoveLog.move(entry)));
+            output.writeByte(MoveLog.score(entry));
+        }
+    }
+
+    /**
+     * Reads back a session from its snapshot, dealing it again and playing its moves onto it
+     *
+     * @param input The input to read from
+     *
+     * @return The session
+     *
+     * @throws IOException If the snapshot could not be read, or if it is not valid
+     */
+    public static GameSession readSnapshot(DataInput input) throws IOException {
+        if(input.readInt() != SNAPSHOT_MAGIC || input.readUnsignedByte() != SNAPSHOT_VERSION) {
+            throw new IOException("The input is not a snapshot of a session");
+        }
+
+        long dealNumber = input.readLong();
+        int flags = input.readUnsignedByte();
+        OptionsSnapshot options = new OptionsSnapshot(
+            (flags & 1) != 0,
+            (flags & 2) != 0,
+            (flags & 4) != 0,
+            (flags & 8) != 0,
+            readOption(input, DrawOption.values()),
+            readOption(input, ScoringOption.values()),
+            readOption(input, DataLookup.BACKSIDES.values())
+        );
+
+        GameSession session = new GameSession(dealNumber, options, null);
+        session._score = input.readLong();
+        int timerFlags = input.readUnsignedByte();
+        session._isTimerStarted = (timerFlags & TIMER_STARTED) != 0;
+        session._isTimerStopped = (timerFlags & TIMER_STOPPED) != 0;
+        session._timerElapsed = input.readLong();
+        session._timerResumed = System.nanoTime();
+        if(session._timerElapsed < 0) {
+            throw new IOException("The game timer of the snapshot is not valid");
+        }
+        session._penalizedTime = input.readLong();
+
+        for(int i = 0, size = input.readInt(); i < size; ++i) {
+            int code = input.readUnsignedByte();
+            int score = input.readByte();
+            int move = Replay.decode(session._state, code);
+            if(move == Move.NONE) {
+                throw new IOException("The move " + i + " of the snapshot is not valid");
+            }
+            session._log.push(MoveLog.valueOf(session._state.apply(move), 0, score));
+        }
+
+        return session;
+    }
+
+    /**
+     * Reads the ordinal of an option of a snapshot
+     *
+     * @param input The input to read from
+     * @param values The values of the option
+     *
+     * @return The value of the option
+     *
+     * @throws IOException If the ordinal could not be read, or if the option has no such value
+     */
+    private static <T extends Enum<T>> T readOption(DataInput input, T[] values) throws IOException {
+        int ordinal = input.readUnsignedByte();
+        if(ordinal >= values.length) {
+            throw new IOException("The option " + values[0].getDeclaringClass().getSimpleName() + " of the snapshot has no value " + ordinal);
+        }
+        return values[ordinal];
+    }
+
+    /**
+     * @return The deal number of the game
+     */
+    public long getDealNumber() {
+        return _dealNumber;
+    }
+
+    /**
+     * @return The snapshot of the options that the game was started with
+     */
+    public OptionsSnapshot getOptions() {
+        return _options;
+    }
+
+    /**
+     * @return The game state
+     */
+    public GameState getState() {
+        return _state;
+    }
+
+    /**
+     * @return The log of the moves that were played
+     */
+    public MoveLog getLog() {
+        return _log;
+    }
+
+    /**
+     * @return The score of the game
+     */
+    public synchronized long getScore() {
+        return _score;
+    }
+
+    /**
+     * Sets the score of the game
+     *
+     * @param score The score
+     */
+    public synchronized void setScore(long score) {
+        _score = score;
+    }
+
+    /**
+     * Generates every legal move of the game state
+     *
+     * @param moves The buffer to write the moves into, of at least {@link MoveGenerator#MAX_MOVES} in length
+     *
+     * @return The number of moves that were written into the buffer
+     */
+    public synchronized int getLegalMoves(int[] moves) {
+        return MoveGenerator.generate(_state, moves);
+    }
+
+    /**
+     * Plays the specified move if it is legal, scoring it and recording it within the log. The game timer is started
+     * by the first move of a timed game, and stopped once the game is won at which point the time bonus is given
+     *
+     * @param move The encoded move, as it is generated by the {@link MoveGenerator}
+     *
+     * @return The move that was applied, or {@link Move#NONE} if the move is not legal
+     */
+    public synchronized int play(int move) {
+        if(!isLegalMove(move)) {
+            return Move.NONE;
+        }
+
+        if(_options.timedGame) {
+            startTimer();
+        }
+        penalizeTime();
+
+        long scoreBefore = _score;
+        move = _state.apply(move);
+        _score = Scoring.applyMove(_options.scoringOption, _options.drawOption, scoreBefore, move, getDeckPlays());
+        _log.push(MoveLog.valueOf(move, 0, (int)Math.max(MoveLog.MIN_SCORE, Math.min(MoveLog.MAX_SCORE, _score - scoreBefore))));
+
+        if(_state.isWon()) {
+            stopTimer();
+            _score += Scoring.getTimeBonus(_options.scoringOption, getTime());
+        }
+
+        return move;
+    }
+
+    /**
+     * Undoes the last move that was played, taking back its score along with the cost of the undo
+     *
+     * @return The move that was undone, or {@link Move#NONE} if there is no move to undo
+     */
+    public synchronized int undo() {
+        if(!_log.canUndo() || _state.isWon()) {
+            return Move.NONE;
+        }
+
+        penalizeTime();
+
+        int entry = _log.undo();
+        int move = MoveLog.move(entry);
+        _state.revert(move);
+        _score = Scoring.applyUndo(_options.scoringOption, _score, MoveLog.score(entry));
+        return move;
+    }
+
+    /**
+     * @param move The encoded move
+     *
+     * @return TRUE if the move is one of the legal moves of the game state, FALSE otherwise
+     */
+    private boolean isLegalMove(int move) {
+        for(int i = 0, size = MoveGenerator.generate(_state, _moves); i < size; ++i) {
+            if(_moves[i] == move) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Takes the penalty of the time that went by on the game timer since it was last penalized
+     */
+    private void penalizeTime() {
+        long time = getTime();
+        _score = Scoring.applyTimePenalty(_options.scoringOption, _score, _penalizedTime, time);
+        _penalizedTime = time;
+    }
+
+    /**
+     * @return The number of times that the stock was gone through, counting the pass under way once the stock is empty
+     */
+    public int getDeckPlays() {
+        return _state.getPasses() + (_state.getStockSize() == 0 ? 1 : 0);
+    }
+
+    /**
+     * Starts the game timer, if it was not started yet
+     */
+    public synchronized void startTimer() {
+        if(!_isTimerStarted) {
+            _isTimerStarted = true;
+            _timerResumed = System.nanoTime();
+        }
+    }
+
+    /**
+     * Stops the game timer, if it is running
+     */
+    public synchronized void stopTimer() {
+        if(isTimerRunning()) {
+            _timerElapsed += System.nanoTime() - _timerResumed;
+            _isTimerStopped = true;
+        }
+    }
+
+    /**
+     * @return TRUE if the game timer was started and not stopped yet, FALSE otherwise
+     */
+    public synchronized boolean isTimerRunning() {
+        return _isTimerStarted && !_isTimerStopped;
+    }
+
+    /**
+     * @return The number of whole seconds that the game timer has been running for
+     */
+    public synchronized long getTime() {
+        return getTimerElapsed() / NANOSECONDS_PER_SECOND;
+    }
+
+    /**
+     * @return The time that the game timer has been running for, in nanoseconds
+     */
+    private long getTimerElapsed() {
+        return isTimerRunning() ? _timerElapsed + System.nanoTime() - _timerResumed : _timerElapsed;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,905 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2019 Daniel Ricci {@literal <thedanny09@icloud.com>}
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package game.engine;
+
+import game.config.OptionsPreferences.DrawOption;
+import game.config.OptionsPreferences.ScoringOption;
+
+/**
+ * Headless representation of a game of Klondike. The state is kept entirely within primitive arrays so
+ * that it can be copied, mutated and inspected without any of the views being created.
+ *
+ * The deal follows the same layout that the game view uses, so that a deck dealt here and a deck
+ * dealt on the board will always result in the same game.
+ *
+ * Note: The mutation methods of this class do not validate the move being done, use the
+ * validation methods before mutating the state.
+ *
+ * @author Daniel Ricci {@literal <thedanny09@icloud.com>}
+ */
+public final class GameState {
+
+    /**
+     * The number of tableau piles
+     */
+    public static final int TABLEAU_COUNT = 7;
+
+    /**
+     * The number of cards that are dealt onto the tableau
+     */
+    public static final int TABLEAU_CARD_SIZE = 28;
+
+    /**
+     * The number of cards that the talon holds after a deal
+     */
+    public static final int TALON_SIZE = Card.DECK_SIZE - TABLEAU_CARD_SIZE;
+
+    /**
+     * The maximum number of cards that a tableau pile can hold, which is six backsides followed by a king down to an ace
+     */
+    public static final int COLUMN_CAPACITY = TABLEAU_COUNT - 1 + Card.RANK_COUNT;
+
+    /**
+     * Value used to indicate that the stock can be recycled an unlimited amount of times
+     */
+    public static final int UNLIMITED_PASSES = -1;
+
+    /**
+     * The number of bytes at the start of a snapshot that hold the size of every tableau pile, see {@link #getSnapshotSize(byte[])}
+     */
+    public static final int SNAPSHOT_HEADER_SIZE = TABLEAU_COUNT;
+
+    /**
+     * The maximum number of bytes of a snapshot
+     */
+    public static final int SNAPSHOT_CAPACITY = SNAPSHOT_HEADER_SIZE + Card.DECK_SIZE + 8;
+
+    /**
+     * The draw option of this game
+     */
+    private final DrawOption _drawOption;
+
+    /**
+     * The scoring option of this game
+     */
+    private final ScoringOption _scoringOption;
+
+    /**
+     * The number of cards that are turned over from the stock at a time
+     */
+    private final int _drawCount;
+
+    /**
+     * The number of passes through the stock that are allowed, or {@link #UNLIMITED_PASSES}
+     */
+    private final int _passLimit;
+
+    /**
+     * The tableau piles, where each pile owns {@link #COLUMN_CAPACITY} consecutive slots, bottom card first
+     */
+    private final byte[] _tableau = new byte[TABLEAU_COUNT * COLUMN_CAPACITY];
+
+    /**
+     * The number of cards within each tableau pile
+     */
+    private final byte[] _columnSize = new byte[TABLEAU_COUNT];
+
+    /**
+     * The number of cards within each tableau pile that have their backside showing
+     */
+    private final byte[] _backsideCount = new byte[TABLEAU_COUNT];
+
+    /**
+     * The number of cards within each foundation, indexed by suite
+     */
+    private final byte[] _foundation = new byte[Card.SUITE_COUNT];
+
+    /**
+     * The cards of the talon in the order that they are drawn from the stock
+     */
+    private final byte[] _talon = new byte[TALON_SIZE];
+
+    /**
+     * The number of cards held by the talon
+     */
+    private int _talonSize;
+
+    /**
+     * The number of talon cards that have been turned over from the stock. The top-most
+     * card of the talon is the one right before the cursor
+     */
+    private int _talonCursor;
+
+    /**
+     * The number of times that the stock was recycled
+     */
+    private int _passes;
+
+    /**
+     * The total number of cards held by all the foundations
+     */
+    private int _foundationSize;
+
+    /**
+     * The Zobrist hash of each tableau pile, independent of the position of the pile
+     */
+    private final long[] _columnHash = new long[TABLEAU_COUNT];
+
+    /**
+     * The sum of the mixed hashes of the tableau piles, keyed by the position of each pile
+     */
+    private long _tableauHash;
+
+    /**
+     * The sum of the mixed hashes of the tableau piles, ignoring the position of each pile
+     */
+    private long _canonicalTableauHash;
+
+    /**
+     * The Zobrist hash of the foundations
+     */
+    private long _foundationHash;
+
+    /**
+     * The Zobrist hash of the cards held by the talon
+     */
+    private long _talonHash;
+
+    /**
+     * Constructs a new instance of this class type
+     *
+     * @param drawOption The draw option of the game
+     * @param scoringOption The scoring option of the game
+     */
+    public GameState(DrawOption drawOption, ScoringOption scoringOption) {
+        _drawOption = drawOption;
+        _scoringOption = scoringOption;
+        _drawCount = drawOption == DrawOption.THREE ? 3 : 1;
+        _passLimit = getPassLimit(drawOption, scoringOption);
+    }
+
+    /**
+     * Gets the number of passes through the stock that are allowed, this follows the
+     * same rule as {@code TalonPileView.isTalonEnded}
+     *
+     * @param drawOption The draw option
+     * @param scoringOption The scoring option
+     *
+     * @return The number of passes allowed, or {@link #UNLIMITED_PASSES}
+     */
+    public static int getPassLimit(DrawOption drawOption, ScoringOption scoringOption) {
+        if(scoringOption == ScoringOption.VEGAS) {
+            return drawOption == DrawOption.ONE ? 1 : 3;
+        }
+        return UNLIMITED_PASSES;
+    }
+
+    /**
+     * Deals the specified deck, discarding the current state. The first card of the deck ends up
+     * at the bottom of the right-most tableau pile, the same way that the game view distributes its cards.
+     *
+     * @param deck The deck of encoded cards, in dealing order
+     */
+    public void deal(byte[] deck) {
+        for(int column = TABLEAU_COUNT - 1, index = 0; column >= 0; --column) {
+            int size = column + 1;
+            System.arraycopy(deck, index, _tableau, column * COLUMN_CAPACITY, size);
+            _columnSize[column] = (byte)size;
+            _backsideCount[column] = (byte)(size - 1);
+            index += size;
+        }
+
+        // The talon draws the last card of the deck first
+        for(int i = 0; i < TALON_SIZE; ++i) {
+            _talon[i] = deck[Card.DECK_SIZE - 1 - i];
+        }
+
+        _talonSize = TALON_SIZE;
+        _talonCursor = 0;
+        _passes = 0;
+        _foundationSize = 0;
+        for(int suite = 0; suite < Card.SUITE_COUNT; ++suite) {
+            _foundation[suite] = 0;
+        }
+
+        rehash();
+    }
+
+    /**
+     * Computes the Zobrist hash of this state from scratch
+     */
+    private void rehash() {
+        _tableauHash = 0;
+        _canonicalTableauHash = 0;
+        for(int column = 0; column < TABLEAU_COUNT; ++column) {
+            long hash = 0;
+            for(int i = 0; i < _columnSize[column]; ++i) {
+                byte card = _tableau[column * COLUMN_CAPACITY + i];
+                hash ^= i < _backsideCount[column] ? Zobrist.BACKSIDE[card] : Zobrist.TABLEAU[card];
+            }
+            _columnHash[column] = hash;
+            _tableauHash += Zobrist.mix(hash ^ Zobrist.COLUMN[column]);
+            _canonicalTableauHash += Zobrist.mix(hash);
+        }
+
+        _foundationHash = 0;
+        for(int suite = 0; suite < Card.SUITE_COUNT; ++suite) {
+            for(int rank = 0; rank < _foundation[suite]; ++rank) {
+                _foundationHash ^= Zobrist.FOUNDATION[Card.valueOf(suite, rank)];
+            }
+        }
+
+        _talonHash = 0;
+        for(int i = 0; i < _talonSize; ++i) {
+            _talonHash ^= Zobrist.TALON[_talon[i]];
+        }
+    }
+
+    /**
+     * Copies the contents of the specified state into this state
+     *
+     * @param state The state to copy from, it must have been created using the same options
+     */
+    public void copyFrom(GameState state) {
+        System.arraycopy(state._tableau, 0, _tableau, 0, _tableau.length);
+        System.arraycopy(state._columnSize, 0, _columnSize, 0, TABLEAU_COUNT);
+        System.arraycopy(state._backsideCount, 0, _backsideCount, 0, TABLEAU_COUNT);
+        System.arraycopy(state._foundation, 0, _foundation, 0, Card.SUITE_COUNT);
+        System.arraycopy(state._talon, 0, _talon, 0, TALON_SIZE);
+        _talonSize = state._talonSize;
+        _talonCursor = state._talonCursor;
+        _passes = state._passes;
+        _foundationSize = state._foundationSize;
+        System.arraycopy(state._columnHash, 0, _columnHash, 0, TABLEAU_COUNT);
+        _tableauHash = state._tableauHash;
+        _canonicalTableauHash = state._canonicalTableauHash;
+        _foundationHash = state._foundationHash;
+        _talonHash = state._talonHash;
+    }
+
+    /**
+     * @return A copy of this state
+     */
+    public GameState copy() {
+        GameState state = new GameState(_drawOption, _scoringOption);
+        state.copyFrom(this);
+        return state;
+    }
+
+    /**
+     * Writes a compact snapshot of this state. Only what differs from the deal is written, which is the face up
+     * cards of every tableau pile, the size of every foundation, which of the cards dealt into the talon are still there,
+     * the position of the talon cursor and the number of passes.
+     *
+     * <pre>
+     * snapshot := (backsideCount &lt;&lt; 4 | faceUpCount){7} faceUpCard* foundations:2 talon:3 cursor:1 passes:2
+     * </pre>
+     *
+     * @param deck The deck that this state was dealt from
+     * @param buffer The buffer to write the snapshot into, of at least {@link #SNAPSHOT_CAPACITY} in length
+     *
+     * @return The number of bytes that were written
+     */
+    public int writeSnapshot(byte[] deck, byte[] buffer) {
+        int size = 0;
+        for(int column = 0; column < TABLEAU_COUNT; ++column) {
+            buffer[size++] = (byte)(_backsideCount[column] << 4 | (_columnSize[column] - _backsideCount[column]));
+        }
+        for(int column = 0; column < TABLEAU_COUNT; ++column) {
+            for(int i = _backsideCount[column]; i < _columnSize[column]; ++i) {
+                buffer[size++] = _tableau[column * COLUMN_CAPACITY + i];
+            }
+        }
+
+        buffer[size++] = (byte)(_foundation[0] << 4 | _foundation[1]);
+        buffer[size++] = (byte)(_foundation[2] << 4 | _foundation[3]);
+
+        // The talon only ever loses cards, so what is left of it is marked against the cards that were dealt into it
+        int talon = 0;
+        for(int i = 0, index = 0; i < TALON_SIZE && index < _talonSize; ++i) {
+            if(_talon[index] == deck[Card.DECK_SIZE - 1 - i]) {
+                talon |= 1 << i;
+                ++index;
+            }
+        }
+        buffer[size++] = (byte)talon;
+        buffer[size++] = (byte)(talon >>> 8);
+        buffer[size++] = (byte)(talon >>> 16);
+        buffer[size++] = (byte)_talonCursor;
+        buffer[size++] = (byte)_passes;
+        buffer[size++] = (byte)(_passes >>> 8);
+        return size;
+    }
+
+    /**
+     * Gets the size of a snapshot from its header
+     *
+     * @param buffer The buffer holding at least the first {@link #SNAPSHOT_HEADER_SIZE} bytes of the snapshot
+     *
+     * @return The number of bytes of the snapshot
+     */
+    public static int getSnapshotSize(byte[] buffer) {
+        int size = SNAPSHOT_CAPACITY - Card.DECK_SIZE;
+        for(int column = 0; column < TABLEAU_COUNT; ++column) {
+            size += buffer[column] & 0xF;
+        }
+        return size;
+    }
+
+    /**
+     * Restores this state from a snapshot, discarding the current state
+     *
+     * @param deck The deck that the game of the snapshot was dealt from
+     * @param buffer The buffer holding the snapshot, as written by {@link #writeSnapshot(byte[], byte[])}
+     */
+    public void restoreSnapshot(byte[] deck, byte[] buffer) {
+        // The backside cards of the tableau piles never move, so they are those of the deal
+        deal(deck);
+
+        int size = SNAPSHOT_HEADER_SIZE;
+        for(int column = 0; column < TABLEAU_COUNT; ++column) {
+            int backsideCount = (buffer[column] >>> 4) & 0xF;
+            int faceUpCount = buffer[column] & 0xF;
+            if(backsideCount > column || faceUpCount > Card.RANK_COUNT) {
+                throw new IllegalArgumentException("Invalid snapshot of tableau pile " + column);
+            }
+            _backsideCount[column] = (byte)backsideCount;
+            _columnSize[column] = (byte)(backsideCount + faceUpCount);
+            for(int i = backsideCount; i < _columnSize[column]; ++i) {
+                _tableau[column * COLUMN_CAPACITY + i] = buffer[size++];
+            }
+        }
+
+        _foundationSize = 0;
+        for(int suite = 0; suite < Card.SUITE_COUNT; ++suite) {
+            int foundationSize = (buffer[size + suite / 2] >>> (suite % 2 == 0 ? 4 : 0)) & 0xF;
+            if(foundationSize > Card.RANK_COUNT) {
+                throw new IllegalArgumentException("Invalid snapshot of foundation " + suite);
+            }
+            _foundation[suite] = (byte)foundationSize;
+            _foundationSize += foundationSize;
+        }
+        size += 2;
+
+        int talon = (buffer[size] & 0xFF) | (buffer[size + 1] & 0xFF) << 8 | (buffer[size + 2] & 0xFF) << 16;
+        size += 3;
+        _talonSize = 0;
+        for(int i = 0; i < TALON_SIZE; ++i) {
+            if((talon & 1 << i) != 0) {
+                _talon[_talonSize++] = deck[Card.DECK_SIZE - 1 - i];
+            }
+        }
+        _talonCursor = buffer[size++] & 0xFF;
+        _passes = (buffer[size] & 0xFF) | (buffer[size + 1] & 0xFF) << 8;
+        if(_talonCursor > _talonSize) {
+            throw new IllegalArgumentException("Invalid snapshot of the talon");
+        }
+
+        rehash();
+    }
+
+    /**
+     * @return The draw option of this game
+     */
+    public DrawOption getDrawOption() {
+        return _drawOption;
+    }
+
+    /**
+     * @return The scoring option of this game
+     */
+    public ScoringOption getScoringOption() {
+        return _scoringOption;
+    }
+
+    /**
+     * @return The number of cards that are turned over from the stock at a time
+     */
+    public int getDrawCount() {
+        return _drawCount;
+    }
+
+    /**
+     * @return The number of passes through the stock that are allowed, or {@link #UNLIMITED_PASSES}
+     */
+    public int getPassLimit() {
+        return _passLimit;
+    }
+
+    /**
+     * @param column The tableau pile index, 0 being the left-most pile
+     *
+     * @return The number of cards within the tableau pile
+     */
+    public int getColumnSize(int column) {
+        return _columnSize[column];
+    }
+
+    /**
+     * @param column The tableau pile index
+     *
+     * @return The number of cards within the tableau pile that have their backside showing
+     */
+    public int getBacksideCount(int column) {
+        return _backsideCount[column];
+    }
+
+    /**
+     * @param column The tableau pile index
+     * @param index The index of the card within the pile, 0 being the bottom-most card
+     *
+     * @return The card at the specified position
+     */
+    public byte getTableauCard(int column, int index) {
+        return _tableau[column * COLUMN_CAPACITY + index];
+    }
+
+    /**
+     * @param column The tableau pile index
+     *
+     * @return The top-most card of the tableau pile, or {@link Card#NONE} if the pile is empty
+     */
+    public byte getColumnTop(int column) {
+        int size = _columnSize[column];
+        return size == 0 ? Card.NONE : _tableau[column * COLUMN_CAPACITY + size - 1];
+    }
+
+    /**
+     * @param suite The suite of the foundation
+     *
+     * @return The number of cards held by the foundation
+     */
+    public int getFoundationSize(int suite) {
+        return _foundation[suite];
+    }
+
+    /**
+     * @param suite The suite of the foundation
+     *
+     * @return The top-most card of the foundation, or {@link Card#NONE} if the foundation is empty
+     */
+    public byte getFoundationTop(int suite) {
+        int size = _foundation[suite];
+        return size == 0 ? Card.NONE : Card.valueOf(suite, size - 1);
+    }
+
+    /**
+     * @return The number of cards held by the talon, both turned over and not
+     */
+    public int getTalonSize() {
+        return _talonSize;
+    }
+
+    /**
+     * @param index The index within the talon, in drawing order
+     *
+     * @return The card at the specified index
+     */
+    public byte getTalonCard(int index) {
+        return _talon[index];
+    }
+
+    /**
+     * @return The number of talon cards that have been turned over from the stock
+     */
+    public int getTalonCursor() {
+        return _talonCursor;
+    }
+
+    /**
+     * @return The number of cards that can still be turned over from the stock
+     */
+    public int getStockSize() {
+        return _talonSize - _talonCursor;
+    }
+
+    /**
+     * @return The top-most card that was turned over from the stock, or {@link Card#NONE} if there is none
+     */
+    public byte getTalonTop() {
+        return _talonCursor == 0 ? Card.NONE : _talon[_talonCursor - 1];
+    }
+
+    /**
+     * @return The number of times that the stock was recycled
+     */
+    public int getPasses() {
+        return _passes;
+    }
+
+    /**
+     * @return TRUE if every card is within the foundations, FALSE otherwise
+     */
+    public boolean isWon() {
+        return _foundationSize == Card.DECK_SIZE;
+    }
+
+    /**
+     * Gets the Zobrist hash of this state, which is kept up to date as moves are applied and reverted.
+     *
+     * Note: The number of passes is only part of the hash when the passes are limited, since
+     * otherwise recycling the stock does not change what can be played
+     *
+     * @return The hash of this state
+     */
+    public long hash() {
+        return _tableauHash ^ getNonTableauHash();
+    }
+
+    /**
+     * Gets the canonical Zobrist hash of this state. The canonical hash ignores the order of the tableau piles and
+     * which of the piles are empty, so that states that only differ by the position of their piles share the same hash
+     *
+     * @return The canonical hash of this state
+     */
+    public long canonicalHash() {
+        return _canonicalTableauHash ^ getNonTableauHash();
+    }
+
+    /**
+     * @return The Zobrist hash of everything but the tableau piles
+     */
+    private long getNonTableauHash() {
+        long hash = _foundationHash ^ _talonHash ^ Zobrist.TALON_CURSOR[_talonCursor];
+        if(_passLimit != UNLIMITED_PASSES) {
+            hash ^= Zobrist.PASSES[_passes];
+        }
+        return hash;
+    }
+
+    /**
+     * Indicates if the specified card can be put onto the specified tableau pile. An empty pile only accepts
+     * a king, otherwise the same rule as {@code CardModel.isCardBeforeAndOppositeSuite} is applied
+     *
+     * @param card The card being moved
+     * @param column The tableau pile index
+     *
+     * @return TRUE if the move is valid, FALSE otherwise
+     */
+    public boolean isValidTableauMove(byte card, int column) {
+        int size = _columnSize[column];
+        if(size == 0) {
+            return Card.isCardKing(card);
+        }
+        return size > _backsideCount[column] && Card.isCardBeforeAndOppositeSuite(_tableau[column * COLUMN_CAPACITY + size - 1], card);
+    }
+
+    /**
+     * Indicates if the specified card can be put onto its foundation. An empty foundation only accepts
+     * an ace, otherwise the same rule as {@code CardController.isValidFoundationMove} is applied
+     *
+     * @param card The card being moved
+     *
+     * @return TRUE if the move is valid, FALSE otherwise
+     */
+    public boolean isValidFoundationMove(byte card) {
+        return _foundation[Card.suite(card)] == Card.rank(card);
+    }
+
+    /**
+     * @param column The tableau pile index
+     *
+     * @return The number of cards at the top of the tableau pile that do not have their backside showing
+     */
+    public int getFaceUpCount(int column) {
+        return _columnSize[column] - _backsideCount[column];
+    }
+
+    /**
+     * @return TRUE if the stock can be recycled back into the talon, FALSE otherwise
+     */
+    public boolean canRecycleStock() {
+        return _talonCursor == _talonSize && _talonSize > 0 && (_passLimit == UNLIMITED_PASSES || _passes + 1 < _passLimit);
+    }
+
+    /**
+     * Moves the specified number of cards from the top of a tableau pile onto another tableau pile
+     *
+     * @param from The source tableau pile index
+     * @param to The destination tableau pile index
+     * @param count The number of cards being moved
+     */
+    public void moveTableauToTableau(int from, int to, int count) {
+        int fromSize = _columnSize[from] - count;
+        int toSize = _columnSize[to];
+        int index = from * COLUMN_CAPACITY + fromSize;
+        System.arraycopy(_tableau, index, _tableau, to * COLUMN_CAPACITY + toSize, count);
+        _columnSize[from] = (byte)fromSize;
+        _columnSize[to] = (byte)(toSize + count);
+
+        // The cards of a run are keyed without their position, so the run moves as a single key
+        long hash = 0;
+        for(int i = index, end = index + count; i < end; ++i) {
+            hash ^= Zobrist.TABLEAU[_tableau[i]];
+        }
+        updateColumnHash(from, hash);
+        updateColumnHash(to, hash);
+    }
+
+    /**
+     * Moves the top-most card of the tableau pile onto its foundation
+     *
+     * @param column The tableau pile index
+     */
+    public void moveTableauToFoundation(int column) {
+        pushFoundation(pop(column));
+    }
+
+    /**
+     * Moves the top-most card of the talon onto the tableau pile
+     *
+     * @param column The tableau pile index
+     */
+    public void moveTalonToTableau(int column) {
+        push(column, removeTalonTop());
+    }
+
+    /**
+     * Moves the top-most card of the talon onto its foundation
+     */
+    public void moveTalonToFoundation() {
+        pushFoundation(removeTalonTop());
+    }
+
+    /**
+     * Moves the top-most card of a foundation back onto the tableau pile
+     *
+     * @param suite The suite of the foundation
+     * @param column The tableau pile index
+     */
+    public void moveFoundationToTableau(int suite, int column) {
+        push(column, removeFoundationTop(suite));
+    }
+
+    /**
+     * Uncovers the backside of the top-most card of the tableau pile
+     *
+     * @param column The tableau pile index
+     */
+    public void uncoverBackside(int column) {
+        byte card = _tableau[column * COLUMN_CAPACITY + --_backsideCount[column]];
+        updateColumnHash(column, Zobrist.BACKSIDE[card] ^ Zobrist.TABLEAU[card]);
+    }
+
+    /**
+     * Turns over the next cards from the stock
+     *
+     * @return The number of cards that were turned over
+     */
+    public int cycleNextHand() {
+        int count = Math.min(_drawCount, _talonSize - _talonCursor);
+        _talonCursor += count;
+        return count;
+    }
+
+    /**
+     * Recycles the talon back into the stock
+     */
+    public void recycleStock() {
+        _talonCursor = 0;
+        ++_passes;
+    }
+
+    /**
+     * Applies the specified move onto this state. The move is expected to have been validated, typically
+     * by having been listed by the {@link MoveGenerator}
+     *
+     * @param move The encoded move
+     *
+     * @return The move that was applied, which holds everything needed to revert it
+     */
+    public int apply(int move) {
+        switch(Move.type(move)) {
+        case Move.DRAW:
+            return Move.withCount(move, cycleNextHand());
+        case Move.RECYCLE:
+            recycleStock();
+            break;
+        case Move.TALON_TO_TABLEAU:
+            moveTalonToTableau(Move.to(move));
+            break;
+        case Move.TALON_TO_FOUNDATION:
+            moveTalonToFoundation();
+            break;
+        case Move.TABLEAU_TO_TABLEAU:
+            moveTableauToTableau(Move.from(move), Move.to(move), Move.count(move));
+            break;
+        case Move.TABLEAU_TO_FOUNDATION:
+            moveTableauToFoundation(Move.from(move));
+            break;
+        case Move.FOUNDATION_TO_TABLEAU:
+            moveFoundationToTableau(Move.from(move), Move.to(move));
+            break;
+        case Move.UNCOVER:
+            uncoverBackside(Move.from(move));
+            break;
+        }
+        return move;
+    }
+
+    /**
+     * Reverts the specified move from this state
+     *
+     * @param move The move that was returned by {@link #apply(int)}, it must be the last move that was applied
+     */
+    public void revert(int move) {
+        switch(Move.type(move)) {
+        case Move.DRAW:
+            _talonCursor -= Move.count(move);
+            break;
+        case Move.RECYCLE:
+            _talonCursor = _talonSize;
+            --_passes;
+            break;
+        case Move.TALON_TO_TABLEAU:
+            insertTalonTop(pop(Move.to(move)));
+            break;
+        case Move.TALON_TO_FOUNDATION:
+            insertTalonTop(removeFoundationTop(Move.to(move)));
+            break;
+        case Move.TABLEAU_TO_TABLEAU:
+            moveTableauToTableau(Move.to(move), Move.from(move), Move.count(move));
+            break;
+        case Move.TABLEAU_TO_FOUNDATION:
+            push(Move.from(move), removeFoundationTop(Move.to(move)));
+            break;
+        case Move.FOUNDATION_TO_TABLEAU:
+            pushFoundation(pop(Move.to(move)));
+            break;
+        case Move.UNCOVER: {
+            int column = Move.from(move);
+            byte card = _tableau[column * COLUMN_CAPACITY + _backsideCount[column]++];
+            updateColumnHash(column, Zobrist.BACKSIDE[card] ^ Zobrist.TABLEAU[card]);
+            break;
+        }
+        }
+    }
+
+    /**
+     * Pushes the specified card onto the top of the tableau pile
+     *
+     * @param column The tableau pile index
+     * @param card The card
+     */
+    private void push(int column, byte card) {
+        int size = _columnSize[column];
+        _tableau[column * COLUMN_CAPACITY + size] = card;
+        _columnSize[column] = (byte)(size + 1);
+        updateColumnHash(column, Zobrist.TABLEAU[card]);
+    }
+
+    /**
+     * Removes the top-most card of the tableau pile
+     *
+     * @param column The tableau pile index
+     *
+     * @return The card that was removed
+     */
+    private byte pop(int column) {
+        int size = _columnSize[column] - 1;
+        _columnSize[column] = (byte)size;
+        byte card = _tableau[column * COLUMN_CAPACITY + size];
+        updateColumnHash(column, Zobrist.TABLEAU[card]);
+        return card;
+    }
+
+    /**
+     * Toggles the specified keys within the hash of the tableau pile
+     *
+     * @param column The tableau pile index
+     * @param keys The keys to toggle
+     */
+    private void updateColumnHash(int column, long keys) {
+        long previous = _columnHash[column];
+        long hash = previous ^ keys;
+        _columnHash[column] = hash;
+        _tableauHash += Zobrist.mix(hash ^ Zobrist.COLUMN[column]) - Zobrist.mix(previous ^ Zobrist.COLUMN[column]);
+        _canonicalTableauHash += Zobrist.mix(hash) - Zobrist.mix(previous);
+    }
+
+    /**
+     * Pushes the specified card onto its foundation
+     *
+     * @param card The card
+     */
+    private void pushFoundation(byte card) {
+        ++_foundation[Card.suite(card)];
+        ++_foundationSize;
+        _foundationHash ^= Zobrist.FOUNDATION[card];
+    }
+
+    /**
+     * Removes the top-most card of the foundation
+     *
+     * @param suite The suite of the foundation
+     *
+     * @return The card that was removed
+     */
+    private byte removeFoundationTop(int suite) {
+        --_foundationSize;
+        byte card = Card.valueOf(suite, --_foundation[suite]);
+        _foundationHash ^= Zobrist.FOUNDATION[card];
+        return card;
+    }
+
+    /**
+     * Inserts the specified card back as the top-most card of the talon
+     *
+     * @param card The card
+     */
+    private void insertTalonTop(byte card) {
+        int index = _talonCursor++;
+        System.arraycopy(_talon, index, _talon, index + 1, _talonSize - index);
+        _talon[index] = card;
+        ++_talonSize;
+        _talonHash ^= Zobrist.TALON[card];
+    }
+
+    /**
+     * Removes the top-most card of the talon
+     *
+     * @return The card that was removed
+     */
+    private byte removeTalonTop() {
+        int index = --_talonCursor;
+        byte card = _talon[index];
+        System.arraycopy(_talon, index + 1, _talon, index, _talonSize - index - 1);
+        --_talonSize;
+        _talonHash ^= Zobrist.TALON[card];
+        return card;
+    }
+
+    @Override public String toString() {
+        StringBuilder builder = new StringBuilder();
+        String header = "=========" + this.getClass().getSimpleName() + "=========";
+        builder.append(header + System.getProperty("line.separator"));
+        builder.append("Stock:");
+        for(int i = _talonSize - 1; i >= _talonCursor; --i) {
+            builder.append(" " + Card.toString(_talon[i]));
+        }
+        builder.append(System.getProperty("line.separator"));
+        builder.append("Talon:");
+        for(int i = 0; i < _talonCursor; ++i) {
+            builder.append(" " + Card.toString(_talon[i]));
+        }
+        builder.append(System.getProperty("line.separator"));
+        builder.append("Foundations:");
+        for(int suite = 0; suite < Card.SUITE_COUNT; ++suite) {
+            builder.append(" " + Card.toString(getFoundationTop(suite)));
+        }
+        builder.append(System.getProperty("line.separator"));
+        for(int column = 0; column < TABLEAU_COUNT; ++column) {
+            builder.append("Tableau " + column + ":");
+            for(int i = 0; i < _columnSize[column]; ++i) {
+                String card = Card.toString(getTableauCard(column, i));
+                builder.append(" " + (i < _backsideCount[column] ? "[" + card + "]" : card));
+            }
+            builder.append(System.getProperty("line.separator"));
+        }
+        builder.append("Passes: " + _passes + System.getProperty("line.separator"));
+        builder.append(new String(new char[header.length()]).replace("\0", "="));
+        return builder.toString();
+    }
+}
\ No newline at end of file
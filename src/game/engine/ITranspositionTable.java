@@ -0,0 +1,57 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2019 Daniel Ricci {@literal <thedanny09@icloud.com>}
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package game.engine;
+
+/**
+ * Set of the state hashes that were already visited by a search
+ * 
+ * @author Daniel Ricci {@literal <thedanny09@icloud.com>}
+ */
+public interface ITranspositionTable {
+
+    /**
+     * Adds the specified hash to this table
+     *
+     * @param hash The hash of the state
+     *
+     * @return TRUE if the hash was added, FALSE if the hash was already held by this table
+     */
+    boolean add(long hash);
+
+    /**
+     * @return The number of entries held by this table
+     */
+    int size();
+
+    /**
+     * @return The number of entries that this table can hold
+     */
+    int capacity();
+
+    /**
+     * Removes every entry of this table
+     */
+    void clear();
+}
\ No newline at end of file
@@ -0,0 +1,187 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2019 Daniel Ricci {@literal <thedanny09@icloud.com>}
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package game.engine;
+
+/**
+ * Primitive encoding of a single move. A move is stored as one int where the lowest nibble is
+ * the type of move, followed by the source index, the destination index and the number of cards involved.
+ *
+ * The source and destination indexes are tableau pile indexes or foundation suites depending on the type of move.
+ *
+ * @author Daniel Ricci {@literal <thedanny09@icloud.com>}
+ */
+public final class Move {
+
+    /**
+     * Value used to represent the absence of a move
+     */
+    public static final int NONE = 0;
+
+    /**
+     * Turns over the next cards from the stock
+     */
+    public static final int DRAW = 1;
+
+    /**
+     * Recycles the talon back into the stock
+     */
+    public static final int RECYCLE = 2;
+
+    /**
+     * Moves the top-most card of the talon onto a tableau pile
+     */
+    public static final int TALON_TO_TABLEAU = 3;
+
+    /**
+     * Moves the top-most card of the talon onto its foundation, the destination being the suite of the foundation
+     */
+    public static final int TALON_TO_FOUNDATION = 4;
+
+    /**
+     * Moves one or more cards from a tableau pile onto another tableau pile
+     */
+    public static final int TABLEAU_TO_TABLEAU = 5;
+
+    /**
+     * Moves the top-most card of a tableau pile onto its foundation, the destination being the suite of the foundation
+     */
+    public static final int TABLEAU_TO_FOUNDATION = 6;
+
+    /**
+     * Moves the top-most card of a foundation back onto a tableau pile, the source being the suite of the foundation
+     */
+    public static final int FOUNDATION_TO_TABLEAU = 7;
+
+    /**
+     * Uncovers the backside of the top-most card of a tableau pile
+     */
+    public static final int UNCOVER = 8;
+
+    /**
+     * The number of bits used by the encoding of a move
+     */
+    public static final int BITS = 17;
+
+    /**
+     * The mask of the bits used by the encoding of a move
+     */
+    public static final int MASK = (1 << BITS) - 1;
+
+    /**
+     * Constructs a new instance of this class type
+     */
+    private Move() {
+    }
+
+    /**
+     * Encodes a move
+     *
+     * @param type The type of move
+     * @param from The source index
+     * @param to The destination index
+     * @param count The number of cards involved
+     *
+     * @return The encoded move
+     */
+    public static int valueOf(int type, int from, int to, int count) {
+        return type | (from << 4) | (to << 8) | (count << 12);
+    }
+
+    /**
+     * @param move The encoded move
+     *
+     * @return The type of the move
+     */
+    public static int type(int move) {
+        return move & 0xF;
+    }
+
+    /**
+     * @param move The encoded move
+     *
+     * @return The source index of the move
+     */
+    public static int from(int move) {
+        return (move >>> 4) & 0xF;
+    }
+
+    /**
+     * @param move The encoded move
+     *
+     * @return The destination index of the move
+     */
+    public static int to(int move) {
+        return (move >>> 8) & 0xF;
+    }
+
+    /**
+     * @param move The encoded move
+     *
+     * @return The number of cards involved in the move
+     */
+    public static int count(int move) {
+        return (move >>> 12) & 0x1F;
+    }
+
+    /**
+     * Sets the number of cards involved in the move
+     *
+     * @param move The encoded move
+     * @param count The number of cards involved
+     *
+     * @return The encoded move
+     */
+    public static int withCount(int move, int count) {
+        return (move & ~(0x1F << 12)) | (count << 12);
+    }
+
+    /**
+     * @param move The encoded move
+     *
+     * @return The readable representation of the move
+     */
+    public static String toString(int move) {
+        switch(type(move)) {
+        case DRAW:
+            return "DRAW " + count(move);
+        case RECYCLE:
+            return "RECYCLE";
+        case TALON_TO_TABLEAU:
+            return "TALON -> T" + to(move);
+        case TALON_TO_FOUNDATION:
+            return "TALON -> F" + "HCDS".charAt(to(move));
+        case TABLEAU_TO_TABLEAU:
+            return "T" + from(move) + " -> T" + to(move) + " x" + count(move);
+        case TABLEAU_TO_FOUNDATION:
+            return "T" + from(move) + " -> F" + "HCDS".charAt(to(move));
+        case FOUNDATION_TO_TABLEAU:
+            return "F" + "HCDS".charAt(from(move)) + " -> T" + to(move);
+        case UNCOVER:
+            return "UNCOVER T" + from(move);
+        default:
+            return "NONE";
+        }
+    }
+}
\ No newline at end of file
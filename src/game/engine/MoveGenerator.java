@@ -0,0 +1,139 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2019 Daniel Ricci {@literal <thedanny09@icloud.com>}
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package game.engine;
+
+/**
+ * Lists every legal move of a game state into a buffer provided by the caller. Nothing is allocated
+ * while generating moves, so that the same buffer can be reused throughout a search.
+ *
+ * Note: The cards of a tableau pile that do not have their backside showing always form an alternating
+ * sequence, which allows the length of a run to be computed from the ranks instead of being searched for.
+ *
+ * @author Daniel Ricci {@literal <thedanny09@icloud.com>}
+ */
+public final class MoveGenerator {
+
+    /**
+     * The maximum number of moves that can be generated from any state, used to size the move buffers
+     */
+    public static final int MAX_MOVES =
+        GameState.TABLEAU_COUNT * (GameState.TABLEAU_COUNT - 1)     // tableau to tableau
+        + GameState.TABLEAU_COUNT * 2                               // tableau to foundation and uncovering
+        + 1 + GameState.TABLEAU_COUNT                               // talon to foundation and tableau
+        + Card.SUITE_COUNT * GameState.TABLEAU_COUNT                // foundation to tableau
+        + 1;                                                        // stock draw or recycle
+
+    /**
+     * Constructs a new instance of this class type
+     */
+    private MoveGenerator() {
+    }
+
+    /**
+     * Generates every legal move of the specified state
+     *
+     * @param state The game state
+     * @param moves The buffer to write the moves into, of at least {@link #MAX_MOVES} in length
+     *
+     * @return The number of moves that were written into the buffer
+     */
+    public static int generate(GameState state, int[] moves) {
+        int size = 0;
+
+        for(int from = 0; from < GameState.TABLEAU_COUNT; ++from) {
+            int columnSize = state.getColumnSize(from);
+            if(columnSize == 0) {
+                continue;
+            }
+
+            int faceUpCount = state.getFaceUpCount(from);
+            if(faceUpCount == 0) {
+                moves[size++] = Move.valueOf(Move.UNCOVER, from, 0, 0);
+                continue;
+            }
+
+            byte top = state.getColumnTop(from);
+            if(state.isValidFoundationMove(top)) {
+                moves[size++] = Move.valueOf(Move.TABLEAU_TO_FOUNDATION, from, Card.suite(top), 1);
+            }
+
+            for(int to = 0; to < GameState.TABLEAU_COUNT; ++to) {
+                if(to == from) {
+                    continue;
+                }
+
+                // The rank of the card that the destination accepts dictates the length of the run
+                int count;
+                byte destination = state.getColumnTop(to);
+                if(destination == Card.NONE) {
+                    count = Card.KING - Card.rank(top) + 1;
+                }
+                else if(state.getFaceUpCount(to) > 0) {
+                    count = Card.rank(destination) - Card.rank(top);
+                }
+                else {
+                    continue;
+                }
+
+                if(count >= 1 && count <= faceUpCount && state.isValidTableauMove(state.getTableauCard(from, columnSize - count), to)) {
+                    moves[size++] = Move.valueOf(Move.TABLEAU_TO_TABLEAU, from, to, count);
+                }
+            }
+        }
+
+        byte talonTop = state.getTalonTop();
+        if(talonTop != Card.NONE) {
+            if(state.isValidFoundationMove(talonTop)) {
+                moves[size++] = Move.valueOf(Move.TALON_TO_FOUNDATION, 0, Card.suite(talonTop), 1);
+            }
+            for(int to = 0; to < GameState.TABLEAU_COUNT; ++to) {
+                if(state.isValidTableauMove(talonTop, to)) {
+                    moves[size++] = Move.valueOf(Move.TALON_TO_TABLEAU, 0, to, 1);
+                }
+            }
+        }
+
+        for(int suite = 0; suite < Card.SUITE_COUNT; ++suite) {
+            byte card = state.getFoundationTop(suite);
+            if(card == Card.NONE) {
+                continue;
+            }
+            for(int to = 0; to < GameState.TABLEAU_COUNT; ++to) {
+                if(state.isValidTableauMove(card, to)) {
+                    moves[size++] = Move.valueOf(Move.FOUNDATION_TO_TABLEAU, suite, to, 1);
+                }
+            }
+        }
+
+        if(state.getStockSize() > 0) {
+            moves[size++] = Move.valueOf(Move.DRAW, 0, 0, 0);
+        }
+        else if(state.canRecycleStock()) {
+            moves[size++] = Move.valueOf(Move.RECYCLE, 0, 0, 0);
+        }
+
+        return size;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,284 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2019 Daniel Ricci {@literal <thedanny09@icloud.com>}
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package game.engine;
+
+/**
+ * Log of the moves that were played during a game, supporting an unlimited number of undo and redo operations.
+ *
+ * Every entry is a single integer holding the encoded {@link Move} as it was applied, a small data value that
+ * the owner of the log can use to remember how the move was laid out, and the score that the move was given so that
+ * undoing it takes back exactly what was given. The entries are held within a ring buffer that grows when it is full,
+ * so recording a move never allocates unless the buffer has to grow, and a log can be given a maximum size after which the
+ * oldest entries are dropped.
+ *
+ * @author Daniel Ricci {@literal <thedanny09@icloud.com>}
+ */
+public final class MoveLog {
+
+    /**
+     * Value used to indicate that the number of entries is unlimited
+     */
+    public static final int UNLIMITED = 0;
+
+    /**
+     * The number of bits used by the data of an entry
+     */
+    public static final int DATA_BITS = 7;
+
+    /**
+     * The smallest score that an entry can hold
+     */
+    public static final int MIN_SCORE = Byte.MIN_VALUE;
+
+    /**
+     * The largest score that an entry can hold
+     */
+    public static final int MAX_SCORE = Byte.MAX_VALUE;
+
+    /**
+     * The default number of entries that the buffer can hold before having to grow
+     */
+    private static final int DEFAULT_CAPACITY = 256;
+
+    /**
+     * The bit offset of the data within an entry
+     */
+    private static final int DATA_SHIFT = Move.BITS;
+
+    /**
+     * The bit offset of the score within an entry
+     */
+    private static final int SCORE_SHIFT = Move.BITS + DATA_BITS;
+
+    /**
+     * The maximum number of entries that are kept, or {@link #UNLIMITED}
+     */
+    private final int _maximumSize;
+
+    /**
+     * The entries, starting at the head and wrapping around the end of the buffer
+     */
+    private int[] _entries;
+
+    /**
+     * The index within the buffer of the oldest entry
+     */
+    private int _head;
+
+    /**
+     * The number of entries that are currently applied
+     */
+    private int _size;
+
+    /**
+     * The number of entries that were recorded, which includes the entries that were undone and can be redone
+     */
+    private int _limit;
+
+    /**
+     * Constructs a new instance of this class type
+     */
+    public MoveLog() {
+        this(UNLIMITED);
+    }
+
+    /**
+     * Constructs a new instance of this class type. Once the log holds the maximum number of entries, recording
+     * a new entry drops the oldest one, which can then no longer be undone
+     *
+     * @param maximumSize The maximum number of entries that are kept, or {@link #UNLIMITED}
+     */
+    public MoveLog(int maximumSize) {
+        _maximumSize = maximumSize;
+        _entries = new int[maximumSize == UNLIMITED ? DEFAULT_CAPACITY : Math.min(Math.max(maximumSize, 1), DEFAULT_CAPACITY)];
+    }
+
+    /**
+     * Encodes an entry of the log
+     *
+     * @param move The encoded move, as it was applied
+     * @param data The data of the move, between 0 and {@code (1 << DATA_BITS) - 1}
+     * @param score The score that the move was given, between {@link #MIN_SCORE} and {@link #MAX_SCORE}
+     *
+     * @return The encoded entry
+     */
+    public static int valueOf(int move, int data, int score) {
+        return (move & Move.MASK) | (data << DATA_SHIFT) | (score << SCORE_SHIFT);
+    }
+
+    /**
+     * @param entry The encoded entry
+     *
+     * @return The encoded move of the entry
+     */
+    public static int move(int entry) {
+        return entry & Move.MASK;
+    }
+
+    /**
+     * @param entry The encoded entry
+     *
+     * @return The data of the entry
+     */
+    public static int data(int entry) {
+        return (entry >>> DATA_SHIFT) & ((1 << DATA_BITS) - 1);
+    }
+
+    /**
+     * @param entry The encoded entry
+     *
+     * @return The score of the entry
+     */
+    public static int score(int entry) {
+        return entry >> SCORE_SHIFT;
+    }
+
+    /**
+     * Records the specified entry after the entries that are currently applied. Any entry that could have
+     * been redone is discarded
+     *
+     * @param entry The encoded entry
+     */
+    public void push(int entry) {
+        if(_size == _entries.length) {
+            if(_maximumSize == UNLIMITED || _size < _maximumSize) {
+                grow();
+            }
+            else {
+                // The buffer is at its maximum size, so the oldest entry makes room for the new one
+                _head = index(1);
+                --_size;
+            }
+        }
+        _entries[index(_size++)] = entry;
+        _limit = _size;
+    }
+
+    /**
+     * Undoes the last entry that is applied
+     *
+     * @return The entry that was undone
+     */
+    public int undo() {
+        if(!canUndo()) {
+            throw new IllegalStateException("There is no entry to undo");
+        }
+        return _entries[index(--_size)];
+    }
+
+    /**
+     * Redoes the last entry that was undone
+     *
+     * @return The entry that was redone
+     */
+    public int redo() {
+        if(!canRedo()) {
+            throw new IllegalStateException("There is no entry to redo");
+        }
+        return _entries[index(_size++)];
+    }
+
+    /**
+     * @return TRUE if there is an entry that can be undone, FALSE otherwise
+     */
+    public boolean canUndo() {
+        return _size > 0;
+    }
+
+    /**
+     * @return TRUE if there is an entry that can be redone, FALSE otherwise
+     */
+    public boolean canRedo() {
+        return _size < _limit;
+    }
+
+    /**
+     * @return The number of entries that are currently applied
+     */
+    public int size() {
+        return _size;
+    }
+
+    /**
+     * @param index The index of the entry, 0 being the oldest entry
+     *
+     * @return The entry
+     */
+    public int get(int index) {
+        if(index < 0 || index >= _limit) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Limit: " + _limit);
+        }
+        return _entries[index(index)];
+    }
+
+    /**
+     * Replaces the specified entry
+     *
+     * @param index The index of the entry, 0 being the oldest entry
+     * @param entry The encoded entry
+     */
+    public void set(int index, int entry) {
+        if(index < 0 || index >= _limit) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Limit: " + _limit);
+        }
+        _entries[index(index)] = entry;
+    }
+
+    /**
+     * Removes every entry of this log
+     */
+    public void clear() {
+        _head = 0;
+        _size = 0;
+        _limit = 0;
+    }
+
+    /**
+     * @param index The index of the entry, 0 being the oldest entry
+     *
+     * @return The index within the buffer of the entry
+     */
+    private int index(int index) {
+        int position = _head + index;
+        return position < _entries.length ? position : position - _entries.length;
+    }
+
+    /**
+     * Doubles the capacity of the buffer without going over the maximum size, unrolling the entries so that the oldest entry is at the start
+     */
+    private void grow() {
+        int capacity = _entries.length * 2;
+        if(_maximumSize != UNLIMITED) {
+            capacity = Math.min(capacity, _maximumSize);
+        }
+
+        int[] entries = new int[capacity];
+        for(int i = 0; i < _limit; ++i) {
+            entries[i] = _entries[index(i)];
+        }
+        _entries = entries;
+        _head = 0;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,228 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2019 Daniel Ricci {@literal <thedanny09@icloud.com>}
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package game.engine;
+
+/**
+ * Orders and prunes the moves listed by the {@link MoveGenerator} so that searches look at the most promising moves first.
+ *
+ * A move is forced when it can never hurt, such as uncovering a backside or putting a card onto its foundation
+ * when no card of the opposite color could still need it. Moves of a tableau run that do not move the whole run are only
+ * kept when the card that they leave on top can be played, either onto its foundation or by taking the top-most card of
+ * the talon, of a foundation or the base of the face up run of another tableau pile, since otherwise they only shuffle
+ * the same cards between piles.
+ *
+ * @author Daniel Ricci {@literal <thedanny09@icloud.com>}
+ */
+public final class MoveOrdering {
+
+    /**
+     * The priority of a move that puts a card onto its foundation
+     */
+    private static final int PRIORITY_FOUNDATION = 6;
+
+    /**
+     * The priority of a move that leaves a backside at the top of a tableau pile
+     */
+    private static final int PRIORITY_UNCOVER = 5;
+
+    /**
+     * The priority of a move that frees a card
+     */
+    private static final int PRIORITY_FREE = 4;
+
+    /**
+     * The priority of a move that empties a tableau pile
+     */
+    private static final int PRIORITY_EMPTY = 3;
+
+    /**
+     * The priority of a move of the stock
+     */
+    private static final int PRIORITY_STOCK = 2;
+
+    /**
+     * The priority of a move that takes a card back from its foundation
+     */
+    private static final int PRIORITY_FOUNDATION_BACK = 1;
+
+    /**
+     * Value used to indicate that a move should be pruned
+     */
+    private static final int PRUNED = -1;
+
+    /**
+     * Constructs a new instance of this class type
+     */
+    private MoveOrdering() {
+    }
+
+    /**
+     * Orders and prunes the specified moves in place
+     *
+     * @param state The game state that the moves were generated from
+     * @param moves The moves that were generated
+     * @param count The number of moves that were generated
+     *
+     * @return The number of moves that remain, the remaining moves being at the start of the buffer
+     */
+    public static int order(GameState state, int[] moves, int count) {
+        int size = 0;
+        for(int i = 0; i < count; ++i) {
+            int move = moves[i];
+            if(isForced(state, move)) {
+                moves[0] = move;
+                return 1;
+            }
+
+            int priority = getPriority(state, move);
+            if(priority == PRUNED) {
+                continue;
+            }
+
+            // Insert the move while keeping the buffer sorted from highest to lowest priority
+            int key = (priority << Move.BITS) | move;
+            int index = size++;
+            while(index > 0 && moves[index - 1] < key) {
+                moves[index] = moves[index - 1];
+                --index;
+            }
+            moves[index] = key;
+        }
+
+        for(int i = 0; i < size; ++i) {
+            moves[i] &= Move.MASK;
+        }
+        return size;
+    }
+
+    /**
+     * Indicates if the specified card can be put onto its foundation without ever having to be taken back
+     *
+     * @param state The game state
+     * @param card The card
+     *
+     * @return TRUE if the card is safe to put onto its foundation, FALSE otherwise
+     */
+    public static boolean isSafeFoundationMove(GameState state, byte card) {
+        int rank = Card.rank(card);
+        if(rank <= Card.ACE + 1) {
+            return true;
+        }
+
+        // Both cards of the opposite color that could be put over this card must already be on their foundations
+        int suite = Card.suite(card);
+        return state.getFoundationSize((suite + 1) & 3) >= rank && state.getFoundationSize((suite + 3) & 3) >= rank;
+    }
+
+    /**
+     * @param state The game state
+     * @param move The move
+     *
+     * @return TRUE if the move should be played without looking at any other move, FALSE otherwise
+     */
+    private static boolean isForced(GameState state, int move) {
+        switch(Move.type(move)) {
+        case Move.UNCOVER:
+            return true;
+        case Move.TABLEAU_TO_FOUNDATION:
+            return isSafeFoundationMove(state, state.getColumnTop(Move.from(move)));
+        case Move.TALON_TO_FOUNDATION:
+            return isSafeFoundationMove(state, state.getTalonTop());
+        default:
+            return false;
+        }
+    }
+
+    /**
+     * Indicates if the specified card, once left on top of its tableau pile, could take a card that is in play. The cards
+     * in play are the top-most card of the talon, the top-most card of every foundation and the base of the face up run
+     * of every other tableau pile, which is the card that has to move for that run to be played onto another pile
+     *
+     * @param state The game state
+     * @param card The card left on top of its tableau pile
+     * @param column The tableau pile index of the card
+     *
+     * @return TRUE if the card could take a card that is in play, FALSE otherwise
+     */
+    private static boolean canTakeCard(GameState state, byte card, int column) {
+        byte talonTop = state.getTalonTop();
+        if(talonTop != Card.NONE && Card.isCardBeforeAndOppositeSuite(card, talonTop)) {
+            return true;
+        }
+
+        for(int suite = 0; suite < Card.SUITE_COUNT; ++suite) {
+            byte foundationTop = state.getFoundationTop(suite);
+            if(foundationTop != Card.NONE && Card.isCardBeforeAndOppositeSuite(card, foundationTop)) {
+                return true;
+            }
+        }
+
+        for(int other = 0; other < GameState.TABLEAU_COUNT; ++other) {
+            if(other != column && state.getFaceUpCount(other) > 0 && Card.isCardBeforeAndOppositeSuite(card, state.getTableauCard(other, state.getBacksideCount(other)))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param state The game state
+     * @param move The move
+     *
+     * @return The priority of the move, or {@link #PRUNED} if the move should not be played
+     */
+    private static int getPriority(GameState state, int move) {
+        switch(Move.type(move)) {
+        case Move.TABLEAU_TO_FOUNDATION:
+        case Move.TALON_TO_FOUNDATION:
+            return PRIORITY_FOUNDATION;
+        case Move.TABLEAU_TO_TABLEAU: {
+            int from = Move.from(move);
+            int count = Move.count(move);
+            int columnSize = state.getColumnSize(from);
+            if(count == state.getFaceUpCount(from)) {
+                if(count < columnSize) {
+                    return PRIORITY_UNCOVER;
+                }
+                // Moving a whole pile onto an empty pile changes nothing
+                return state.getColumnSize(Move.to(move)) == 0 ? PRUNED : PRIORITY_EMPTY;
+            }
+
+            // Part of a run is only worth moving if the card that it leaves on top can be played
+            byte exposed = state.getTableauCard(from, columnSize - count - 1);
+            return state.isValidFoundationMove(exposed) || canTakeCard(state, exposed, from) ? PRIORITY_FREE : PRUNED;
+        }
+        case Move.TALON_TO_TABLEAU:
+            return PRIORITY_FREE;
+        case Move.DRAW:
+        case Move.RECYCLE:
+            return PRIORITY_STOCK;
+        case Move.FOUNDATION_TO_TABLEAU:
+            return PRIORITY_FOUNDATION_BACK;
+        default:
+            return PRUNED;
+        }
+    }
+}
\ No newline at end of file
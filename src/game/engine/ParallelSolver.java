@@ -0,0 +1,286 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2019 Daniel Ricci {@literal <thedanny09@icloud.com>}
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package game.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Parallel solver of a game of Klondike. The first branching levels of the game tree are split into tasks that are
+ * run by a fork-join pool, and every task past the split depth is searched by a {@link Solver} owned by the worker thread
+ * running it. All the workers share a lock-free transposition table and a budget, and the whole search is cancelled as
+ * soon as any of the workers finds a win.
+ *
+ * @author Daniel Ricci {@literal <thedanny09@icloud.com>}
+ */
+public final class ParallelSolver {
+
+    /**
+     * The default number of branching levels that are split into tasks
+     */
+    public static final int DEFAULT_SPLIT_DEPTH = 6;
+
+    /**
+     * The default number of states held by the transposition table
+     */
+    public static final int DEFAULT_TABLE_CAPACITY = 1 << 24;
+
+    /**
+     * The pool running the tasks
+     */
+    private final ForkJoinPool _pool;
+
+    /**
+     * The maximum number of nodes to visit, or {@link Solver#UNLIMITED}
+     */
+    private final long _nodeLimit;
+
+    /**
+     * The maximum time to search for in milliseconds, or {@link Solver#UNLIMITED}
+     */
+    private final long _timeLimit;
+
+    /**
+     * The number of branching levels that are split into tasks
+     */
+    private final int _splitDepth;
+
+    /**
+     * The states that were already visited, shared by every worker
+     */
+    private final ConcurrentTranspositionTable _table;
+
+    /**
+     * Every worker that took part in a search of this solver
+     */
+    private final ConcurrentLinkedQueue<Worker> _workers = new ConcurrentLinkedQueue<Worker>();
+
+    /**
+     * The worker of the current thread
+     */
+    private final ThreadLocal<Worker> _worker = ThreadLocal.withInitial(() -> {
+        Worker worker = new Worker();
+        _workers.add(worker);
+        return worker;
+    });
+
+    /**
+     * The budget of the current search
+     */
+    private SearchBudget _budget;
+
+    /**
+     * Indicates if a worker of the current search had to stop following a sequence because it was too long
+     */
+    private volatile boolean _isTruncated;
+
+    /**
+     * A worker of the search, which is bound to a single thread of the pool
+     *
+     * @author Daniel Ricci {@literal <thedanny09@icloud.com>}
+     */
+    private final class Worker {
+
+        /**
+         * The solver used to search the tasks past the split depth
+         */
+        private final Solver _solver = new Solver(_table);
+
+        /**
+         * The number of nodes visited by this worker during the current search
+         */
+        private long _nodes;
+    }
+
+    /**
+     * A task searching a single state of the game tree
+     *
+     * @author Daniel Ricci {@literal <thedanny09@icloud.com>}
+     */
+    private final class SearchTask extends RecursiveTask<int[]> {
+
+        /**
+         * The serial version of this class
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The state to search, owned by this task
+         */
+        private final GameState _state;
+
+        /**
+         * The moves that were applied to reach the state
+         */
+        private final int[] _path;
+
+        /**
+         * The number of branching levels that were passed to reach the state
+         */
+        private final int _depth;
+
+        /**
+         * Constructs a new instance of this class type
+         *
+         * @param state The state to search, owned by this task
+         * @param path The moves that were applied to reach the state
+         * @param depth The number of branching levels that were passed to reach the state
+         */
+        SearchTask(GameState state, int[] path, int depth) {
+            _state = state;
+            _path = path;
+            _depth = depth;
+        }
+
+        @Override protected int[] compute() {
+            if(_budget.isStopped()) {
+                return null;
+            }
+            if(_depth >= _splitDepth || _path.length >= Solver.MAX_DEPTH) {
+                return searchSequentially();
+            }
+            if(_state.isWon()) {
+                _budget.cancel();
+                return _path;
+            }
+            if(!_table.add(_state.canonicalHash())) {
+                return null;
+            }
+
+            // The states expanded above the split depth count towards the budget like the states searched by the solvers
+            ++_worker.get()._nodes;
+            if(_budget.consume(1)) {
+                return null;
+            }
+
+            int[] moves = new int[MoveGenerator.MAX_MOVES];
+            int count = MoveOrdering.order(_state, moves, MoveGenerator.generate(_state, moves));
+
+            // Forced moves do not branch, so they do not count towards the split depth
+            int depth = count > 1 ? _depth + 1 : _depth;
+            List<SearchTask> tasks = new ArrayList<SearchTask>(count);
+            for(int i = 0; i < count; ++i) {
+                GameState state = _state.copy();
+                int[] path = new int[_path.length + 1];
+                System.arraycopy(_path, 0, path, 0, _path.length);
+                path[_path.length] = state.apply(moves[i]);
+                tasks.add(new SearchTask(state, path, depth));
+            }
+
+            for(SearchTask task : invokeAll(tasks)) {
+                int[] result = task.join();
+                if(result != null) {
+                    return result;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Searches the state using the solver of the worker running this task
+         *
+         * @return The winning sequence of moves, or null if none was found
+         */
+        private int[] searchSequentially() {
+            Worker worker = _worker.get();
+            int length = worker._solver.search(_state, _budget);
+            worker._nodes += worker._solver.getNodes();
+            if(worker._solver.isTruncated()) {
+                _isTruncated = true;
+            }
+            if(length < 0) {
+                return null;
+            }
+
+            _budget.cancel();
+            int[] moves = worker._solver.getPath(length);
+            int[] path = new int[_path.length + length];
+            System.arraycopy(_path, 0, path, 0, _path.length);
+            System.arraycopy(moves, 0, path, _path.length, length);
+            return path;
+        }
+    }
+
+    /**
+     * Constructs a new instance of this class type that runs on the common pool
+     *
+     * @param nodeLimit The maximum number of nodes to visit, or {@link Solver#UNLIMITED}
+     * @param timeLimit The maximum time to search for in milliseconds, or {@link Solver#UNLIMITED}
+     */
+    public ParallelSolver(long nodeLimit, long timeLimit) {
+        this(ForkJoinPool.commonPool(), nodeLimit, timeLimit, DEFAULT_TABLE_CAPACITY, DEFAULT_SPLIT_DEPTH);
+    }
+
+    /**
+     * Constructs a new instance of this class type
+     *
+     * @param pool The pool running the tasks
+     * @param nodeLimit The maximum number of nodes to visit, or {@link Solver#UNLIMITED}
+     * @param timeLimit The maximum time to search for in milliseconds, or {@link Solver#UNLIMITED}
+     * @param tableCapacity The number of states that the transposition table can hold
+     * @param splitDepth The number of branching levels that are split into tasks
+     */
+    public ParallelSolver(ForkJoinPool pool, long nodeLimit, long timeLimit, int tableCapacity, int splitDepth) {
+        _pool = pool;
+        _nodeLimit = nodeLimit;
+        _timeLimit = timeLimit;
+        _splitDepth = splitDepth;
+        _table = new ConcurrentTranspositionTable(tableCapacity);
+    }
+
+    /**
+     * Solves the specified game. The specified state is not modified, and only one game can be solved at a time
+     *
+     * @param state The state to solve from
+     *
+     * @return The result of the search, reporting the nodes visited by each worker
+     */
+    public synchronized SolverResult solve(GameState state) {
+        long start = System.nanoTime();
+        _table.clear();
+        _budget = new SearchBudget(_nodeLimit, _timeLimit);
+        _isTruncated = false;
+        for(Worker worker : _workers) {
+            worker._nodes = 0;
+        }
+
+        int[] path = _pool.invoke(new SearchTask(state.copy(), new int[0], 0));
+        long elapsedTime = (System.nanoTime() - start) / 1000000L;
+
+        List<Worker> workers = new ArrayList<Worker>(_workers);
+        long[] workerNodes = new long[workers.size()];
+        for(int i = 0; i < workerNodes.length; ++i) {
+            workerNodes[i] = workers.get(i)._nodes;
+        }
+
+        if(path != null) {
+            return new SolverResult(SolverResult.Status.WON, path, _budget.getNodes(), elapsedTime, workerNodes);
+        }
+        return new SolverResult(_budget.isExhausted() || _isTruncated ? SolverResult.Status.ABORTED : SolverResult.Status.LOST, new int[0], _budget.getNodes(), elapsedTime, workerNodes);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,359 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2019 Daniel Ricci {@literal <thedanny09@icloud.com>}
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package game.engine;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+import game.config.OptionsPreferences.DrawOption;
+import game.config.OptionsPreferences.ScoringOption;
+
+/**
+ * The compact binary format used to record a game so that it can be replayed.
+ *
+ * A record holds the deal number of the game followed by every action that was taken, one byte each. Every
+ * action is encoded as a code that only holds what cannot be worked out from the state that it is played on, such
+ * as the source and destination piles, which keeps every action of a game within a single byte.
+ *
+ * The codes that are left over hold several actions at once, for the actions that most often follow each other: a run
+ * of draws, and a move from a column that leaves it without face up cards followed by the uncover of that column. A
+ * code is expanded back into the actions that it holds with {@link #expand(int, int[])}, so whoever reads a record only
+ * ever sees single actions.
+ *
+ * <pre>
+ * record := MAGIC flags dealNumber:varint (action | KEYFRAME snapshot)* END
+ * action := (code | UNDO undoneMove:varint) delay:varint*
+ * flags  := VERSION &lt;&lt; 4 | scoringOption &lt;&lt; 2 | drawOption &lt;&lt; 1 | timestamps
+ * </pre>
+ *
+ * When a record has timestamps, every action is followed by the number of milliseconds since the previous action,
+ * or since the start of the game for the first action, a code holding several actions being followed by as many
+ * delays. Records are self-delimiting, so any number of them can be written one after the other within the same stream.
+ *
+ * A record can also hold a keyframe every so many actions, which is a snapshot of the state reached at that point as
+ * written by {@link GameState#writeSnapshot(byte[], byte[])}. An undo holds the move that it reverts, so that the
+ * actions following a keyframe can be played from it alone, which lets a replay jump to any action by playing no more
+ * actions than there are between two keyframes.
+ *
+ * @author Daniel Ricci {@literal <thedanny09@icloud.com>}
+ */
+public final class Replay {
+
+    /**
+     * The byte that starts every record
+     */
+    public static final int MAGIC = 0xA7;
+
+    /**
+     * The version of the record format
+     */
+    public static final int VERSION = 3;
+
+    /**
+     * The flag indicating that a record holds timestamps
+     */
+    public static final int FLAG_TIMESTAMPS = 1;
+
+    /**
+     * The action that ends a record
+     */
+    public static final int END = 0;
+
+    /**
+     * The action that reverts the last move that was applied and not yet reverted, followed by that move as it was applied
+     */
+    public static final int UNDO = 1;
+
+    /**
+     * The code followed by a snapshot of the state reached by the actions before it
+     */
+    public static final int KEYFRAME = 2;
+
+    /**
+     * The default number of actions between two keyframes
+     */
+    public static final int DEFAULT_KEYFRAME_INTERVAL = 64;
+
+    /**
+     * The first code of the moves
+     */
+    private static final int FIRST_MOVE_CODE = 3;
+
+    /**
+     * The move held by every code, indexed by code minus {@link #FIRST_MOVE_CODE}
+     */
+    private static final int[] MOVES;
+
+    /**
+     * The code of every move type, indexed by type, for the moves that only involve a single pile or none
+     */
+    private static final int[] BASE_CODES = new int[Move.UNCOVER + 1];
+
+    static {
+        int[] moves = new int[128];
+        int size = 0;
+
+        BASE_CODES[Move.DRAW] = FIRST_MOVE_CODE + size;
+        moves[size++] = Move.valueOf(Move.DRAW, 0, 0, 0);
+        BASE_CODES[Move.RECYCLE] = FIRST_MOVE_CODE + size;
+        moves[size++] = Move.valueOf(Move.RECYCLE, 0, 0, 0);
+        BASE_CODES[Move.TALON_TO_FOUNDATION] = FIRST_MOVE_CODE + size;
+        moves[size++] = Move.valueOf(Move.TALON_TO_FOUNDATION, 0, 0, 1);
+        BASE_CODES[Move.TALON_TO_TABLEAU] = FIRST_MOVE_CODE + size;
+        for(int to = 0; to < GameState.TABLEAU_COUNT; ++to) {
+            moves[size++] = Move.valueOf(Move.TALON_TO_TABLEAU, 0, to, 1);
+        }
+        BASE_CODES[Move.TABLEAU_TO_FOUNDATION] = FIRST_MOVE_CODE + size;
+        for(int from = 0; from < GameState.TABLEAU_COUNT; ++from) {
+            moves[size++] = Move.valueOf(Move.TABLEAU_TO_FOUNDATION, from, 0, 1);
+        }
+        BASE_CODES[Move.UNCOVER] = FIRST_MOVE_CODE + size;
+        for(int from = 0; from < GameState.TABLEAU_COUNT; ++from) {
+            moves[size++] = Move.valueOf(Move.UNCOVER, from, 0, 0);
+        }
+        BASE_CODES[Move.FOUNDATION_TO_TABLEAU] = FIRST_MOVE_CODE + size;
+        for(int suite = 0; suite < Card.SUITE_COUNT; ++suite) {
+            for(int to = 0; to < GameState.TABLEAU_COUNT; ++to) {
+                moves[size++] = Move.valueOf(Move.FOUNDATION_TO_TABLEAU, suite, to, 1);
+            }
+        }
+        BASE_CODES[Move.TABLEAU_TO_TABLEAU] = FIRST_MOVE_CODE + size;
+        for(int from = 0; from < GameState.TABLEAU_COUNT; ++from) {
+            for(int to = 0; to < GameState.TABLEAU_COUNT; ++to) {
+                moves[size++] = Move.valueOf(Move.TABLEAU_TO_TABLEAU, from, to, 0);
+            }
+        }
+
+        MOVES = new int[size];
+        System.arraycopy(moves, 0, MOVES, 0, size);
+    }
+
+    /**
+     * The number of codes of single actions, every action code is below this value once it is expanded
+     */
+    public static final int CODE_LIMIT = FIRST_MOVE_CODE + MOVES.length;
+
+    /**
+     * The first code of a move from a column followed by the uncover of that column, the moves to a foundation coming
+     * before the moves to another column
+     */
+    private static final int FIRST_UNCOVERING_CODE = CODE_LIMIT;
+
+    /**
+     * The first code of a run of draws, which holds a run of two draws
+     */
+    private static final int FIRST_DRAW_RUN_CODE = FIRST_UNCOVERING_CODE + GameState.TABLEAU_COUNT + GameState.TABLEAU_COUNT * GameState.TABLEAU_COUNT;
+
+    /**
+     * The largest number of draws held by a single code, which is the last code that fits within a byte
+     */
+    public static final int MAX_DRAW_RUN = 0xFF - FIRST_DRAW_RUN_CODE + 2;
+
+    /**
+     * Constructs a new instance of this class type
+     */
+    private Replay() {
+    }
+
+    /**
+     * Encodes the flags of a record
+     *
+     * @param drawOption The draw option of the game
+     * @param scoringOption The scoring option of the game
+     * @param timestamps If the record holds timestamps
+     *
+     * @return The flags of the record
+     */
+    public static int getFlags(DrawOption drawOption, ScoringOption scoringOption, boolean timestamps) {
+        return VERSION << 4 | scoringOption.ordinal() << 2 | drawOption.ordinal() << 1 | (timestamps ? FLAG_TIMESTAMPS : 0);
+    }
+
+    /**
+     * Gets the code of the specified move
+     *
+     * @param move The encoded move
+     *
+     * @return The code of the move
+     */
+    public static int encode(int move) {
+        int type = Move.type(move);
+        switch(type) {
+        case Move.DRAW:
+        case Move.RECYCLE:
+        case Move.TALON_TO_FOUNDATION:
+            return BASE_CODES[type];
+        case Move.TALON_TO_TABLEAU:
+            return BASE_CODES[type] + Move.to(move);
+        case Move.TABLEAU_TO_FOUNDATION:
+        case Move.UNCOVER:
+            return BASE_CODES[type] + Move.from(move);
+        case Move.FOUNDATION_TO_TABLEAU:
+        case Move.TABLEAU_TO_TABLEAU:
+            return BASE_CODES[type] + Move.from(move) * GameState.TABLEAU_COUNT + Move.to(move);
+        default:
+            throw new IllegalArgumentException("The move " + Move.toString(move) + " cannot be encoded");
+        }
+    }
+
+    /**
+     * Gets the code of the specified move from a column followed by the uncover of that column
+     *
+     * @param move The encoded move, from a column to a foundation or to another column
+     *
+     * @return The code of the move followed by the uncover
+     */
+    public static int encodeUncovering(int move) {
+        switch(Move.type(move)) {
+        case Move.TABLEAU_TO_FOUNDATION:
+            return FIRST_UNCOVERING_CODE + Move.from(move);
+        case Move.TABLEAU_TO_TABLEAU:
+            return FIRST_UNCOVERING_CODE + GameState.TABLEAU_COUNT + Move.from(move) * GameState.TABLEAU_COUNT + Move.to(move);
+        default:
+            throw new IllegalArgumentException("The move " + Move.toString(move) + " does not leave a column to uncover");
+        }
+    }
+
+    /**
+     * Gets the code of a run of draws
+     *
+     * @param length The number of draws, from 2 to {@link #MAX_DRAW_RUN}
+     *
+     * @return The code of the run of draws
+     */
+    public static int encodeDrawRun(int length) {
+        if(length < 2 || length > MAX_DRAW_RUN) {
+            throw new IllegalArgumentException("A run of " + length + " draws cannot be encoded");
+        }
+        return FIRST_DRAW_RUN_CODE + length - 2;
+    }
+
+    /**
+     * Expands the specified code into the codes of the single actions that it holds, in the order that they were taken
+     *
+     * @param code The code, which is neither {@link #END}, {@link #UNDO} nor {@link #KEYFRAME}
+     * @param codes The codes of the single actions, holding at least {@link #MAX_DRAW_RUN} codes
+     *
+     * @return The number of single actions held by the code
+     */
+    public static int expand(int code, int[] codes) {
+        if(code >= FIRST_DRAW_RUN_CODE) {
+            int length = code - FIRST_DRAW_RUN_CODE + 2;
+            Arrays.fill(codes, 0, length, BASE_CODES[Move.DRAW]);
+            return length;
+        }
+        if(code >= FIRST_UNCOVERING_CODE) {
+            int index = code - FIRST_UNCOVERING_CODE;
+            if(index < GameState.TABLEAU_COUNT) {
+                codes[0] = BASE_CODES[Move.TABLEAU_TO_FOUNDATION] + index;
+                codes[1] = BASE_CODES[Move.UNCOVER] + index;
+            }
+            else {
+                index -= GameState.TABLEAU_COUNT;
+                codes[0] = BASE_CODES[Move.TABLEAU_TO_TABLEAU] + index;
+                codes[1] = BASE_CODES[Move.UNCOVER] + index / GameState.TABLEAU_COUNT;
+            }
+            return 2;
+        }
+        codes[0] = code;
+        return 1;
+    }
+
+    /**
+     * Gets the move of the specified code as it can be applied onto the specified state. Whatever the code does not
+     * hold is worked out from the state, and the move is checked against the rules of the game
+     *
+     * @param state The state that the move is played on
+     * @param code The code of the move
+     *
+     * @return The encoded move, or {@link Move#NONE} if the code is not a move or if the move is not legal on the state
+     */
+    public static int decode(GameState state, int code) {
+        if(code < FIRST_MOVE_CODE || code >= CODE_LIMIT) {
+            return Move.NONE;
+        }
+
+        int move = MOVES[code - FIRST_MOVE_CODE];
+        int from = Move.from(move);
+        int to = Move.to(move);
+        switch(Move.type(move)) {
+        case Move.DRAW:
+            return state.getStockSize() > 0 ? move : Move.NONE;
+        case Move.RECYCLE:
+            return state.canRecycleStock() ? move : Move.NONE;
+        case Move.TALON_TO_FOUNDATION: {
+            byte card = state.getTalonTop();
+            return card != Card.NONE && state.isValidFoundationMove(card) ? Move.valueOf(Move.TALON_TO_FOUNDATION, 0, Card.suite(card), 1) : Move.NONE;
+        }
+        case Move.TALON_TO_TABLEAU: {
+            byte card = state.getTalonTop();
+            return card != Card.NONE && state.isValidTableauMove(card, to) ? move : Move.NONE;
+        }
+        case Move.TABLEAU_TO_FOUNDATION: {
+            byte card = state.getColumnTop(from);
+            return state.getFaceUpCount(from) > 0 && state.isValidFoundationMove(card) ? Move.valueOf(Move.TABLEAU_TO_FOUNDATION, from, Card.suite(card), 1) : Move.NONE;
+        }
+        case Move.UNCOVER:
+            return state.getColumnSize(from) > 0 && state.getFaceUpCount(from) == 0 ? move : Move.NONE;
+        case Move.FOUNDATION_TO_TABLEAU: {
+            byte card = state.getFoundationTop(from);
+            return card != Card.NONE && state.isValidTableauMove(card, to) ? move : Move.NONE;
+        }
+        case Move.TABLEAU_TO_TABLEAU: {
+            int faceUpCount = state.getFaceUpCount(from);
+            if(from == to || faceUpCount == 0) {
+                return Move.NONE;
+            }
+
+            // The rank of the card that the destination accepts dictates the length of the run, see the MoveGenerator
+            byte top = state.getColumnTop(from);
+            byte destination = state.getColumnTop(to);
+            int count = destination == Card.NONE ? Card.KING - Card.rank(top) + 1 : Card.rank(destination) - Card.rank(top);
+            if(count >= 1 && count <= faceUpCount && state.isValidTableauMove(state.getTableauCard(from, state.getColumnSize(from) - count), to)) {
+                return Move.withCount(move, count);
+            }
+            return Move.NONE;
+        }
+        default:
+            return Move.NONE;
+        }
+    }
+
+    /**
+     * Writes an unsigned varint, seven bits per byte starting with the lowest bits
+     *
+     * @param output The output stream
+     * @param value The value to write, taken as unsigned
+     *
+     * @throws IOException If the value could not be written
+     */
+    public static void writeVarLong(OutputStream output, long value) throws IOException {
+        while((value & ~0x7FL) != 0) {
+            output.write((int)(value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        output.write((int)value);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,354 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2019 Daniel Ricci {@literal <thedanny09@icloud.com>}
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package game.engine;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import game.config.OptionsPreferences.DrawOption;
+import game.config.OptionsPreferences.ScoringOption;
+
+/**
+ * Plays a recorded game back, allowing to jump to any of its actions. The record is read and validated once when
+ * the player is created, after which jumping to an action restores the keyframe closest before it and only plays the
+ * actions that follow the keyframe.
+ *
+ * @author Daniel Ricci {@literal <thedanny09@icloud.com>}
+ */
+public final class ReplayPlayer {
+
+    /**
+     * The deal number of the game
+     */
+    private final long _dealNumber;
+
+    /**
+     * The deck of the game
+     */
+    private final byte[] _deck;
+
+    /**
+     * The code of every action
+     */
+    private final int[] _codes;
+
+    /**
+     * The move reverted by every undo, indexed by action
+     */
+    private final int[] _undoneMoves;
+
+    /**
+     * The time since the start of the game at which every action was taken, in milliseconds
+     */
+    private final long[] _times;
+
+    /**
+     * Indicates if the record holds the time at which every action was taken
+     */
+    private final boolean _hasTimestamps;
+
+    /**
+     * The number of cards of the last hand drawn that are within the waste, indexed by the number of actions played
+     */
+    private final int[] _fanSizes;
+
+    /**
+     * The number of actions that precede every keyframe
+     */
+    private final int[] _keyframePositions;
+
+    /**
+     * The snapshot of every keyframe
+     */
+    private final byte[][] _keyframes;
+
+    /**
+     * The suites in the order that their foundation was first started, followed by -1 for the ones that never were
+     */
+    private final int[] _foundationOrder = new int[Card.SUITE_COUNT];
+
+    /**
+     * The state reached by the actions that were played
+     */
+    private final GameState _state;
+
+    /**
+     * The number of actions that were played
+     */
+    private int _position;
+
+    /**
+     * Constructs a new instance of this class type
+     *
+     * @param record The record of the game, see {@link Replay}
+     *
+     * @throws IOException If the record is not a valid record
+     */
+    public ReplayPlayer(byte[] record) throws IOException {
+        ReplayReader reader = new ReplayReader(new ByteArrayInputStream(record));
+        if(!reader.nextRecord()) {
+            throw new IOException("The replay holds no record");
+        }
+
+        _dealNumber = reader.getDealNumber();
+        _hasTimestamps = reader.hasTimestamps();
+        _deck = Deal.newDeck(_dealNumber);
+        _state = new GameState(reader.getDrawOption(), reader.getScoringOption());
+        _state.deal(_deck);
+
+        int[] codes = new int[256];
+        int[] undoneMoves = new int[256];
+        long[] times = new long[256];
+        int[] fanSizes = new int[257];
+        List<Integer> keyframePositions = new ArrayList<Integer>();
+        List<byte[]> keyframes = new ArrayList<byte[]>();
+        Arrays.fill(_foundationOrder, -1);
+
+        // Play every action once so that the record is known to be valid, taking note of what the board needs along the way
+        byte[] snapshot = new byte[GameState.SNAPSHOT_CAPACITY];
+        int[] moves = new int[256];
+        int moveCount = 0;
+        int size = 0;
+        for(int code = reader.nextAction(); code != Replay.END; code = reader.nextAction()) {
+            if(code == Replay.KEYFRAME) {
+                byte[] keyframe = reader.getKeyframe();
+                if(!Arrays.equals(keyframe, Arrays.copyOf(snapshot, _state.writeSnapshot(_deck, snapshot)))) {
+                    throw new IOException("The replay is not valid at the keyframe of action " + size);
+                }
+                keyframePositions.add(size);
+                keyframes.add(keyframe);
+                continue;
+            }
+
+            if(size + 1 == codes.length) {
+                codes = Arrays.copyOf(codes, codes.length * 2);
+                undoneMoves = Arrays.copyOf(undoneMoves, codes.length);
+                times = Arrays.copyOf(times, codes.length);
+                fanSizes = Arrays.copyOf(fanSizes, codes.length + 1);
+                moves = Arrays.copyOf(moves, codes.length);
+            }
+
+            if(code == Replay.UNDO) {
+                if(moveCount == 0 || moves[moveCount - 1] != reader.getUndoneMove()) {
+                    throw new IOException("The replay is not valid at action " + size);
+                }
+                _state.revert(moves[--moveCount]);
+                undoneMoves[size] = reader.getUndoneMove();
+            }
+            else {
+                int move = Replay.decode(_state, code);
+                if(move == Move.NONE) {
+                    throw new IOException("The replay is not valid at action " + size);
+                }
+                moves[moveCount++] = _state.apply(move);
+                updateFoundationOrder(move);
+            }
+
+            codes[size] = code;
+            times[size] = reader.getElapsedTime();
+            fanSizes[++size] = getFanSize(moves, moveCount);
+        }
+
+        _codes = Arrays.copyOf(codes, size);
+        _undoneMoves = Arrays.copyOf(undoneMoves, size);
+        _times = Arrays.copyOf(times, size);
+        _fanSizes = Arrays.copyOf(fanSizes, size + 1);
+        _keyframePositions = new int[keyframePositions.size()];
+        for(int i = 0; i < _keyframePositions.length; ++i) {
+            _keyframePositions[i] = keyframePositions.get(i);
+        }
+        _keyframes = keyframes.toArray(new byte[keyframes.size()][]);
+        _position = size;
+    }
+
+    /**
+     * @return The deal number of the game
+     */
+    public long getDealNumber() {
+        return _dealNumber;
+    }
+
+    /**
+     * @return The draw option of the game
+     */
+    public DrawOption getDrawOption() {
+        return _state.getDrawOption();
+    }
+
+    /**
+     * @return The scoring option of the game
+     */
+    public ScoringOption getScoringOption() {
+        return _state.getScoringOption();
+    }
+
+    /**
+     * @return The number of actions of the game
+     */
+    public int getActionCount() {
+        return _codes.length;
+    }
+
+    /**
+     * @return The number of actions that were played
+     */
+    public int getPosition() {
+        return _position;
+    }
+
+    /**
+     * @return The state reached by the actions that were played, which changes every time that the player jumps
+     */
+    public GameState getState() {
+        return _state;
+    }
+
+    /**
+     * @return TRUE if the record holds the time at which every action was taken, FALSE otherwise
+     */
+    public boolean hasTimestamps() {
+        return _hasTimestamps;
+    }
+
+    /**
+     * @return The time since the start of the game at which the last action that was played was taken, in milliseconds
+     */
+    public long getElapsedTime() {
+        return _position == 0 ? 0 : _times[_position - 1];
+    }
+
+    /**
+     * @return The number of cards of the last hand drawn that are within the waste
+     */
+    public int getFanSize() {
+        return _fanSizes[_position];
+    }
+
+    /**
+     * Gets the suite held by every foundation, the foundations being filled in the order that they were started during the game
+     *
+     * @param foundationCount The number of foundations
+     *
+     * @return The suite of every foundation, or -1 for the foundations that are empty
+     */
+    public int[] getFoundationSuites(int foundationCount) {
+        int[] suites = new int[foundationCount];
+        Arrays.fill(suites, -1);
+        for(int i = 0; i < Math.min(foundationCount, Card.SUITE_COUNT); ++i) {
+            int suite = _foundationOrder[i];
+            if(suite >= 0 && _state.getFoundationSize(suite) > 0) {
+                suites[i] = suite;
+            }
+        }
+        return suites;
+    }
+
+    /**
+     * Jumps to the specified action. Playing onwards from the current action is preferred when it is closer than the
+     * keyframe before the action, otherwise the keyframe is restored and the actions after it are played
+     *
+     * @param position The number of actions to have played, between 0 and {@link #getActionCount()}
+     */
+    public void seek(int position) {
+        if(position < 0 || position > _codes.length) {
+            throw new IndexOutOfBoundsException("Position: " + position + ", Actions: " + _codes.length);
+        }
+
+        int keyframe = -1;
+        for(int i = 0; i < _keyframePositions.length && _keyframePositions[i] <= position; ++i) {
+            keyframe = i;
+        }
+        int start = keyframe < 0 ? 0 : _keyframePositions[keyframe];
+
+        if(position < _position || _position < start) {
+            if(keyframe < 0) {
+                _state.deal(_deck);
+            }
+            else {
+                _state.restoreSnapshot(_deck, _keyframes[keyframe]);
+            }
+            _position = start;
+        }
+
+        for(; _position < position; ++_position) {
+            int code = _codes[_position];
+            if(code == Replay.UNDO) {
+                _state.revert(_undoneMoves[_position]);
+            }
+            else {
+                _state.apply(Replay.decode(_state, code));
+            }
+        }
+    }
+
+    /**
+     * Takes note of the order in which the foundations are started
+     *
+     * @param move The encoded move that was applied
+     */
+    private void updateFoundationOrder(int move) {
+        int type = Move.type(move);
+        if(type != Move.TALON_TO_FOUNDATION && type != Move.TABLEAU_TO_FOUNDATION) {
+            return;
+        }
+        for(int i = 0; i < Card.SUITE_COUNT; ++i) {
+            if(_foundationOrder[i] == Move.to(move)) {
+                return;
+            }
+            if(_foundationOrder[i] < 0) {
+                _foundationOrder[i] = Move.to(move);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Gets the number of cards at the top of the waste that belong to the last hand drawn, the same way as the movement recorder
+     *
+     * @param moves The moves that are applied, as they were applied
+     * @param moveCount The number of moves that are applied
+     *
+     * @return The number of cards of the last hand that are still within the waste
+     */
+    private static int getFanSize(int[] moves, int moveCount) {
+        int removed = 0;
+        for(int i = moveCount - 1; i >= 0; --i) {
+            switch(Move.type(moves[i])) {
+            case Move.DRAW:
+                return Math.max(0, Move.count(moves[i]) - removed);
+            case Move.RECYCLE:
+                return 0;
+            case Move.TALON_TO_TABLEAU:
+            case Move.TALON_TO_FOUNDATION:
+                ++removed;
+                break;
+            }
+        }
+        return 0;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,538 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2019 Daniel Ricci {@literal <thedanny09@icloud.com>}
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package game.engine;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+import game.config.OptionsPreferences.DrawOption;
+import game.config.OptionsPreferences.ScoringOption;
+
+/**
+ * Streaming reader of games written using the {@link Replay} format.
+ *
+ * Records can either be read action by action using {@link #nextRecord()} and {@link #nextAction()}, or be
+ * replayed and validated as a whole using {@link #nextGame()}. The reader buffers the stream itself and reuses its game
+ * states between records, so that millions of records can be validated without putting pressure on the collector.
+ *
+ * When a record is replayed, every undo has to revert the last move that is applied and every keyframe has to match
+ * the state that was reached, otherwise the record is not valid.
+ *
+ * @author Daniel Ricci {@literal <thedanny09@icloud.com>}
+ */
+public final class ReplayReader implements Closeable {
+
+    /**
+     * The size of the buffer holding the bytes read from the stream
+     */
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * The input stream
+     */
+    private final InputStream _input;
+
+    /**
+     * The bytes read from the stream
+     */
+    private final byte[] _buffer = new byte[BUFFER_SIZE];
+
+    /**
+     * The game state of every rule set, indexed by draw option and then by scoring option
+     */
+    private final GameState[] _states = new GameState[DrawOption.values().length * ScoringOption.values().length];
+
+    /**
+     * The deck of the record being replayed
+     */
+    private final byte[] _deck = new byte[Card.DECK_SIZE];
+
+    /**
+     * The snapshot of the last keyframe that was read
+     */
+    private final byte[] _keyframe = new byte[GameState.SNAPSHOT_CAPACITY];
+
+    /**
+     * The snapshot of the state being replayed, compared against the keyframes
+     */
+    private final byte[] _snapshot = new byte[GameState.SNAPSHOT_CAPACITY];
+
+    /**
+     * The codes of the single actions held by the last code that was read
+     */
+    private final int[] _codes = new int[Replay.MAX_DRAW_RUN];
+
+    /**
+     * The delays of the single actions held by the last code that was read, in milliseconds
+     */
+    private final long[] _delays = new long[Replay.MAX_DRAW_RUN];
+
+    /**
+     * The moves of the record being replayed that are applied, as they were applied
+     */
+    private int[] _moves = new int[256];
+
+    /**
+     * The position of the next byte to read within the buffer
+     */
+    private int _position;
+
+    /**
+     * The number of bytes held by the buffer
+     */
+    private int _limit;
+
+    /**
+     * The number of bytes read from the stream before the buffer
+     */
+    private long _offset;
+
+    /**
+     * Indicates if a record is being read
+     */
+    private boolean _isReading;
+
+    /**
+     * The deal number of the record being read
+     */
+    private long _dealNumber;
+
+    /**
+     * The draw option of the record being read
+     */
+    private DrawOption _drawOption;
+
+    /**
+     * The scoring option of the record being read
+     */
+    private ScoringOption _scoringOption;
+
+    /**
+     * Indicates if the record being read holds timestamps
+     */
+    private boolean _hasTimestamps;
+
+    /**
+     * The time since the start of the record at which the last action was taken, in milliseconds
+     */
+    private long _elapsedTime;
+
+    /**
+     * The move reverted by the last undo that was read
+     */
+    private int _undoneMove;
+
+    /**
+     * The number of single actions held by the last code that was read
+     */
+    private int _codeCount;
+
+    /**
+     * The index of the next single action held by the last code that was read
+     */
+    private int _codeIndex;
+
+    /**
+     * The number of bytes of the snapshot of the last keyframe that was read
+     */
+    private int _keyframeSize;
+
+    /**
+     * The number of actions of the record that were read
+     */
+    private int _actionCount;
+
+    /**
+     * The game state of the last record that was replayed
+     */
+    private GameState _state;
+
+    /**
+     * The number of moves of the last record that was replayed that are applied
+     */
+    private int _moveCount;
+
+    /**
+     * The index of the first action of the last record that was replayed that could not be applied, or -1 if there is none
+     */
+    private int _invalidAction;
+
+    /**
+     * Constructs a new instance of this class type
+     *
+     * @param input The input stream, buffered by this reader
+     */
+    public ReplayReader(InputStream input) {
+        _input = input;
+    }
+
+    /**
+     * Reads the header of the next record, skipping what is left of the record being read if any
+     *
+     * @return TRUE if a record was read, FALSE if the end of the stream was reached
+     *
+     * @throws IOException If the stream could not be read or does not hold a valid record
+     */
+    public boolean nextRecord() throws IOException {
+        while(_isReading) {
+            nextAction();
+        }
+
+        int magic = read();
+        if(magic < 0) {
+            return false;
+        }
+        if(magic != Replay.MAGIC) {
+            throw new IOException("Invalid record at offset " + (getOffset() - 1));
+        }
+
+        int flags = readByte();
+        int scoringOption = (flags >>> 2) & 0x3;
+        if(flags >>> 4 != Replay.VERSION || scoringOption >= ScoringOption.values().length) {
+            throw new IOException("Unsupported record flags " + flags + " at offset " + (getOffset() - 1));
+        }
+
+        _dealNumber = readVarLong();
+        _drawOption = DrawOption.values()[(flags >>> 1) & 0x1];
+        _scoringOption = ScoringOption.values()[scoringOption];
+        _hasTimestamps = (flags & Replay.FLAG_TIMESTAMPS) != 0;
+        _elapsedTime = 0;
+        _actionCount = 0;
+        _codeCount = 0;
+        _codeIndex = 0;
+        _isReading = true;
+        return true;
+    }
+
+    /**
+     * Reads the next action of the record being read. A keyframe is read as an action of its own that is not counted,
+     * and a code holding several actions is read as every one of them in turn
+     *
+     * @return The code of the action, {@link Replay#KEYFRAME} for a keyframe, {@link Replay#END} once every action of the record was read
+     *
+     * @throws IOException If the stream could not be read
+     */
+    public int nextAction() throws IOException {
+        if(!_isReading) {
+            throw new IllegalStateException("There is no record being read");
+        }
+
+        if(_codeIndex < _codeCount) {
+            return nextCode();
+        }
+
+        int code = readByte();
+        if(code == Replay.END) {
+            _isReading = false;
+            return Replay.END;
+        }
+        if(code == Replay.KEYFRAME) {
+            readFully(_keyframe, 0, GameState.SNAPSHOT_HEADER_SIZE);
+            _keyframeSize = GameState.getSnapshotSize(_keyframe);
+            readFully(_keyframe, GameState.SNAPSHOT_HEADER_SIZE, _keyframeSize - GameState.SNAPSHOT_HEADER_SIZE);
+            return Replay.KEYFRAME;
+        }
+        if(code == Replay.UNDO) {
+            _undoneMove = (int)readVarLong() & Move.MASK;
+            if(_hasTimestamps) {
+                _elapsedTime += readVarLong();
+            }
+            ++_actionCount;
+            return Replay.UNDO;
+        }
+
+        _codeCount = Replay.expand(code, _codes);
+        _codeIndex = 0;
+        if(_hasTimestamps) {
+            for(int i = 0; i < _codeCount; ++i) {
+                _delays[i] = readVarLong();
+            }
+        }
+        return nextCode();
+    }
+
+    /**
+     * Reads the next record and replays it. Every move is checked against the rules of the game, and the replay
+     * stops applying actions at the first one that is not valid
+     *
+     * @return TRUE if a record was replayed, FALSE if the end of the stream was reached
+     *
+     * @throws IOException If the stream could not be read or does not hold a valid record
+     */
+    public boolean nextGame() throws IOException {
+        if(!nextRecord()) {
+            return false;
+        }
+
+        _state = getState(_drawOption, _scoringOption);
+        Deal.shuffle(_dealNumber, _deck);
+        _state.deal(_deck);
+        _moveCount = 0;
+        _invalidAction = -1;
+
+        for(int code = nextAction(); code != Replay.END; code = nextAction()) {
+            if(_invalidAction >= 0) {
+                continue;
+            }
+            if(code == Replay.KEYFRAME) {
+                if(!isKeyframeReached()) {
+                    _invalidAction = _actionCount;
+                }
+                continue;
+            }
+            if(code == Replay.UNDO) {
+                if(_moveCount == 0 || _moves[_moveCount - 1] != _undoneMove) {
+                    _invalidAction = _actionCount - 1;
+                }
+                else {
+                    _state.revert(_moves[--_moveCount]);
+                }
+                continue;
+            }
+
+            int move = Replay.decode(_state, code);
+            if(move == Move.NONE) {
+                _invalidAction = _actionCount - 1;
+                continue;
+            }
+            if(_moveCount == _moves.length) {
+                _moves = Arrays.copyOf(_moves, _moves.length * 2);
+            }
+            _moves[_moveCount++] = _state.apply(move);
+        }
+
+        return true;
+    }
+
+    /**
+     * @return The move reverted by the last undo that was read, as it was applied
+     */
+    public int getUndoneMove() {
+        return _undoneMove;
+    }
+
+    /**
+     * Copies the snapshot of the last keyframe that was read
+     *
+     * @return The snapshot, see {@link GameState#restoreSnapshot(byte[], byte[])}
+     */
+    public byte[] getKeyframe() {
+        return Arrays.copyOf(_keyframe, _keyframeSize);
+    }
+
+    /**
+     * @return The deal number of the last record that was read
+     */
+    public long getDealNumber() {
+        return _dealNumber;
+    }
+
+    /**
+     * @return The draw option of the last record that was read
+     */
+    public DrawOption getDrawOption() {
+        return _drawOption;
+    }
+
+    /**
+     * @return The scoring option of the last record that was read
+     */
+    public ScoringOption getScoringOption() {
+        return _scoringOption;
+    }
+
+    /**
+     * @return TRUE if the last record that was read holds timestamps, FALSE otherwise
+     */
+    public boolean hasTimestamps() {
+        return _hasTimestamps;
+    }
+
+    /**
+     * @return The time since the start of the record at which the last action that was read was taken, in milliseconds
+     */
+    public long getElapsedTime() {
+        return _elapsedTime;
+    }
+
+    /**
+     * @return The number of actions of the last record that were read
+     */
+    public int getActionCount() {
+        return _actionCount;
+    }
+
+    /**
+     * @return The game state of the last record that was replayed, which is reused by the next record of the same rule set
+     */
+    public GameState getState() {
+        return _state;
+    }
+
+    /**
+     * @return The number of moves of the last record that was replayed that are applied
+     */
+    public int getMoveCount() {
+        return _moveCount;
+    }
+
+    /**
+     * @return TRUE if every action of the last record that was replayed could be applied, FALSE otherwise
+     */
+    public boolean isValid() {
+        return _invalidAction < 0;
+    }
+
+    /**
+     * @return The index of the first action of the last record that was replayed that could not be applied, or -1 if there is none
+     */
+    public int getInvalidAction() {
+        return _invalidAction;
+    }
+
+    /**
+     * @return The number of bytes that were read from the stream
+     */
+    public long getOffset() {
+        return _offset + _position;
+    }
+
+    @Override public void close() throws IOException {
+        _input.close();
+    }
+
+    /**
+     * Reads the next single action held by the last code that was read
+     *
+     * @return The code of the action
+     */
+    private int nextCode() {
+        if(_hasTimestamps) {
+            _elapsedTime += _delays[_codeIndex];
+        }
+        ++_actionCount;
+        return _codes[_codeIndex++];
+    }
+
+    /**
+     * @return TRUE if the last keyframe that was read matches the state being replayed, FALSE otherwise
+     */
+    private boolean isKeyframeReached() {
+        if(_state.writeSnapshot(_deck, _snapshot) != _keyframeSize) {
+            return false;
+        }
+        for(int i = 0; i < _keyframeSize; ++i) {
+            if(_snapshot[i] != _keyframe[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param drawOption The draw option
+     * @param scoringOption The scoring option
+     *
+     * @return The game state of the rule set
+     */
+    private GameState getState(DrawOption drawOption, ScoringOption scoringOption) {
+        int index = drawOption.ordinal() * ScoringOption.values().length + scoringOption.ordinal();
+        if(_states[index] == null) {
+            _states[index] = new GameState(drawOption, scoringOption);
+        }
+        return _states[index];
+    }
+
+    /**
+     * Reads an unsigned varint
+     *
+     * @return The value that was read
+     *
+     * @throws IOException If the stream could not be read or the varint is too long
+     */
+    private long readVarLong() throws IOException {
+        long value = 0;
+        for(int shift = 0; shift < Long.SIZE; shift += 7) {
+            int b = readByte();
+            value |= (long)(b & 0x7F) << shift;
+            if((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Invalid varint at offset " + getOffset());
+    }
+
+    /**
+     * Reads the specified number of bytes, which are expected to be there
+     *
+     * @param buffer The buffer to read the bytes into
+     * @param offset The position within the buffer of the first byte
+     * @param length The number of bytes to read
+     *
+     * @throws IOException If the stream could not be read or it ended
+     */
+    private void readFully(byte[] buffer, int offset, int length) throws IOException {
+        for(int i = 0; i < length; ++i) {
+            buffer[offset + i] = (byte)readByte();
+        }
+    }
+
+    /**
+     * Reads a byte that is expected to be there
+     *
+     * @return The byte that was read
+     *
+     * @throws IOException If the stream could not be read or it ended
+     */
+    private int readByte() throws IOException {
+        int b = read();
+        if(b < 0) {
+            throw new EOFException("Truncated record at offset " + getOffset());
+        }
+        return b;
+    }
+
+    /**
+     * Reads a byte, filling the buffer from the stream when it is empty
+     *
+     * @return The byte that was read, or -1 if the end of the stream was reached
+     *
+     * @throws IOException If the stream could not be read
+     */
+    private int read() throws IOException {
+        if(_position == _limit) {
+            _offset += _limit;
+            _position = 0;
+            _limit = Math.max(0, _input.read(_buffer, 0, _buffer.length));
+            if(_limit == 0) {
+                return -1;
+            }
+        }
+        return _buffer[_position++] & 0xFF;
+    }
+}
\ No newline at end of file
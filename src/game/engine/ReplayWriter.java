@@ -0,0 +1,336 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2019 Daniel Ricci {@literal <thedanny09@icloud.com>}
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package game.engine;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import game.config.OptionsPreferences.DrawOption;
+import game.config.OptionsPreferences.ScoringOption;
+
+/**
+ * Writes games into a stream using the {@link Replay} format. Every action is written to the stream as soon as it
+ * is taken, so that a game that is cut short still holds every action up to that point, except for a draw or a move
+ * from a column which is held back until the next action, in case that both can be written as a single code. The
+ * actions held back are written by {@link #flush}, as well as when the record is ended.
+ *
+ * Any number of records can be written one after the other, each one being started with {@link #begin} and
+ * completed with {@link #end}. When a record has keyframes the writer plays every action onto a game state of its own,
+ * so that it can take a snapshot of it every so many actions.
+ *
+ * @author Daniel Ricci {@literal <thedanny09@icloud.com>}
+ */
+public final class ReplayWriter implements Closeable, Flushable {
+
+    /**
+     * The output stream
+     */
+    private final OutputStream _output;
+
+    /**
+     * The buffer holding the snapshot of a keyframe
+     */
+    private final byte[] _snapshot = new byte[GameState.SNAPSHOT_CAPACITY];
+
+    /**
+     * Indicates if a record is being written
+     */
+    private boolean _isRecording;
+
+    /**
+     * Indicates if the record being written holds timestamps
+     */
+    private boolean _hasTimestamps;
+
+    /**
+     * The time of the last action of the record being written, in milliseconds
+     */
+    private long _time;
+
+    /**
+     * The number of actions of the record being written
+     */
+    private int _actionCount;
+
+    /**
+     * The move of the last action held back, or {@link Move#NONE} if there is none
+     */
+    private int _pendingMove = Move.NONE;
+
+    /**
+     * The code of the actions held back
+     */
+    private int _pendingCode;
+
+    /**
+     * The number of actions held back
+     */
+    private int _pendingCount;
+
+    /**
+     * The delays of the actions held back, in milliseconds
+     */
+    private final long[] _pendingDelays = new long[Replay.MAX_DRAW_RUN];
+
+    /**
+     * The number of actions between two keyframes, or 0 if the record being written has no keyframes
+     */
+    private int _keyframeInterval;
+
+    /**
+     * The deck of the record being written, used by its keyframes
+     */
+    private byte[] _deck;
+
+    /**
+     * The state reached by the actions of the record being written, used by its keyframes
+     */
+    private GameState _state;
+
+    /**
+     * Constructs a new instance of this class type
+     *
+     * @param output The output stream
+     */
+    public ReplayWriter(OutputStream output) {
+        _output = output;
+    }
+
+    /**
+     * Starts a new record, ending the one being written if any
+     *
+     * @param dealNumber The deal number of the game
+     * @param drawOption The draw option of the game
+     * @param scoringOption The scoring option of the game
+     * @param timestamps If the time at which every action was taken is recorded
+     * @param time The time at which the game started, in milliseconds
+     * @param keyframeInterval The number of actions between two keyframes, or 0 for a record without keyframes
+     *
+     * @throws IOException If the record could not be written
+     */
+    public void begin(long dealNumber, DrawOption drawOption, ScoringOption scoringOption, boolean timestamps, long time, int keyframeInterval) throws IOException {
+        if(_isRecording) {
+            end();
+        }
+
+        _pendingMove = Move.NONE;
+        _pendingCount = 0;
+        _output.write(Replay.MAGIC);
+        _output.write(Replay.getFlags(drawOption, scoringOption, timestamps));
+        Replay.writeVarLong(_output, dealNumber);
+        _isRecording = true;
+        _hasTimestamps = timestamps;
+        _time = time;
+        _actionCount = 0;
+        _keyframeInterval = keyframeInterval;
+
+        if(keyframeInterval > 0) {
+            if(_state == null || _state.getDrawOption() != drawOption || _state.getScoringOption() != scoringOption) {
+                _state = new GameState(drawOption, scoringOption);
+            }
+            _deck = Deal.newDeck(dealNumber);
+            _state.deal(_deck);
+        }
+    }
+
+    /**
+     * Writes a move of the game
+     *
+     * @param move The encoded move, as it was applied
+     * @param time The time at which the move was played, in milliseconds
+     *
+     * @throws IOException If the move could not be written
+     */
+    public void writeMove(int move, long time) throws IOException {
+        checkRecording();
+        int code = Replay.encode(move);
+        long delay = getDelay(time);
+        int type = Move.type(move);
+        int pendingType = Move.type(_pendingMove);
+
+        // A draw lengthens the run of draws held back, and the uncover of the column that the move held back left
+        // without face up cards completes it
+        if(type == Move.DRAW && pendingType == Move.DRAW && _pendingCount < Replay.MAX_DRAW_RUN) {
+            _pendingDelays[_pendingCount++] = delay;
+            _pendingCode = Replay.encodeDrawRun(_pendingCount);
+        }
+        else if(type == Move.UNCOVER && (pendingType == Move.TABLEAU_TO_FOUNDATION || pendingType == Move.TABLEAU_TO_TABLEAU) && Move.from(move) == Move.from(_pendingMove)) {
+            _pendingDelays[_pendingCount++] = delay;
+            _pendingCode = Replay.encodeUncovering(_pendingMove);
+            writePending();
+        }
+        else {
+            writePending();
+            _pendingDelays[0] = delay;
+            _pendingCode = code;
+            _pendingCount = 1;
+
+            // Only a draw or a move from a column can be written along with the action that follows it
+            if(type == Move.DRAW || type == Move.TABLEAU_TO_FOUNDATION || type == Move.TABLEAU_TO_TABLEAU) {
+                _pendingMove = move;
+            }
+            else {
+                writePending();
+            }
+        }
+
+        ++_actionCount;
+        if(_keyframeInterval > 0) {
+            _state.apply(move);
+            writeKeyframe();
+        }
+    }
+
+    /**
+     * Writes the undo of the last move that was written and not yet undone
+     *
+     * @param move The encoded move that is undone, as it was applied
+     * @param time The time at which the move was undone, in milliseconds
+     *
+     * @throws IOException If the undo could not be written
+     */
+    public void writeUndo(int move, long time) throws IOException {
+        checkRecording();
+        writePending();
+        _output.write(Replay.UNDO);
+        Replay.writeVarLong(_output, move & Move.MASK);
+        long delay = getDelay(time);
+        if(_hasTimestamps) {
+            Replay.writeVarLong(_output, delay);
+        }
+
+        ++_actionCount;
+        if(_keyframeInterval > 0) {
+            _state.revert(move);
+            writeKeyframe();
+        }
+    }
+
+    /**
+     * Ends the record being written
+     *
+     * @throws IOException If the end of the record could not be written
+     */
+    public void end() throws IOException {
+        if(_isRecording) {
+            writePending();
+            _output.write(Replay.END);
+            _isRecording = false;
+        }
+    }
+
+    /**
+     * @return TRUE if a record is being written, FALSE otherwise
+     */
+    public boolean isRecording() {
+        return _isRecording;
+    }
+
+    /**
+     * @return The number of actions of the record being written
+     */
+    public int getActionCount() {
+        return _actionCount;
+    }
+
+    /**
+     * Writes the actions held back and flushes the output stream, so that the stream holds every action of the record
+     * being written. The actions held back are then no longer written along with the next action
+     */
+    @Override public void flush() throws IOException {
+        writePending();
+        _output.flush();
+    }
+
+    /**
+     * Ends the record being written and closes the output stream
+     */
+    @Override public void close() throws IOException {
+        try {
+            end();
+        }
+        finally {
+            _output.close();
+        }
+    }
+
+    /**
+     * Ensures that a record is being written
+     */
+    private void checkRecording() {
+        if(!_isRecording) {
+            throw new IllegalStateException("There is no record being written");
+        }
+    }
+
+    /**
+     * Gets the delay of an action since the previous action of the record being written
+     *
+     * @param time The time at which the action was taken, in milliseconds
+     *
+     * @return The delay of the action, in milliseconds
+     */
+    private long getDelay(long time) {
+        long delay = Math.max(0, time - _time);
+        _time = Math.max(_time, time);
+        return delay;
+    }
+
+    /**
+     * Writes the actions held back, if any, along with their delays when the record being written holds timestamps
+     *
+     * @throws IOException If the actions could not be written
+     */
+    private void writePending() throws IOException {
+        if(_pendingCount == 0) {
+            return;
+        }
+
+        _output.write(_pendingCode);
+        if(_hasTimestamps) {
+            for(int i = 0; i < _pendingCount; ++i) {
+                Replay.writeVarLong(_output, _pendingDelays[i]);
+            }
+        }
+        _pendingMove = Move.NONE;
+        _pendingCount = 0;
+    }
+
+    /**
+     * Writes a keyframe of the state reached by the actions written so far, when one is due
+     *
+     * @throws IOException If the keyframe could not be written
+     */
+    private void writeKeyframe() throws IOException {
+        if(_actionCount % _keyframeInterval == 0) {
+            writePending();
+            int size = _state.writeSnapshot(_deck, _snapshot);
+            _output.write(Replay.KEYFRAME);
+            _output.write(_snapshot, 0, size);
+        }
+    }
+}
\ No newline at end of file
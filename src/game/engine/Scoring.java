@@ -0,0 +1,203 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2019 Daniel Ricci {@literal <thedanny09@icloud.com>}
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package game.engine;
+
+import game.config.OptionsPreferences.DrawOption;
+import game.config.OptionsPreferences.ScoringOption;
+
+/**
+ * The rules used to score a game, for both the Standard and the Vegas scoring.
+ *
+ * Every function takes the score as it is and returns the score once the rule is applied, without holding any state
+ * and without allocating anything, so that a game can be scored the same way whether it is shown on a board or played
+ * by a simulation. A Standard score never goes below zero, every change to it being bounded separately, while a Vegas
+ * score is an amount of money that can be negative.
+ *
+ * @author Daniel Ricci {@literal <thedanny09@icloud.com>}
+ */
+public final class Scoring {
+
+    /**
+     * The amount that a game of Vegas costs to play
+     */
+    public static final long VEGAS_BUY_IN = 52;
+
+    /**
+     * The number of seconds between two penalties of the game timer
+     */
+    public static final long TIMER_INTERVAL = 10;
+
+    /**
+     * The number of points taken every time that the game timer goes through an interval
+     */
+    private static final long TIMER_PENALTY = 2;
+
+    /**
+     * The number of points taken by an undo
+     */
+    private static final long UNDO_PENALTY = 2;
+
+    /**
+     * The number of seconds that a game must last for its time to be given a bonus
+     */
+    private static final long BONUS_MINIMUM_TIME = 30;
+
+    /**
+     * The bonus given to a game that is won, divided by the number of seconds that the game lasted
+     */
+    private static final long BONUS_DIVIDEND = 700000;
+
+    /**
+     * Constructs a new instance of this class type
+     */
+    private Scoring() {
+    }
+
+    /**
+     * Gets the score that a game starts out with
+     *
+     * @param scoringOption The scoring of the game
+     * @param isCumulative If the score of the previous game is carried over, only used by Vegas
+     * @param previousScore The score of the previous game
+     *
+     * @return The starting score
+     */
+    public static long getStartingScore(ScoringOption scoringOption, boolean isCumulative, long previousScore) {
+        if(scoringOption == ScoringOption.VEGAS) {
+            return (isCumulative ? previousScore : 0) - VEGAS_BUY_IN;
+        }
+
+        return 0;
+    }
+
+    /**
+     * Scores a move that was played
+     *
+     * @param scoringOption The scoring of the game
+     * @param drawOption The draw option of the game
+     * @param score The score before the move
+     * @param move The encoded move
+     * @param deckPlays The number of times that the stock was gone through once the move was played, counting the pass
+     * under way once the stock is empty
+     *
+     * @return The score after the move
+     */
+    public static long applyMove(ScoringOption scoringOption, DrawOption drawOption, long score, int move, int deckPlays) {
+        if(scoringOption == ScoringOption.VEGAS) {
+            switch(Move.type(move)) {
+            case Move.TALON_TO_TABLEAU:
+            case Move.TALON_TO_FOUNDATION:
+            case Move.TABLEAU_TO_FOUNDATION:
+                return score + 5;
+            case Move.FOUNDATION_TO_TABLEAU:
+                return score - 5;
+            default:
+                return score;
+            }
+        }
+
+        switch(Move.type(move)) {
+        case Move.TALON_TO_TABLEAU:
+            return add(score, 5);
+        case Move.TALON_TO_FOUNDATION:
+        case Move.TABLEAU_TO_FOUNDATION:
+            return add(score, 10);
+        case Move.FOUNDATION_TO_TABLEAU:
+            return add(score, -15);
+        case Move.RECYCLE:
+            if(drawOption == DrawOption.THREE && scoringOption == ScoringOption.STANDARD) {
+                return add(score, deckPlays > 3 ? -20 : 0);
+            }
+            return add(score, -100);
+        default:
+            return add(score, 0);
+        }
+    }
+
+    /**
+     * Takes back the score that was given to a move that is being undone, along with the cost of the undo
+     *
+     * @param scoringOption The scoring of the game
+     * @param score The score before the undo
+     * @param moveScore The score that was given to the move, as the difference that it made to the score
+     *
+     * @return The score after the undo
+     */
+    public static long applyUndo(ScoringOption scoringOption, long score, long moveScore) {
+        if(scoringOption == ScoringOption.VEGAS) {
+            return score - moveScore;
+        }
+
+        return add(add(score, -moveScore), -UNDO_PENALTY);
+    }
+
+    /**
+     * Takes the penalty of every interval that the game timer went through between the specified times
+     *
+     * @param scoringOption The scoring of the game
+     * @param score The score before the penalty
+     * @param fromSeconds The time of the game timer that was already penalized, in seconds
+     * @param toSeconds The time of the game timer, in seconds
+     *
+     * @return The score after the penalty
+     */
+    public static long applyTimePenalty(ScoringOption scoringOption, long score, long fromSeconds, long toSeconds) {
+        if(scoringOption == ScoringOption.VEGAS) {
+            return score;
+        }
+
+        // Every penalty is bounded on its own, which takes the score down to zero at the lowest
+        long intervals = Math.max(0, toSeconds / TIMER_INTERVAL - fromSeconds / TIMER_INTERVAL);
+        return add(score, -intervals * TIMER_PENALTY);
+    }
+
+    /**
+     * Gets the bonus given to a game that is won
+     *
+     * @param scoringOption The scoring of the game
+     * @param seconds The time of the game timer, in seconds
+     *
+     * @return The bonus, which is added to the score
+     */
+    public static long getTimeBonus(ScoringOption scoringOption, long seconds) {
+        if(scoringOption == ScoringOption.VEGAS || seconds <= BONUS_MINIMUM_TIME) {
+            return 0;
+        }
+
+        return BONUS_DIVIDEND / seconds;
+    }
+
+    /**
+     * Adds the specified offset to a Standard score, which never goes below zero
+     *
+     * @param score The score
+     * @param offset The offset
+     *
+     * @return The score once the offset is added
+     */
+    private static long add(long score, long offset) {
+        return Math.max(0, score + offset);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,121 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2019 Daniel Ricci {@literal <thedanny09@icloud.com>}
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package game.engine;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The budget of a single search, shared by every worker taking part in the search. Workers report the nodes
+ * that they visit in batches so that the shared counter is not contended, and stop as soon as the budget is spent
+ * or the search is cancelled.
+ *
+ * @author Daniel Ricci {@literal <thedanny09@icloud.com>}
+ */
+final class SearchBudget {
+
+    /**
+     * The number of nodes that a worker visits before reporting them
+     */
+    static final int BATCH_SIZE = 1024;
+
+    /**
+     * The maximum number of nodes to visit, or {@link Solver#UNLIMITED}
+     */
+    private final long _nodeLimit;
+
+    /**
+     * The time at which the search must stop, in nanoseconds
+     */
+    private final long _deadline;
+
+    /**
+     * The number of nodes that were reported
+     */
+    private final AtomicLong _nodes = new AtomicLong();
+
+    /**
+     * Indicates if the budget was spent
+     */
+    private volatile boolean _isExhausted;
+
+    /**
+     * Indicates if the search was cancelled
+     */
+    private volatile boolean _isCancelled;
+
+    /**
+     * Constructs a new instance of this class type
+     *
+     * @param nodeLimit The maximum number of nodes to visit, or {@link Solver#UNLIMITED}
+     * @param timeLimit The maximum time to search for in milliseconds, or {@link Solver#UNLIMITED}
+     */
+    SearchBudget(long nodeLimit, long timeLimit) {
+        _nodeLimit = nodeLimit;
+        _deadline = timeLimit == Solver.UNLIMITED ? Long.MAX_VALUE : System.nanoTime() + timeLimit * 1000000L;
+    }
+
+    /**
+     * Reports the specified number of visited nodes
+     *
+     * @param nodes The number of nodes
+     *
+     * @return TRUE if the search must stop, FALSE otherwise
+     */
+    boolean consume(long nodes) {
+        long total = _nodes.addAndGet(nodes);
+        if((_nodeLimit != Solver.UNLIMITED && total > _nodeLimit) || System.nanoTime() > _deadline) {
+            _isExhausted = true;
+        }
+        return isStopped();
+    }
+
+    /**
+     * Cancels the search, typically because a win was found
+     */
+    void cancel() {
+        _isCancelled = true;
+    }
+
+    /**
+     * @return TRUE if the search must stop, FALSE otherwise
+     */
+    boolean isStopped() {
+        return _isCancelled || _isExhausted;
+    }
+
+    /**
+     * @return TRUE if the budget was spent, FALSE otherwise
+     */
+    boolean isExhausted() {
+        return _isExhausted;
+    }
+
+    /**
+     * @return The number of nodes that were reported
+     */
+    long getNodes() {
+        return _nodes.get();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,526 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2019 Daniel Ricci {@literal <thedanny09@icloud.com>}
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package game.engine;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A cache of the sessions of the games being played, which keeps the sessions that were used last in memory and
+ * passivates the others to disk.
+ *
+ * Once the cache holds more sessions in memory than its maximum size, or once the estimated memory of these sessions
+ * goes over its memory budget, the sessions that were used least recently are written to their snapshot on disk and
+ * dropped from memory. A passivated session is read back from its snapshot the next time that it is acquired, so that
+ * whoever plays it never knows that it was passivated. A session is acquired for as long as it is being used, during
+ * which time it is never passivated, and must then be released.
+ *
+ * Acquiring and releasing a session only takes the lock of that session, so that the requests made to different
+ * sessions never wait on each other. The sessions held in memory are kept in the order that they were released within
+ * a map of their own, which is only reordered by whoever holds its lock: a released session is queued without waiting
+ * and the queue is drained into the map by the next thread that gets the lock, which is always the case before a
+ * session is picked to be passivated. The session picked is then the first one of the map that is not being used. The
+ * snapshots are read and written under the lock of their session alone, which is a {@link ReentrantLock} so that a
+ * virtual thread waiting on the disk does not pin the thread that carries it.
+ *
+ * @author Daniel Ricci {@literal <thedanny09@icloud.com>}
+ */
+public final class SessionCache {
+
+    /**
+     * Indicates that the cache has no memory budget, only a maximum size
+     */
+    public static final long UNLIMITED = 0;
+
+    /**
+     * The estimated memory held by a session without any move, in bytes
+     */
+    private static final int SESSION_SIZE = 2048;
+
+    /**
+     * The estimated memory held by every move of a session, in bytes
+     */
+    private static final int MOVE_SIZE = Integer.BYTES;
+
+    /**
+     * A session held by the cache
+     *
+     * @author Daniel Ricci {@literal <thedanny09@icloud.com>}
+     */
+    private static final class Entry {
+
+        /**
+         * The identifier of the session
+         */
+        private final long _sessionId;
+
+        /**
+         * The lock held while the session is acquired, released, read back from its snapshot, passivated or removed
+         */
+        private final ReentrantLock _lock = new ReentrantLock();
+
+        /**
+         * The session, or null if it is passivated or removed
+         */
+        private volatile GameSession _session;
+
+        /**
+         * The estimated memory held by the session when it was last measured, in bytes
+         */
+        private long _size;
+
+        /**
+         * The number of times that the session is acquired and not yet released
+         */
+        private int _users;
+
+        /**
+         * Indicates if the session was removed from the cache
+         */
+        private volatile boolean _isRemoved;
+
+        /**
+         * Constructs a new instance of this class type
+         *
+         * @param sessionId The identifier of the session
+         * @param session The session
+         */
+        private Entry(long sessionId, GameSession session) {
+            _sessionId = sessionId;
+            _session = session;
+        }
+
+        /**
+         * @return TRUE if the session is held in memory, FALSE if it is passivated or removed
+         */
+        private boolean isResident() {
+            return _session != null && !_isRemoved;
+        }
+    }
+
+    /**
+     * The directory that the sessions are passivated into
+     */
+    private final Path _directory;
+
+    /**
+     * The maximum number of sessions held in memory
+     */
+    private final int _maximumSize;
+
+    /**
+     * The maximum estimated memory of the sessions held in memory in bytes, or {@link #UNLIMITED}
+     */
+    private final long _memoryBudget;
+
+    /**
+     * The entries of every session, whether it is held in memory or passivated
+     */
+    private final ConcurrentHashMap<Long, Entry> _entries = new ConcurrentHashMap<Long, Entry>();
+
+    /**
+     * The lock of the sessions held in memory
+     */
+    private final ReentrantLock _residentLock = new ReentrantLock();
+
+    /**
+     * The entries of the sessions held in memory, from the least recently released to the most recently released,
+     * guarded by {@link #_residentLock}
+     */
+    private final LinkedHashMap<Long, Entry> _residentEntries = new LinkedHashMap<Long, Entry>();
+
+    /**
+     * The entries that were released, added or dropped from memory and that are not yet moved within the entries of the
+     * sessions held in memory
+     */
+    private final ConcurrentLinkedQueue<Entry> _touchedEntries = new ConcurrentLinkedQueue<Entry>();
+
+    /**
+     * The number of sessions held in memory
+     */
+    private final AtomicInteger _residentCount = new AtomicInteger();
+
+    /**
+     * The estimated memory of the sessions held in memory, in bytes
+     */
+    private final AtomicLong _residentSize = new AtomicLong();
+
+    /**
+     * The identifier of the last session that was added
+     */
+    private final AtomicLong _lastSessionId = new AtomicLong();
+
+    /**
+     * The number of sessions that were passivated
+     */
+    private final AtomicLong _passivations = new AtomicLong();
+
+    /**
+     * The number of sessions that were read back from their snapshot
+     */
+    private final AtomicLong _activations = new AtomicLong();
+
+    /**
+     * Constructs a new instance of this class type
+     *
+     * @param directory The directory that the sessions are passivated into, which is created if it does not exist
+     * @param maximumSize The maximum number of sessions held in memory
+     * @param memoryBudget The maximum estimated memory of the sessions held in memory in bytes, or {@link #UNLIMITED}
+     *
+     * @throws IOException If the directory could not be created
+     */
+    public SessionCache(Path directory, int maximumSize, long memoryBudget) throws IOException {
+        if(maximumSize < 1) {
+            throw new IllegalArgumentException("The maximum size must be at least 1");
+        }
+
+        _directory = Files.createDirectories(directory);
+        _maximumSize = maximumSize;
+        _memoryBudget = memoryBudget;
+    }
+
+    /**
+     * Adds the specified session to the cache
+     *
+     * @param session The session
+     *
+     * @return The identifier of the session
+     *
+     * @throws IOException If the least recently used sessions could not be passivated
+     */
+    public long add(GameSession session) throws IOException {
+        long sessionId = _lastSessionId.incrementAndGet();
+        Entry entry = new Entry(sessionId, session);
+        entry._size = getSize(session);
+        _entries.put(sessionId, entry);
+        _residentCount.incrementAndGet();
+        _residentSize.addAndGet(entry._size);
+
+        touch(entry);
+        passivate();
+        return sessionId;
+    }
+
+    /**
+     * Acquires the specified session, reading it back from its snapshot if it was passivated. The session is not
+     * passivated until it is released
+     *
+     * @param sessionId The identifier of the session
+     *
+     * @return The session, or null if there is no such session
+     *
+     * @throws IOException If the session could not be read back from its snapshot
+     */
+    public GameSession acquire(long sessionId) throws IOException {
+        Entry entry = _entries.get(sessionId);
+        if(entry == null) {
+            return null;
+        }
+
+        entry._lock.lock();
+        try {
+            if(entry._isRemoved) {
+                return null;
+            }
+
+            ++entry._users;
+            if(entry._session == null) {
+                try {
+                    activate(entry);
+                }
+                catch(IOException | RuntimeException exception) {
+                    // The session is released whatever went wrong, otherwise it would stay acquired for good
+                    --entry._users;
+                    throw exception;
+                }
+            }
+            return entry._session;
+        }
+        finally {
+            entry._lock.unlock();
+        }
+    }
+
+    /**
+     * Releases the specified session once it is no longer being used, passivating the least recently used sessions if
+     * the cache holds too many of them in memory
+     *
+     * @param sessionId The identifier of the session
+     *
+     * @throws IOException If the least recently used sessions could not be passivated
+     */
+    public void release(long sessionId) throws IOException {
+        Entry entry = _entries.get(sessionId);
+        if(entry == null) {
+            return;
+        }
+
+        entry._lock.lock();
+        try {
+            // The session was most likely played while it was acquired, so its memory is measured again
+            if(entry.isResident()) {
+                long size = getSize(entry._session);
+                _residentSize.addAndGet(size - entry._size);
+                entry._size = size;
+            }
+            if(entry._users > 0) {
+                --entry._users;
+            }
+        }
+        finally {
+            entry._lock.unlock();
+        }
+
+        touch(entry);
+        passivate();
+    }
+
+    /**
+     * Removes the specified session from the cache, along with its snapshot
+     *
+     * @param sessionId The identifier of the session
+     *
+     * @return TRUE if the session was removed, FALSE if there is no such session
+     *
+     * @throws IOException If the snapshot of the session could not be deleted
+     */
+    public boolean remove(long sessionId) throws IOException {
+        Entry entry = _entries.remove(sessionId);
+        if(entry == null) {
+            return false;
+        }
+
+        entry._lock.lock();
+        try {
+            entry._isRemoved = true;
+            if(entry._session != null) {
+                entry._session = null;
+                _residentCount.decrementAndGet();
+                _residentSize.addAndGet(-entry._size);
+            }
+            else {
+                Files.deleteIfExists(getPath(sessionId));
+            }
+        }
+        finally {
+            entry._lock.unlock();
+        }
+
+        touch(entry);
+        return true;
+    }
+
+    /**
+     * @return The number of sessions within the cache, whether they are held in memory or passivated
+     */
+    public int size() {
+        return _entries.size();
+    }
+
+    /**
+     * @return The number of sessions held in memory
+     */
+    public int getResidentCount() {
+        return _residentCount.get();
+    }
+
+    /**
+     * @return The number of sessions that were passivated
+     */
+    public long getPassivations() {
+        return _passivations.get();
+    }
+
+    /**
+     * @return The number of sessions that were read back from their snapshot
+     */
+    public long getActivations() {
+        return _activations.get();
+    }
+
+    /**
+     * Reads back the session of the specified entry from its snapshot, which must be locked by the calling thread
+     *
+     * @param entry The entry of the session
+     *
+     * @throws IOException If the session could not be read back from its snapshot
+     */
+    private void activate(Entry entry) throws IOException {
+        Path path = getPath(entry._sessionId);
+        GameSession session;
+        try(DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            session = GameSession.readSnapshot(input);
+        }
+        Files.delete(path);
+
+        entry._size = getSize(session);
+        entry._session = session;
+        _residentCount.incrementAndGet();
+        _residentSize.addAndGet(entry._size);
+        _activations.incrementAndGet();
+    }
+
+    /**
+     * Queues the specified entry to be moved after every other entry of the sessions held in memory, or to be taken off
+     * of them if its session is no longer held in memory. The queue is drained at once when nobody else holds the lock of
+     * the sessions held in memory, and is otherwise drained by whoever holds it next
+     *
+     * @param entry The entry
+     */
+    private void touch(Entry entry) {
+        _touchedEntries.add(entry);
+        if(_residentLock.tryLock()) {
+            try {
+                drainTouchedEntries();
+            }
+            finally {
+                _residentLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Moves the entries that were queued within the entries of the sessions held in memory, the lock of which must be
+     * held by the calling thread
+     */
+    private void drainTouchedEntries() {
+        for(Entry entry = _touchedEntries.poll(); entry != null; entry = _touchedEntries.poll()) {
+            _residentEntries.remove(entry._sessionId);
+            if(entry.isResident()) {
+                _residentEntries.put(entry._sessionId, entry);
+            }
+        }
+    }
+
+    /**
+     * Passivates the least recently released sessions that are not being used, until the sessions held in memory are
+     * within the maximum size and the memory budget of the cache. A session is taken off the sessions held in memory
+     * along with its lock, and is no longer counted as being held in memory from that point, so that every thread
+     * passivating at the same time picks a session of its own. The snapshot is then written outside of the lock of the
+     * sessions held in memory, so that the other sessions keep being served while it is passivated
+     *
+     * @throws IOException If a session could not be passivated
+     */
+    private void passivate() throws IOException {
+        while(isOverBudget()) {
+            Entry entry = null;
+            _residentLock.lock();
+            try {
+                drainTouchedEntries();
+                if(!isOverBudget()) {
+                    return;
+                }
+
+                // A session whose lock is held is being used, and a session that is acquired is released later on
+                for(Iterator<Entry> iterator = _residentEntries.values().iterator(); iterator.hasNext() && entry == null;) {
+                    Entry candidate = iterator.next();
+                    if(!candidate._lock.tryLock()) {
+                        continue;
+                    }
+                    if(!candidate.isResident()) {
+                        iterator.remove();
+                        candidate._lock.unlock();
+                    }
+                    else if(candidate._users > 0) {
+                        candidate._lock.unlock();
+                    }
+                    else {
+                        iterator.remove();
+                        entry = candidate;
+                    }
+                }
+                if(entry == null) {
+                    return;
+                }
+
+                _residentCount.decrementAndGet();
+                _residentSize.addAndGet(-entry._size);
+                _passivations.incrementAndGet();
+            }
+            finally {
+                _residentLock.unlock();
+            }
+
+            boolean isPassivated = false;
+            try {
+                Path path = getPath(entry._sessionId);
+                try(DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+                    entry._session.writeSnapshot(output);
+                }
+                entry._session = null;
+                isPassivated = true;
+            }
+            finally {
+                if(!isPassivated) {
+                    // The session stays in memory
+                    _residentCount.incrementAndGet();
+                    _residentSize.addAndGet(entry._size);
+                    _passivations.decrementAndGet();
+                }
+                entry._lock.unlock();
+                if(!isPassivated) {
+                    touch(entry);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return TRUE if the sessions held in memory are over the maximum size or the memory budget, FALSE otherwise
+     */
+    private boolean isOverBudget() {
+        return _residentCount.get() > _maximumSize || (_memoryBudget != UNLIMITED && _residentSize.get() > _memoryBudget);
+    }
+
+    /**
+     * @param sessionId The identifier of the session
+     *
+     * @return The path of the snapshot of the session
+     */
+    private Path getPath(long sessionId) {
+        return _directory.resolve(sessionId + ".session");
+    }
+
+    /**
+     * @param session The session
+     *
+     * @return The estimated memory held by the session, in bytes
+     */
+    private static long getSize(GameSession session) {
+        return SESSION_SIZE + (long)MOVE_SIZE * session.getLog().size();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,245 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2019 Daniel Ricci {@literal <thedanny09@icloud.com>}
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package game.engine;
+
+import java.util.Arrays;
+
+/**
+ * Depth-first solver of a game of Klondike. Every state that is visited is recorded within a transposition
+ * table so that the same state is never searched twice, and the search stops once either its node or its time budget is spent.
+ *
+ * A solver holds the buffers used by the search and should be reused between games. A solver is not thread safe, the
+ * {@link ParallelSolver} uses one solver per worker that all share the same table and budget.
+ *
+ * @author Daniel Ricci {@literal <thedanny09@icloud.com>}
+ */
+public final class Solver {
+
+    /**
+     * Value used to indicate that a budget is unlimited
+     */
+    public static final long UNLIMITED = 0;
+
+    /**
+     * The default number of states held by the transposition table
+     */
+    public static final int DEFAULT_TABLE_CAPACITY = 1 << 21;
+
+    /**
+     * The maximum length of a sequence of moves
+     */
+    public static final int MAX_DEPTH = 1024;
+
+    /**
+     * The maximum number of nodes to visit, or {@link #UNLIMITED}
+     */
+    private final long _nodeLimit;
+
+    /**
+     * The maximum time to search for, in milliseconds, or {@link #UNLIMITED}
+     */
+    private final long _timeLimit;
+
+    /**
+     * The states that were already visited
+     */
+    private final ITranspositionTable _table;
+
+    /**
+     * The move buffers, one per depth
+     */
+    private final int[][] _moves = new int[MAX_DEPTH][MoveGenerator.MAX_MOVES];
+
+    /**
+     * The moves that were applied to reach the current state
+     */
+    private final int[] _path = new int[MAX_DEPTH];
+
+    /**
+     * The state being searched
+     */
+    private GameState _state;
+
+    /**
+     * The budget of the current search
+     */
+    private SearchBudget _budget;
+
+    /**
+     * The number of nodes visited by the current search
+     */
+    private long _nodes;
+
+    /**
+     * Indicates if the current search had to stop following a sequence because it was too long
+     */
+    private boolean _isTruncated;
+
+    /**
+     * Constructs a new instance of this class type
+     *
+     * @param nodeLimit The maximum number of nodes to visit, or {@link #UNLIMITED}
+     * @param timeLimit The maximum time to search for in milliseconds, or {@link #UNLIMITED}
+     */
+    public Solver(long nodeLimit, long timeLimit) {
+        this(nodeLimit, timeLimit, DEFAULT_TABLE_CAPACITY);
+    }
+
+    /**
+     * Constructs a new instance of this class type
+     *
+     * @param nodeLimit The maximum number of nodes to visit, or {@link #UNLIMITED}
+     * @param timeLimit The maximum time to search for in milliseconds, or {@link #UNLIMITED}
+     * @param tableCapacity The number of states that the transposition table can hold
+     */
+    public Solver(long nodeLimit, long timeLimit, int tableCapacity) {
+        _nodeLimit = nodeLimit;
+        _timeLimit = timeLimit;
+        _table = new TranspositionTable(tableCapacity);
+    }
+
+    /**
+     * Constructs a new instance of this class type, used as a worker of a parallel search
+     *
+     * @param table The table shared by every worker
+     */
+    Solver(ITranspositionTable table) {
+        _nodeLimit = UNLIMITED;
+        _timeLimit = UNLIMITED;
+        _table = table;
+    }
+
+    /**
+     * Solves the specified game. The specified state is not modified
+     *
+     * @param state The state to solve from
+     *
+     * @return The result of the search
+     */
+    public SolverResult solve(GameState state) {
+        long start = System.nanoTime();
+        _table.clear();
+
+        SearchBudget budget = new SearchBudget(_nodeLimit, _timeLimit);
+        int length = search(state, budget);
+        long elapsedTime = (System.nanoTime() - start) / 1000000L;
+
+        if(length >= 0) {
+            return new SolverResult(SolverResult.Status.WON, getPath(length), budget.getNodes(), elapsedTime);
+        }
+        return new SolverResult(budget.isExhausted() || _isTruncated ? SolverResult.Status.ABORTED : SolverResult.Status.LOST, new int[0], budget.getNodes(), elapsedTime);
+    }
+
+    /**
+     * Searches the specified state using the specified budget. The specified state is not modified
+     *
+     * @param state The state to search from
+     * @param budget The budget of the search
+     *
+     * @return The length of the winning sequence of moves, or -1 if none was found
+     */
+    int search(GameState state, SearchBudget budget) {
+        _state = state.copy();
+        _budget = budget;
+        _nodes = 0;
+        _isTruncated = false;
+
+        int length = search(0);
+        budget.consume(_nodes % SearchBudget.BATCH_SIZE);
+        return length;
+    }
+
+    /**
+     * @param length The length of the winning sequence of moves
+     *
+     * @return The winning sequence of moves of the last search
+     */
+    int[] getPath(int length) {
+        return Arrays.copyOf(_path, length);
+    }
+
+    /**
+     * @return The number of nodes visited by the last search
+     */
+    long getNodes() {
+        return _nodes;
+    }
+
+    /**
+     * @return TRUE if the last search had to stop following a sequence because it was too long, FALSE otherwise
+     */
+    boolean isTruncated() {
+        return _isTruncated;
+    }
+
+    /**
+     * Searches the current state
+     *
+     * @param depth The number of moves that were applied to reach the current state
+     *
+     * @return The length of the winning sequence of moves, or -1 if none was found
+     */
+    private int search(int depth) {
+        if(_state.isWon()) {
+            return depth;
+        }
+        if(!_table.add(_state.canonicalHash())) {
+            return -1;
+        }
+        if(depth == MAX_DEPTH) {
+            _isTruncated = true;
+            return -1;
+        }
+        if(isBudgetSpent()) {
+            return -1;
+        }
+
+        int[] moves = _moves[depth];
+        int count = MoveOrdering.order(_state, moves, MoveGenerator.generate(_state, moves));
+        for(int i = 0; i < count && !_budget.isStopped(); ++i) {
+            int move = _state.apply(moves[i]);
+            _path[depth] = move;
+            int length = search(depth + 1);
+            _state.revert(move);
+            if(length >= 0) {
+                return length;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Counts the current node against the budget
+     *
+     * @return TRUE if the budget is spent, FALSE otherwise
+     */
+    private boolean isBudgetSpent() {
+        if(++_nodes % SearchBudget.BATCH_SIZE == 0) {
+            return _budget.consume(SearchBudget.BATCH_SIZE);
+        }
+        return _budget.isStopped();
+    }
+}
\ No newline at end of file
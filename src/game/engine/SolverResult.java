@@ -0,0 +1,182 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2019 Daniel Ricci {@literal <thedanny09@icloud.com>}
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package game.engine;
+
+import java.util.Arrays;
+
+/**
+ * The outcome of solving a game
+ *
+ * @author Daniel Ricci {@literal <thedanny09@icloud.com>}
+ */
+public final class SolverResult {
+
+    /**
+     * The status of a solved game
+     *
+     * @author Daniel Ricci {@literal <thedanny09@icloud.com>}
+     */
+    public enum Status {
+        /**
+         * A winning sequence of moves was found
+         */
+        WON,
+        /**
+         * Every sequence of moves kept by the {@link MoveOrdering} was looked at and none of them win. The ordering only
+         * drops the moves of part of a tableau run that leave a card on top which cannot be played at that point, so a lost
+         * game has no winning sequence other than ones relying on such a move
+         */
+        LOST,
+        /**
+         * The search ran out of budget before it could decide
+         */
+        ABORTED
+    }
+
+    /**
+     * The status of the game
+     */
+    private final Status _status;
+
+    /**
+     * The winning sequence of moves, empty if the game was not won
+     */
+    private final int[] _moves;
+
+    /**
+     * The number of states that were visited
+     */
+    private final long _nodes;
+
+    /**
+     * The time that the search took, in milliseconds
+     */
+    private final long _elapsedTime;
+
+    /**
+     * The number of states that were visited by each worker of the search
+     */
+    private final long[] _workerNodes;
+
+    /**
+     * Constructs a new instance of this class type
+     *
+     * @param status The status of the game
+     * @param moves The winning sequence of moves
+     * @param nodes The number of states that were visited
+     * @param elapsedTime The time that the search took, in milliseconds
+     */
+    public SolverResult(Status status, int[] moves, long nodes, long elapsedTime) {
+        this(status, moves, nodes, elapsedTime, new long[] { nodes });
+    }
+
+    /**
+     * Constructs a new instance of this class type
+     *
+     * @param status The status of the game
+     * @param moves The winning sequence of moves
+     * @param nodes The number of states that were visited
+     * @param elapsedTime The time that the search took, in milliseconds
+     * @param workerNodes The number of states that were visited by each worker of the search
+     */
+    public SolverResult(Status status, int[] moves, long nodes, long elapsedTime, long[] workerNodes) {
+        _status = status;
+        _moves = moves;
+        _nodes = nodes;
+        _elapsedTime = elapsedTime;
+        _workerNodes = workerNodes;
+    }
+
+    /**
+     * @return The status of the game
+     */
+    public Status getStatus() {
+        return _status;
+    }
+
+    /**
+     * @return TRUE if a winning sequence of moves was found, FALSE otherwise
+     */
+    public boolean isWon() {
+        return _status == Status.WON;
+    }
+
+    /**
+     * @return The winning sequence of moves as they were applied, empty if the game was not won
+     */
+    public int[] getMoves() {
+        return Arrays.copyOf(_moves, _moves.length);
+    }
+
+    /**
+     * @return The number of states that were visited
+     */
+    public long getNodes() {
+        return _nodes;
+    }
+
+    /**
+     * @return The time that the search took, in milliseconds
+     */
+    public long getElapsedTime() {
+        return _elapsedTime;
+    }
+
+    /**
+     * @return The number of workers that took part in the search
+     */
+    public int getWorkerCount() {
+        return _workerNodes.length;
+    }
+
+    /**
+     * @param worker The index of the worker
+     *
+     * @return The number of states that were visited by the worker
+     */
+    public long getWorkerNodes(int worker) {
+        return _workerNodes[worker];
+    }
+
+    /**
+     * @param worker The index of the worker
+     *
+     * @return The number of states that were visited per second by the worker
+     */
+    public long getWorkerNodesPerSecond(int worker) {
+        return _workerNodes[worker] * 1000L / Math.max(_elapsedTime, 1);
+    }
+
+    @Override public String toString() {
+        StringBuilder builder = new StringBuilder(_status + " in " + _moves.length + " moves, " + _nodes + " nodes, " + _elapsedTime + "ms");
+        for(int i = 0; i < _workerNodes.length; ++i) {
+            builder.append(System.getProperty("line.separator") + "Worker " + i + ": " + getWorkerNodesPerSecond(i) + " nodes/s");
+        }
+        for(int move : _moves) {
+            builder.append(System.getProperty("line.separator") + Move.toString(move));
+        }
+        return builder.toString();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,108 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2019 Daniel Ricci {@literal <thedanny09@icloud.com>}
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package game.engine;
+
+import java.util.Arrays;
+
+/**
+ * Set of the state hashes that were already visited by a search. The table is a fixed size array
+ * using open addressing, so that its memory is bounded no matter how large the search gets. When
+ * every slot of a probe sequence is taken the first entry of the sequence is replaced, which only
+ * costs the search some extra work.
+ *
+ * This table is not thread safe, see {@link ConcurrentTranspositionTable} for a table that can be shared between threads.
+ *
+ * @author Daniel Ricci {@literal <thedanny09@icloud.com>}
+ */
+public final class TranspositionTable implements ITranspositionTable {
+
+    /**
+     * The number of slots looked at before an entry is replaced
+     */
+    private static final int PROBE_LENGTH = 8;
+
+    /**
+     * The slots of the table, 0 being used to indicate an empty slot
+     */
+    private final long[] _slots;
+
+    /**
+     * The mask used to map a hash onto a slot
+     */
+    private final int _mask;
+
+    /**
+     * The number of entries held by the table
+     */
+    private int _size;
+
+    /**
+     * Constructs a new instance of this class type
+     *
+     * @param capacity The number of entries that the table can hold, rounded up to the next power of two
+     */
+    public TranspositionTable(int capacity) {
+        int size = Integer.highestOneBit(Math.max(capacity - 1, PROBE_LENGTH) << 1);
+        _slots = new long[size];
+        _mask = size - 1;
+    }
+
+    @Override public boolean add(long hash) {
+        if(hash == 0) {
+            hash = 1;
+        }
+
+        int index = (int)(hash ^ (hash >>> 32)) & _mask;
+        for(int i = 0; i < PROBE_LENGTH; ++i) {
+            int slot = (index + i) & _mask;
+            long value = _slots[slot];
+            if(value == hash) {
+                return false;
+            }
+            if(value == 0) {
+                _slots[slot] = hash;
+                ++_size;
+                return true;
+            }
+        }
+
+        // Every slot of the sequence is taken, replace the first one
+        _slots[index] = hash;
+        return true;
+    }
+
+    @Override public int size() {
+        return _size;
+    }
+
+    @Override public int capacity() {
+        return _slots.length;
+    }
+
+    @Override public void clear() {
+        Arrays.fill(_slots, 0);
+        _size = 0;
+    }
+}
\ No newline at end of file
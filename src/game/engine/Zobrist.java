@@ -0,0 +1,106 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2019 Daniel Ricci {@literal <thedanny09@icloud.com>}
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package game.engine;
+
+import java.util.SplittableRandom;
+
+/**
+ * The random keys used to compute the Zobrist hash of a game state. The keys are generated from a fixed seed
+ * so that the hash of a state is the same from one run to the next, and can be used as a stable cache key.
+ *
+ * Note: Cards are keyed without their position, since within a single deal the order of the talon and the order
+ * of the backsides of a tableau pile never change, and the face-up cards of a tableau pile are always sorted by rank.
+ *
+ * @author Daniel Ricci {@literal <thedanny09@icloud.com>}
+ */
+final class Zobrist {
+
+    /**
+     * The keys of the cards within a tableau pile that do not have their backside showing
+     */
+    static final long[] TABLEAU = new long[Card.ENCODED_LIMIT];
+
+    /**
+     * The keys of the cards within a tableau pile that have their backside showing
+     */
+    static final long[] BACKSIDE = new long[Card.ENCODED_LIMIT];
+
+    /**
+     * The keys of the cards within the foundations
+     */
+    static final long[] FOUNDATION = new long[Card.ENCODED_LIMIT];
+
+    /**
+     * The keys of the cards within the talon
+     */
+    static final long[] TALON = new long[Card.ENCODED_LIMIT];
+
+    /**
+     * The keys of the position of the talon cursor
+     */
+    static final long[] TALON_CURSOR = new long[GameState.TALON_SIZE + 1];
+
+    /**
+     * The keys of the number of passes through the stock, only used when the passes are limited
+     */
+    static final long[] PASSES = new long[8];
+
+    /**
+     * The keys of the position of each tableau pile, only used by the exact hash
+     */
+    static final long[] COLUMN = new long[GameState.TABLEAU_COUNT];
+
+    static {
+        SplittableRandom random = new SplittableRandom(0x5EEDL);
+        for(long[] keys : new long[][] { TABLEAU, BACKSIDE, FOUNDATION, TALON, TALON_CURSOR, PASSES, COLUMN }) {
+            for(int i = 0; i < keys.length; ++i) {
+                keys[i] = random.nextLong();
+            }
+        }
+    }
+
+    /**
+     * Constructs a new instance of this class type
+     */
+    private Zobrist() {
+    }
+
+    /**
+     * Spreads the bits of the hash of a tableau pile so that the hashes of the piles can be summed
+     * without their cards cancelling each other out. An empty pile always maps to 0
+     *
+     * @param hash The hash of a tableau pile
+     *
+     * @return The mixed hash
+     */
+    static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
\ No newline at end of file
@@ -29,6 +29,8 @@ import java.util.UUID;
 
 import framework.core.entity.AbstractDataEntity;
 
+import game.engine.Card;
+
 import generated.DataLookup.BACKSIDES;
 import generated.DataLookup.LAYER;
 
@@ -154,13 +156,27 @@ public abstract class AbstractCardEntity extends AbstractDataEntity {
         return ordinal == 12;
     }
     
+    /**
+     * @return The primitive encoding of this card, as used by the headless game engine
+     */
+    public final byte getEncodedCard() {
+        return Card.valueOf(layer.ordinal(), ordinal);
+    }
+    
     @Override public void refresh() {
         backsideCardEntity.refresh();
     }
     
     @Override public Image getRenderableContent() {
         if(getBacksideVisible()) {
-            return backsideCardEntity.getRenderableContent();
+            Image sprite = SpriteCache.getBackside(backsideCardEntity.getBacksideData());
+            return sprite != null ? sprite : backsideCardEntity.getRenderableContent();
+        }
+        if(layer != null) {
+            Image sprite = SpriteCache.getCard(getEncodedCard());
+            if(sprite != null) {
+                return sprite;
+            }
         }
         return super.getRenderableContent();
     }
@@ -178,6 +194,6 @@ public abstract class AbstractCardEntity extends AbstractDataEntity {
      * @param backside The backside to set this entity with
      */
     public void setBackside(BACKSIDES backside) {
-        backsideCardEntity.setActiveData(backside.identifier);
+        backsideCardEntity.setBackside(backside);
     }
 }
\ No newline at end of file
@@ -26,7 +26,7 @@ package game.entities;
 
 import framework.core.entity.AbstractDataEntity;
 
-import game.config.OptionsPreferences;
+import game.config.OptionsSnapshot;
 
 import generated.DataLookup;
 
@@ -55,11 +55,14 @@ public class BacksideCardEntity extends AbstractDataEntity {
         return _backside;
     }
     
+    public void setBackside(DataLookup.BACKSIDES backside) {
+        _backside = backside;
+        super.setActiveData(backside.identifier);
+    }
+    
     private void setBackside() {
-        OptionsPreferences preferences = new OptionsPreferences();
-        preferences.load();
-        _backside = preferences.deck;
-        super.setActiveData(preferences.deck.identifier);
+        OptionsSnapshot preferences = OptionsSnapshot.get();
+        setBackside(preferences.deck);
     }
 
     @Override public void refresh() {
@@ -0,0 +1,214 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2019 Daniel Ricci {@literal <thedanny09@icloud.com>}
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package game.entities;
+
+import java.awt.Graphics2D;
+import java.awt.GraphicsEnvironment;
+import java.awt.Image;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.UUID;
+
+import framework.core.factories.AbstractFactory;
+import framework.core.factories.DataFactory;
+
+import game.engine.Card;
+
+import generated.DataLookup;
+
+/**
+ * Holds a copy of every card sprite, every backside sprite and every pile placeholder sprite of the sprite sheet, each within an image of its own.
+ *
+ * The images that the data factory resolves are views onto the shared sprite sheet, which cannot be cached by the
+ * graphics pipeline and have to be converted every time that they are drawn. The sprites of this cache are copied
+ * once into images that are compatible with the screen, using the least transparency that they need, so that they
+ * can be kept by the graphics pipeline and drawn as a straight copy.
+ *
+ * @author Daniel Ricci {@literal <thedanny09@icloud.com>}
+ */
+public final class SpriteCache {
+
+    /**
+     * The sprite of every card, indexed by card ordinal
+     */
+    private static final Image[] CARDS = new Image[Card.DECK_SIZE];
+
+    /**
+     * The sprite of every backside, indexed by backside ordinal
+     */
+    private static final Image[] BACKSIDES = new Image[DataLookup.BACKSIDES.values().length];
+
+    /**
+     * The sprite of every pile placeholder, indexed by placeholder ordinal
+     */
+    private static final Image[] MISC = new Image[DataLookup.MISC.values().length];
+
+    /**
+     * Indicates if the sprites were loaded
+     */
+    private static boolean _isLoaded;
+
+    /**
+     * Constructs a new instance of this class type
+     */
+    private SpriteCache() {
+    }
+
+    /**
+     * Copies every card sprite, every backside sprite and every pile placeholder sprite out of the sprite sheet. This is done once, any call after
+     * the first one has no effect
+     */
+    public static void load() {
+        if(_isLoaded) {
+            return;
+        }
+
+        DataFactory dataFactory = AbstractFactory.getFactory(DataFactory.class);
+        for(DataLookup.HEARTS heart : DataLookup.HEARTS.values()) {
+            loadCard(dataFactory, Card.HEARTS, heart.ordinal(), heart.identifier);
+        }
+        for(DataLookup.CLUBS club : DataLookup.CLUBS.values()) {
+            loadCard(dataFactory, Card.CLUBS, club.ordinal(), club.identifier);
+        }
+        for(DataLookup.DIAMONDS diamond : DataLookup.DIAMONDS.values()) {
+            loadCard(dataFactory, Card.DIAMONDS, diamond.ordinal(), diamond.identifier);
+        }
+        for(DataLookup.SPADES spade : DataLookup.SPADES.values()) {
+            loadCard(dataFactory, Card.SPADES, spade.ordinal(), spade.identifier);
+        }
+        for(DataLookup.BACKSIDES backside : DataLookup.BACKSIDES.values()) {
+            Image image = dataFactory.getDataEntity(backside.identifier);
+            BACKSIDES[backside.ordinal()] = image == null ? null : toCompatibleImage(image);
+        }
+        for(DataLookup.MISC misc : DataLookup.MISC.values()) {
+            Image image = dataFactory.getDataEntity(misc.identifier);
+            MISC[misc.ordinal()] = image == null ? null : toCompatibleImage(image);
+        }
+
+        _isLoaded = true;
+    }
+
+    /**
+     * Gets the sprite of the specified card
+     *
+     * @param card The encoded card
+     *
+     * @return The sprite of the card, or null if the sprites were not loaded
+     */
+    public static Image getCard(byte card) {
+        return CARDS[Card.ordinal(card)];
+    }
+
+    /**
+     * Gets the sprite of the specified backside
+     *
+     * @param backside The backside
+     *
+     * @return The sprite of the backside, or null if the sprites were not loaded
+     */
+    public static Image getBackside(DataLookup.BACKSIDES backside) {
+        return backside == null ? null : BACKSIDES[backside.ordinal()];
+    }
+
+    /**
+     * Gets the sprite of the specified pile placeholder
+     *
+     * @param misc The pile placeholder
+     *
+     * @return The sprite of the pile placeholder, or null if the sprites were not loaded
+     */
+    public static Image getMisc(DataLookup.MISC misc) {
+        return MISC[misc.ordinal()];
+    }
+
+    /**
+     * Copies the specified image into an image that is compatible with the screen. The copy is opaque when every
+     * pixel of the image is, and only uses full transparency when no pixel of the image is partially transparent
+     *
+     * @param image The image to copy, which must be fully loaded
+     *
+     * @return The copy of the image
+     */
+    public static BufferedImage toCompatibleImage(Image image) {
+        int width = image.getWidth(null);
+        int height = image.getHeight(null);
+        int transparency = image instanceof BufferedImage ? getTransparency((BufferedImage)image) : Transparency.TRANSLUCENT;
+
+        BufferedImage sprite;
+        if(GraphicsEnvironment.isHeadless()) {
+            sprite = new BufferedImage(width, height, transparency == Transparency.OPAQUE ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB_PRE);
+        }
+        else {
+            sprite = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration().createCompatibleImage(width, height, transparency);
+        }
+
+        Graphics2D graphics = sprite.createGraphics();
+        graphics.drawImage(image, 0, 0, null);
+        graphics.dispose();
+        return sprite;
+    }
+
+    /**
+     * Copies the sprite of the specified card
+     *
+     * @param dataFactory The data factory
+     * @param suite The suite of the card
+     * @param rank The rank of the card
+     * @param identifier The identifier of the sprite of the card
+     */
+    private static void loadCard(DataFactory dataFactory, int suite, int rank, UUID identifier) {
+        Image image = dataFactory.getDataEntity(identifier);
+        CARDS[Card.ordinal(Card.valueOf(suite, rank))] = image == null ? null : toCompatibleImage(image);
+    }
+
+    /**
+     * Gets the least transparency that can represent every pixel of the specified image
+     *
+     * @param image The image
+     *
+     * @return The transparency of the image
+     */
+    private static int getTransparency(BufferedImage image) {
+        if(image.getTransparency() == Transparency.OPAQUE) {
+            return Transparency.OPAQUE;
+        }
+
+        int transparency = Transparency.OPAQUE;
+        int[] row = new int[image.getWidth()];
+        for(int y = 0; y < image.getHeight(); ++y) {
+            image.getRGB(0, y, row.length, 1, row, 0, row.length);
+            for(int pixel : row) {
+                int alpha = pixel >>> 24;
+                if(alpha != 0xFF) {
+                    if(alpha != 0) {
+                        return Transparency.TRANSLUCENT;
+                    }
+                    transparency = Transparency.BITMASK;
+                }
+            }
+        }
+        return transparency;
+    }
+}
\ No newline at end of file
@@ -39,9 +39,9 @@ import framework.core.factories.ViewFactory;
 import framework.core.navigation.AbstractMenuItem;
 import framework.utils.globalisation.Localization;
 
-import game.config.OptionsPreferences;
 import game.entities.BacksideCardEntity;
 import game.models.CardModel;
+import game.views.BoardView;
 import game.views.DeckSelectionDialogView;
 import game.views.StatusBarView;
 import game.views.StockView;
@@ -90,11 +90,9 @@ public class DeckMenuItem extends AbstractMenuItem {
             EventArgs args = new EventArgs(this, CardModel.EVENT_UPDATE_BACKSIDE);
             AbstractFactory.getFactory(ModelFactory.class).multicastSignalListeners(CardModel.class, args);
             
-            OptionsPreferences preferences = new OptionsPreferences();
-            preferences.load();
-
-            // Send out the signal to the stockview
+            // Send out the signal to the stockview, and to the board view when the board is painted as a whole
             AbstractFactory.getFactory(ViewFactory.class).multicastSignalListeners(StockView.class, new EventArgs(this, BacksideCardEntity.DECK_BACKSIDE_UPDATED));
+            AbstractFactory.getFactory(ViewFactory.class).multicastSignalListeners(BoardView.class, new EventArgs(this, BacksideCardEntity.DECK_BACKSIDE_UPDATED));
         }
     }
 }
\ No newline at end of file
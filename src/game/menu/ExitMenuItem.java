@@ -38,6 +38,7 @@ import framework.core.navigation.AbstractMenuItem;
 import framework.core.system.Application;
 import framework.utils.globalisation.Localization;
 
+import game.config.PreferencesWriter;
 import game.views.StatusBarView;
 
 /**
@@ -69,6 +70,9 @@ public class ExitMenuItem extends AbstractMenuItem {
     }
 
     @Override public void onExecute(ActionEvent actionEvent) {
+        
+        // Write the preferences that are still waiting to be written before the game goes away
+        PreferencesWriter.flush();
         Application.instance.dispatchEvent(new WindowEvent(Application.instance, WindowEvent.WINDOW_CLOSING));
     }
 }
\ No newline at end of file
@@ -33,7 +33,6 @@ import javax.swing.JComponent;
 import javax.swing.JMenuItem;
 import javax.swing.JOptionPane;
 
-import framework.communication.internal.signal.arguments.EventArgs;
 import framework.core.factories.AbstractFactory;
 import framework.core.factories.ViewFactory;
 import framework.core.navigation.AbstractMenuItem;
@@ -41,7 +40,6 @@ import framework.core.navigation.MenuBuilder;
 import framework.core.system.Application;
 import framework.utils.globalisation.Localization;
 
-import game.views.CardView;
 import game.views.OptionsDialogView;
 import game.views.StatusBarView;
 
@@ -89,16 +87,6 @@ public class OptionsMenuItem extends AbstractMenuItem {
                 Application.instance.isRestarting = true;
                 MenuBuilder.search(Application.instance.getJMenuBar(), NewGameMenuItem.class).getComponent(AbstractButton.class).doClick();
             }
-            else {
-                if(options.statusBarChanged) {
-                    AbstractFactory.getFactory(ViewFactory.class).get(StatusBarView.class).synchronizeWithOptions();
-                }
-                if(options.outlineDraggingChanged) {
-                    EventArgs args = new EventArgs(this, CardView.EVENT_OUTLINE_SYNCHRONIZE);
-                    args.setSuppressUpdate(true);
-                    AbstractFactory.getFactory(ViewFactory.class).multicastSignalListeners(CardView.class, args);
-                }
-            }
         }
     }
 }
\ No newline at end of file
@@ -32,12 +32,12 @@ import javax.swing.JComponent;
 import javax.swing.JMenuItem;
 
 import framework.core.factories.AbstractFactory;
-import framework.core.factories.ControllerFactory;
 import framework.core.factories.ViewFactory;
 import framework.core.navigation.AbstractMenuItem;
+import framework.core.system.Application;
 import framework.utils.globalisation.Localization;
 
-import game.controllers.MovementRecorderController;
+import game.application.Game;
 import game.views.StatusBarView;
 
 /**
@@ -69,10 +69,10 @@ public class UndoMenuItem extends AbstractMenuItem {
     }
     
     @Override protected boolean isEnabled() {
-        return AbstractFactory.getFactory(ControllerFactory.class).get(MovementRecorderController.class).canUndo();
+        return ((Game)Application.instance).getBoardView().getController().canUndo();
     }
     
     @Override public void onExecute(ActionEvent actionEvent) {
-        AbstractFactory.getFactory(ControllerFactory.class).get(MovementRecorderController.class).undoLastMovement();
+        ((Game)Application.instance).getBoardView().getController().undoLastMovement();
     }
 }
\ No newline at end of file
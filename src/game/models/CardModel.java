@@ -26,7 +26,6 @@ package game.models;
 
 import java.awt.Image;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 import framework.communication.internal.signal.ISignalReceiver;
@@ -35,7 +34,9 @@ import framework.core.factories.AbstractFactory;
 import framework.core.factories.ModelFactory;
 import framework.core.mvc.model.BaseModel;
 
-import game.config.OptionsPreferences;
+import game.config.OptionsSnapshot;
+import game.engine.Card;
+import game.engine.Deal;
 import game.entities.AbstractCardEntity;
 import game.entities.ClubCardEntity;
 import game.entities.DiamondCardEntity;
@@ -55,8 +56,7 @@ public class CardModel extends BaseModel {
         
         addSignal(EVENT_UPDATE_BACKSIDE, new ISignalReceiver<EventArgs>() {
             @Override public void signalReceived(EventArgs event) {
-                OptionsPreferences preferences = new OptionsPreferences();
-                preferences.load();
+                OptionsSnapshot preferences = OptionsSnapshot.get();
                 _cardEntity.setBackside(preferences.deck);
                 refresh();
             }
@@ -75,7 +75,14 @@ public class CardModel extends BaseModel {
         return _cardEntity.getBacksideVisible();
     }
     
-    public static List<CardModel> newInstances() {
+    /**
+     * Creates the cards of the specified deal, in dealing order
+     * 
+     * @param dealNumber The deal number
+     * 
+     * @return The list of cards
+     */
+    public static List<CardModel> newInstances(long dealNumber) {
         List<CardModel> entities = new ArrayList<CardModel>();
         ModelFactory factory = AbstractFactory.getFactory(ModelFactory.class);
         for(DataLookup.HEARTS heart : DataLookup.HEARTS.values()) {
@@ -90,8 +97,11 @@ public class CardModel extends BaseModel {
         for(DataLookup.SPADES spade : DataLookup.SPADES.values()) {
             entities.add(factory.add(new CardModel(new SpadeCardEntity(spade))));
         }
-        Collections.shuffle(entities);
-        return entities;
+        List<CardModel> deal = new ArrayList<CardModel>(entities.size());
+        for(byte card : Deal.newDeck(dealNumber)) {
+            deal.add(entities.get(Card.ordinal(card)));
+        }
+        return deal;
     }
     
     public AbstractCardEntity getCardEntity() {
@@ -106,7 +116,7 @@ public class CardModel extends BaseModel {
      */
     public boolean isCardBeforeAndOppositeSuite(CardModel card) {
         //System.out.println("Attempting to place " + card._cardEntity.toString() + " over " + _cardEntity.toString());
-        return !_cardEntity.getBacksideVisible() && !card._cardEntity.getBacksideVisible() && card._cardEntity.isOppositeSuite(_cardEntity) && card._cardEntity.isCardRankedBefore(_cardEntity);
+        return !_cardEntity.getBacksideVisible() && !card._cardEntity.getBacksideVisible() && Card.isCardBeforeAndOppositeSuite(_cardEntity.getEncodedCard(), card._cardEntity.getEncodedCard());
     }
     
     @Override public String toString() {
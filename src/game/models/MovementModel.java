@@ -26,6 +26,7 @@ package game.models;
 
 import framework.core.mvc.model.BaseModel;
 
+import game.engine.Move;
 import game.views.FoundationPileView;
 import game.views.StockView;
 import game.views.TableauPileView;
@@ -57,17 +58,66 @@ public class MovementModel extends BaseModel {
                 return MovementType.NONE;
             }
         }
+        
+        public static MovementType fromSource(int move) {
+            switch(Move.type(move)) {
+            case Move.DRAW:
+            case Move.RECYCLE:
+                return MovementType.STOCK;
+            case Move.TALON_TO_TABLEAU:
+            case Move.TALON_TO_FOUNDATION:
+                return MovementType.TALON;
+            case Move.TABLEAU_TO_TABLEAU:
+            case Move.TABLEAU_TO_FOUNDATION:
+            case Move.UNCOVER:
+                return MovementType.TABLEAU;
+            case Move.FOUNDATION_TO_TABLEAU:
+                return MovementType.FOUNDATION;
+            default:
+                return MovementType.NONE;
+            }
+        }
+        
+        public static MovementType fromDestination(int move) {
+            switch(Move.type(move)) {
+            case Move.DRAW:
+            case Move.RECYCLE:
+                return MovementType.TALON;
+            case Move.TALON_TO_FOUNDATION:
+            case Move.TABLEAU_TO_FOUNDATION:
+                return MovementType.FOUNDATION;
+            case Move.TALON_TO_TABLEAU:
+            case Move.TABLEAU_TO_TABLEAU:
+            case Move.FOUNDATION_TO_TABLEAU:
+                return MovementType.TABLEAU;
+            default:
+                return MovementType.NONE;
+            }
+        }
     }
     
     private MovementType _from;
     
     private MovementType _to;
     
+    private int _move;
+    
+    private long _score;
+    
     private boolean _isUndo;
     
-    public void setMovement(MovementType from, MovementType to, boolean isUndo) {
-        _from = from;
-        _to = to;
+    /**
+     * Sets the movement that occurred and notifies the listeners
+     *
+     * @param move The encoded move, as it was applied to the game state
+     * @param score The score that the move was given when it was played, which is what an undo takes back
+     * @param isUndo If the movement is an undo of the move
+     */
+    public void setMovement(int move, long score, boolean isUndo) {
+        _from = MovementType.fromSource(move);
+        _to = MovementType.fromDestination(move);
+        _move = move;
+        _score = score;
         _isUndo = isUndo;
         
         doneUpdating();
@@ -81,6 +131,23 @@ public class MovementModel extends BaseModel {
         return _to;
     }
     
+    public int getMove() {
+        return _move;
+    }
+    
+    public long getScore() {
+        return _score;
+    }
+    
+    /**
+     * Sets the score that the move was given, done by the view that scores the movement when it is notified
+     *
+     * @param score The score that the move was given
+     */
+    public void setScore(long score) {
+        _score = score;
+    }
+    
     public boolean getIsUndo() {
         return _isUndo;
     }
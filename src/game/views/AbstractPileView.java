@@ -37,10 +37,10 @@ import java.util.List;
 
 import javax.swing.JLayeredPane;
 
-import framework.core.factories.AbstractFactory;
-import framework.core.factories.ViewFactory;
 import framework.core.mvc.view.PanelView;
 
+import game.views.helpers.DamageTracker;
+
 /**
  * Abstract representation of a pile view
  * 
@@ -53,11 +53,6 @@ public abstract class AbstractPileView extends PanelView implements IUndoable {
      */
     protected final JLayeredPane layeredPane = new JLayeredPane();
 
-    /**
-     * The list of cards that were previously moved, used for undo purposes
-     */
-    private final List<Component> _previousCards = new ArrayList<Component>();
-    
     /**
      * Constructs a new instance of this class type
      */
@@ -74,10 +69,15 @@ public abstract class AbstractPileView extends PanelView implements IUndoable {
     public void removeHighlight() {
         for(Component comp : layeredPane.getComponents()) {
             CardView cardView = (CardView)comp;
-            cardView.setIsHighlighted(false);
+            if(cardView.getIsHighlighted()) {
+                cardView.setIsHighlighted(false);
+                DamageTracker.addDamage(cardView);
+            }
+        }
+        if(getIsHighlighted()) {
+            setIsHighlighted(false);
+            DamageTracker.addDamage(this);
         }
-        setIsHighlighted(false);
-        repaint();
     }
 
     /**
@@ -103,7 +103,7 @@ public abstract class AbstractPileView extends PanelView implements IUndoable {
      * 
      */
     public void addCard(CardView cardView) {
-        addCard(cardView, layeredPane.getComponents().length);
+        addCard(cardView, layeredPane.getComponentCount());
     }
     
     public void addCard(CardView cardView, int layerPosition) {
@@ -120,6 +120,11 @@ public abstract class AbstractPileView extends PanelView implements IUndoable {
         
         // Reverse the list because layered panes associate objects closer to layer 0 as being closer to the screen.
         Collections.reverse(components);
+        
+        // The area that the cards are leaving
+        if(parentCardView != null) {
+            DamageTracker.addDamage(parentCardView, getCardsBounds(components));
+        }
 
         // Add the cards to this pile view
         for(Component comp : components) {
@@ -131,8 +136,20 @@ public abstract class AbstractPileView extends PanelView implements IUndoable {
             ++layerPosition;
         }
         
-        parentCardView.repaint();
-        repaint();
+        // The area that the cards are entering
+        DamageTracker.addDamage(layeredPane, getCardsBounds(components));
+    }
+    
+    /**
+     * Indicates if the rules allow the specified card to be dropped onto this pile view. Where the card is being dropped
+     * is resolved by the {@link DropZoneIndex} of the board
+     *
+     * @param cardView The card being dropped, followed by the cards on top of it
+     * 
+     * @return TRUE if the card can be dropped onto this pile view, FALSE otherwise
+     */
+    public boolean isValidDrop(CardView cardView) {
+        return false;
     }
     
     /**
@@ -144,6 +161,21 @@ public abstract class AbstractPileView extends PanelView implements IUndoable {
      */
     protected abstract Point getCardOffset(CardView cardView);
     
+    /**
+     * Gets the area that the specified cards cover
+     *
+     * @param cards The cards, which all have the same parent
+     *
+     * @return The area that the cards cover relative to their parent, which is empty if there are no cards
+     */
+    protected static Rectangle getCardsBounds(Iterable<? extends Component> cards) {
+        Rectangle bounds = new Rectangle(0, 0, -1, -1);
+        for(Component card : cards) {
+            bounds.add(card.getBounds());
+        }
+        return bounds;
+    }
+    
     /**
      * @return The components associated to the layered pane of this view, grouped by layer identifier.
      */
@@ -159,46 +191,6 @@ public abstract class AbstractPileView extends PanelView implements IUndoable {
         return components;
     }
     
-    @Override public void undoLastAction() {
-        List<Component> componentsList = Arrays.asList(layeredPane.getComponents());
-        for(Component comp : _previousCards) {
-            if(!componentsList.contains(comp)) {
-                addCard((CardView) comp);
-            }
-        }
-        
-        repaint();
-    }
-
-    @Override public void performBackup() {
-
-        // Get all the cards currently in the pile view
-        List<Component> allComponents = Arrays.asList(layeredPane.getComponents());
-        Collections.reverse(allComponents);
-        _previousCards.addAll(allComponents);
-        
-        // Attempt to get the card that is currently being dragged.
-        // Note: This is only valid in a non-outline scenario. In this scenario, the card that we are getting
-        //       here is the card that was clicked on. The subsequent cards that are being dragged along with it
-        //       if any can be found in the layered pane associated to this clicked card.
-        CardView cardView = AbstractFactory.getFactory(ViewFactory.class).get(GameView.class).getCardComponent();
-        if(cardView != null) {
-            _previousCards.add(cardView);
-            
-            List<Component> components = Arrays.asList(cardView.layeredPane.getComponents());
-            Collections.reverse(components);
-            
-            // Add any subsequent cards below the clicked card if any
-            for(Component comp : components) {
-                _previousCards.add(comp);
-            }
-        }
-    }
-
-    @Override public void clearBackup() {        
-        _previousCards.clear();
-    }
-        
     @Override public void render() {
         super.render();
         for(Component component : layeredPane.getComponents()) {
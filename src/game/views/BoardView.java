@@ -0,0 +1,888 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2019 Daniel Ricci {@literal <thedanny09@icloud.com>}
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package game.views;
+
+import java.awt.BorderLayout;
+import java.awt.Color;
+import java.awt.Graphics;
+import java.awt.Image;
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+
+import javax.swing.SwingUtilities;
+
+import framework.communication.internal.signal.ISignalReceiver;
+import framework.communication.internal.signal.arguments.EventArgs;
+import framework.core.factories.AbstractFactory;
+import framework.core.factories.ViewFactory;
+import framework.core.mvc.view.PanelView;
+
+import game.config.OptionsSnapshot;
+import game.controllers.MovementRecorderController;
+import game.engine.Card;
+import game.engine.GameSession;
+import game.engine.GameState;
+import game.engine.Move;
+import game.entities.BacksideCardEntity;
+import game.entities.SpriteCache;
+import game.views.helpers.DamageTracker;
+
+import generated.DataLookup;
+
+/**
+ * The board view paints the entire board onto a single component, straight from the game state held by the movement
+ * recorder, as an alternative to the game view which is made up of a component for every pile and for every card.
+ *
+ * The piles, their cards and the cards being dragged are all painted by this view using the sprite cache, and the pile
+ * and the card under the mouse are worked out arithmetically from the layout of the board instead of going through
+ * the component tree. Every movement is validated against the game state and recorded through the movement recorder,
+ * after which the board is painted again.
+ *
+ * @author Daniel Ricci {@literal <thedanny09@icloud.com>}
+ */
+public final class BoardView extends PanelView implements IBoardView {
+
+    /**
+     * The number of columns of the board
+     */
+    private static final int COLUMN_COUNT = GameState.TABLEAU_COUNT;
+
+    /**
+     * The width of a card
+     */
+    private static final int CARD_WIDTH = CardView.CARD_WIDTH;
+
+    /**
+     * The height of a card sprite
+     */
+    private static final int CARD_HEIGHT = 96;
+
+    /**
+     * The position of the top row of piles
+     */
+    private static final int TOP = 10;
+
+    /**
+     * The position of the tableau
+     */
+    private static final int TABLEAU_TOP = TOP + CardView.CARD_HEIGHT + 10;
+
+    /**
+     * The distance between a card and a card with its backside showing that it is on top of
+     */
+    private static final int BACKSIDE_OFFSET = 3;
+
+    /**
+     * The distance between a card and a card with its face showing that it is on top of
+     */
+    private static final int CARD_OFFSET = 15;
+
+    /**
+     * The distance between two cards of the waste that are fanned out
+     */
+    private static final int WASTE_OFFSET = 12;
+
+    /**
+     * The column of the first foundation, the foundations being laid out from the last column towards this one
+     */
+    private static final int FOUNDATION_COLUMN = 3;
+
+    /**
+     * No pile
+     */
+    private static final int PILE_NONE = -1;
+
+    /**
+     * The stock
+     */
+    private static final int PILE_STOCK = 0;
+
+    /**
+     * The waste, holding the cards that were turned over from the stock
+     */
+    private static final int PILE_WASTE = 1;
+
+    /**
+     * The first foundation, followed by the other foundations
+     */
+    private static final int PILE_FOUNDATION = 2;
+
+    /**
+     * The first tableau pile, followed by the other tableau piles
+     */
+    private static final int PILE_TABLEAU = PILE_FOUNDATION + Card.SUITE_COUNT;
+
+    /**
+     * The session of the game
+     */
+    private final GameSession _session;
+
+    /**
+     * The controller recording the movements of the game
+     */
+    private final MovementRecorderController _controller;
+
+    /**
+     * The status bar view of the game, which holds the score and the game timer
+     */
+    private final StatusBarView _statusBarView;
+
+    /**
+     * The game state being painted
+     */
+    private GameState _state;
+
+    /**
+     * The suite held by each foundation, or -1 for a foundation that is empty
+     */
+    private int[] _foundations;
+
+    /**
+     * The number of cards at the top of the waste that belong to the last hand drawn
+     */
+    private int _fanSize;
+
+    /**
+     * The backside of the cards
+     */
+    private DataLookup.BACKSIDES _backside;
+
+    /**
+     * The pile that the cards being dragged are from, or {@link #PILE_NONE} if no card is being dragged
+     */
+    private int _dragPile = PILE_NONE;
+
+    /**
+     * The index within its pile of the first card being dragged
+     */
+    private int _dragIndex;
+
+    /**
+     * The number of cards being dragged
+     */
+    private int _dragCount;
+
+    /**
+     * The position of the first card being dragged
+     */
+    private final Point _dragLocation = new Point();
+
+    /**
+     * The position of the mouse relative to the first card being dragged
+     */
+    private final Point _dragOffset = new Point();
+
+    /**
+     * Indicates if the cards have been moved by the mouse since they were picked up
+     */
+    private boolean _isDragging;
+
+    /**
+     * Indicates if the cards being dragged are only outlined
+     */
+    private boolean _isOutlineDragging;
+
+    /**
+     * Creates a new instance of this class type
+     *
+     * @param session The session of the game
+     */
+    public BoardView(GameSession session) {
+        _session = session;
+
+        setLayout(new BorderLayout());
+        setBackground(new Color(0, 128, 0));
+
+        // Create the movement controller of this board
+        _controller = new MovementRecorderController(session, this);
+        _state = _controller.getState();
+        _foundations = _controller.getFoundationSuites();
+
+        OptionsSnapshot preferences = OptionsSnapshot.get();
+        _backside = preferences.deck;
+
+        _statusBarView = AbstractFactory.getFactory(ViewFactory.class).add(new StatusBarView(_controller), true);
+        add(_statusBarView, BorderLayout.SOUTH);
+
+        MouseAdapter mouseAdapter = new MouseAdapter() {
+            @Override public void mousePressed(MouseEvent event) {
+                onMousePressed(event);
+            }
+
+            @Override public void mouseDragged(MouseEvent event) {
+                onMouseDragged(event);
+            }
+
+            @Override public void mouseReleased(MouseEvent event) {
+                onMouseReleased();
+            }
+        };
+        addMouseListener(mouseAdapter);
+        addMouseMotionListener(mouseAdapter);
+
+        // Paint the cards using the backside that was selected
+        addSignal(BacksideCardEntity.DECK_BACKSIDE_UPDATED, new ISignalReceiver<EventArgs>() {
+            @Override public void signalReceived(EventArgs event) {
+                OptionsSnapshot preferences = OptionsSnapshot.get();
+                _backside = preferences.deck;
+                repaint();
+            }
+        });
+    }
+
+    @Override public long getDealNumber() {
+        return _session.getDealNumber();
+    }
+
+    @Override public GameSession getSession() {
+        return _session;
+    }
+
+    @Override public MovementRecorderController getController() {
+        return _controller;
+    }
+
+    @Override public StatusBarView getStatusBarView() {
+        return _statusBarView;
+    }
+
+    @Override public void synchronize(GameState state, int[] foundations, int fanSize) {
+        synchronizeBoard(state, foundations, fanSize);
+        if(state.isWon()) {
+            GameView.processWin(this);
+        }
+    }
+
+    @Override public void synchronizeBoard(GameState state, int[] foundations, int fanSize) {
+        _state = state;
+        _foundations = foundations;
+        _fanSize = fanSize;
+        _dragPile = PILE_NONE;
+        repaint();
+    }
+
+    @Override protected void paintComponent(Graphics context) {
+        super.paintComponent(context);
+
+        paintStock(context);
+        paintWaste(context);
+        for(int i = 0; i < _foundations.length; ++i) {
+            paintFoundation(context, i);
+        }
+        for(int column = 0; column < COLUMN_COUNT; ++column) {
+            paintTableau(context, column);
+        }
+        if(_dragPile != PILE_NONE && _isDragging) {
+            paintDraggedCards(context);
+        }
+    }
+
+    /**
+     * Paints the stock, collating its backsides the more cards it holds
+     *
+     * @param context The graphics context
+     */
+    private void paintStock(Graphics context) {
+        int x = getColumnX(0);
+        int stockSize = _state.getStockSize();
+        if(stockSize == 0) {
+            DataLookup.MISC misc = _state.canRecycleStock() || _state.getTalonSize() == 0 ? DataLookup.MISC.TALON_RESTART : DataLookup.MISC.TALON_END;
+            context.drawImage(SpriteCache.getMisc(misc), x, TOP, null);
+            return;
+        }
+
+        Image backside = SpriteCache.getBackside(_backside);
+        context.drawImage(backside, x, TOP, null);
+        if(stockSize > 10) {
+            context.drawImage(backside, x + 2, TOP + 1, null);
+        }
+        if(stockSize > 20) {
+            context.drawImage(backside, x + 4, TOP + 2, null);
+        }
+    }
+
+    /**
+     * Paints the waste, fanning out the cards of the last hand drawn
+     *
+     * @param context The graphics context
+     */
+    private void paintWaste(Graphics context) {
+        int cursor = isDragged(PILE_WASTE) ? _dragIndex : _state.getTalonCursor();
+        for(int i = 0; i < cursor; ++i) {
+            Point location = getWasteLocation(i);
+            context.drawImage(SpriteCache.getCard(_state.getTalonCard(i)), location.x, location.y, null);
+        }
+    }
+
+    /**
+     * Paints the specified foundation
+     *
+     * @param context The graphics context
+     * @param foundation The index of the foundation
+     */
+    private void paintFoundation(Graphics context, int foundation) {
+        int x = getColumnX(getFoundationColumn(foundation));
+        int suite = _foundations[foundation];
+        int size = suite < 0 ? 0 : _state.getFoundationSize(suite);
+        if(isDragged(PILE_FOUNDATION + foundation)) {
+            --size;
+        }
+
+        if(size > 0) {
+            context.drawImage(SpriteCache.getCard(Card.valueOf(suite, size - 1)), x, TOP, null);
+        }
+        else {
+            context.drawImage(SpriteCache.getMisc(DataLookup.MISC.FOUNDATION), x, TOP, null);
+        }
+    }
+
+    /**
+     * Paints the specified tableau pile
+     *
+     * @param context The graphics context
+     * @param column The tableau pile index
+     */
+    private void paintTableau(Graphics context, int column) {
+        int x = getColumnX(column);
+        int size = isDragged(PILE_TABLEAU + column) ? _dragIndex : _state.getColumnSize(column);
+        int backsideCount = _state.getBacksideCount(column);
+        Image backside = SpriteCache.getBackside(_backside);
+        for(int i = 0; i < size; ++i) {
+            Image sprite = i < backsideCount ? backside : SpriteCache.getCard(_state.getTableauCard(column, i));
+            context.drawImage(sprite, x, getTableauY(column, i), null);
+        }
+    }
+
+    /**
+     * Paints the cards being dragged at the position of the mouse, or only their outline when outline dragging is enabled
+     *
+     * @param context The graphics context
+     */
+    private void paintDraggedCards(Graphics context) {
+        for(int i = 0; i < _dragCount; ++i) {
+            int y = _dragLocation.y + i * CARD_OFFSET;
+            if(_isOutlineDragging) {
+                context.setXORMode(Color.WHITE);
+                context.drawRect(_dragLocation.x, y, CARD_WIDTH - 1, CARD_HEIGHT - 1);
+                context.setPaintMode();
+            }
+            else {
+                context.drawImage(SpriteCache.getCard(getCard(_dragPile, _dragIndex + i)), _dragLocation.x, y, null);
+            }
+        }
+    }
+
+    /**
+     * Handles a mouse press on the board, either turning over or drawing cards, moving a card onto its foundation, or
+     * picking up the cards to drag
+     *
+     * @param event The mouse event
+     */
+    private void onMousePressed(MouseEvent event) {
+        GameState state = _controller.getState();
+        if(state != _state || state.isWon()) {
+            return;
+        }
+
+        if(SwingUtilities.isRightMouseButton(event)) {
+            performCardsAutocomplete();
+            return;
+        }
+        _statusBarView.getTimerView().startGameTimer();
+
+        int pile = getPileAt(event.getX(), event.getY());
+        int index = getCardIndexAt(pile, event.getX(), event.getY());
+        if(pile == PILE_STOCK) {
+            if(state.getStockSize() > 0) {
+                recordMove(Move.valueOf(Move.DRAW, 0, 0, 0), -1);
+            }
+            else if(state.canRecycleStock()) {
+                recordMove(Move.valueOf(Move.RECYCLE, 0, 0, 0), -1);
+            }
+        }
+        else if(index < 0) {
+            return;
+        }
+        else if(pile >= PILE_TABLEAU && index < state.getBacksideCount(pile - PILE_TABLEAU)) {
+            // Only the top-most card can be turned over
+            int column = pile - PILE_TABLEAU;
+            if(index == state.getColumnSize(column) - 1) {
+                recordMove(Move.valueOf(Move.UNCOVER, column, 0, 0), -1);
+            }
+        }
+        else if(event.getClickCount() == 2 && index == getPileSize(pile) - 1 && (pile == PILE_WASTE || pile >= PILE_TABLEAU)) {
+            moveToFoundation(pile, index);
+        }
+        else {
+            Point location = getCardLocation(pile, index);
+            _dragPile = pile;
+            _dragIndex = index;
+            _dragCount = getPileSize(pile) - index;
+            _dragLocation.setLocation(location);
+            _dragOffset.setLocation(event.getX() - location.x, event.getY() - location.y);
+            _isDragging = false;
+
+            OptionsSnapshot preferences = OptionsSnapshot.get();
+            _isOutlineDragging = preferences.outlineDragging;
+        }
+    }
+
+    /**
+     * Handles the mouse being dragged, moving the cards being dragged along with it. Only the area that the cards left
+     * and the area that they entered are painted again
+     *
+     * @param event The mouse event
+     */
+    private void onMouseDragged(MouseEvent event) {
+        if(_dragPile == PILE_NONE) {
+            return;
+        }
+
+        Rectangle damage = getDraggedBounds();
+        if(!_isDragging) {
+            // The cards are taken off of their pile the first time that they are dragged
+            _isDragging = true;
+            damage.add(getPileBounds(_dragPile));
+        }
+        _dragLocation.setLocation(event.getX() - _dragOffset.x, event.getY() - _dragOffset.y);
+        damage.add(getDraggedBounds());
+        DamageTracker.addDamage(this, damage);
+    }
+
+    /**
+     * Handles the mouse being released, dropping the cards being dragged onto the pile underneath them
+     */
+    private void onMouseReleased() {
+        if(_dragPile == PILE_NONE) {
+            return;
+        }
+
+        int source = _dragPile;
+        _dragPile = PILE_NONE;
+        if(_isDragging) {
+            // The cards go back onto their pile unless they are moved, in which case the move paints the piles again
+            Rectangle damage = getDraggedBounds();
+            damage.add(getPileBounds(source));
+            _isDragging = false;
+            moveCards(source, _dragIndex, getDropPile());
+            DamageTracker.addDamage(this, damage);
+        }
+    }
+
+    /**
+     * Moves the cards of the specified pile onto another pile, if the move is valid
+     *
+     * @param source The source pile
+     * @param index The index within the source pile of the first card to move
+     * @param destination The destination pile
+     *
+     * @return TRUE if the cards were moved, FALSE otherwise
+     */
+    private boolean moveCards(int source, int index, int destination) {
+        GameState state = _controller.getState();
+        int count = getPileSize(source) - index;
+        if(source == destination || destination == PILE_NONE || count <= 0) {
+            return false;
+        }
+
+        byte card = getCard(source, index);
+        if(destination >= PILE_TABLEAU) {
+            int column = destination - PILE_TABLEAU;
+            if(!state.isValidTableauMove(card, column)) {
+                return false;
+            }
+            if(source == PILE_WASTE) {
+                return recordMove(Move.valueOf(Move.TALON_TO_TABLEAU, 0, column, 1), -1);
+            }
+            if(source >= PILE_TABLEAU) {
+                return recordMove(Move.valueOf(Move.TABLEAU_TO_TABLEAU, source - PILE_TABLEAU, column, count), -1);
+            }
+            return recordMove(Move.valueOf(Move.FOUNDATION_TO_TABLEAU, Card.suite(card), column, 1), source - PILE_FOUNDATION);
+        }
+
+        // A foundation only takes one card at a time, of the suite that it holds or of any suite when it is empty
+        int foundation = destination - PILE_FOUNDATION;
+        int suite = Card.suite(card);
+        if(count != 1 || source >= PILE_FOUNDATION && source < PILE_TABLEAU || !state.isValidFoundationMove(card)) {
+            return false;
+        }
+        if(_foundations[foundation] != suite && (_foundations[foundation] >= 0 || getFoundation(suite) >= 0)) {
+            return false;
+        }
+        if(source == PILE_WASTE) {
+            return recordMove(Move.valueOf(Move.TALON_TO_FOUNDATION, 0, suite, 1), foundation);
+        }
+        return recordMove(Move.valueOf(Move.TABLEAU_TO_FOUNDATION, source - PILE_TABLEAU, suite, 1), foundation);
+    }
+
+    /**
+     * Moves the specified card onto the foundation of its suite, or onto the left-most empty foundation
+     *
+     * @param source The source pile
+     * @param index The index of the card within the source pile, which must be the top-most card
+     *
+     * @return TRUE if the card was moved, FALSE otherwise
+     */
+    private boolean moveToFoundation(int source, int index) {
+        if(index < 0 || source >= PILE_TABLEAU && index < _controller.getState().getBacksideCount(source - PILE_TABLEAU)) {
+            return false;
+        }
+
+        int foundation = getFoundation(Card.suite(getCard(source, index)));
+        for(int i = _foundations.length - 1; i >= 0 && foundation < 0; --i) {
+            if(_foundations[i] < 0) {
+                foundation = i;
+            }
+        }
+        return foundation >= 0 && moveCards(source, index, PILE_FOUNDATION + foundation);
+    }
+
+    /**
+     * Moves every card that can go onto a foundation onto it, until no card can
+     */
+    private void performCardsAutocomplete() {
+        GameState state = _controller.getState();
+        boolean isMoved;
+        do {
+            isMoved = moveToFoundation(PILE_WASTE, state.getTalonCursor() - 1);
+            for(int column = 0; column < COLUMN_COUNT && !isMoved; ++column) {
+                isMoved = moveToFoundation(PILE_TABLEAU + column, state.getColumnSize(column) - 1);
+            }
+        }
+        while(isMoved);
+    }
+
+    /**
+     * Records the specified move and paints the piles that it changed again
+     *
+     * @param move The encoded move, which must be valid
+     * @param foundation The index of the foundation involved in the move, or -1 if there is none
+     *
+     * @return TRUE
+     */
+    private boolean recordMove(int move, int foundation) {
+        _controller.recordMove(move, foundation);
+        _foundations = _controller.getFoundationSuites();
+        _fanSize = _controller.getFanSize();
+        DamageTracker.addDamage(this, getMoveBounds(move, foundation));
+
+        if(_state.isWon()) {
+            GameView.processWin(this);
+        }
+        return true;
+    }
+
+    /**
+     * Gets the area of the piles that the specified move changes
+     *
+     * @param move The encoded move
+     * @param foundation The index of the foundation involved in the move, or -1 if there is none
+     *
+     * @return The area of the piles, relative to this view
+     */
+    private Rectangle getMoveBounds(int move, int foundation) {
+        Rectangle bounds = new Rectangle(0, 0, -1, -1);
+        int type = Move.type(move);
+        if(type == Move.DRAW || type == Move.RECYCLE || type == Move.TALON_TO_TABLEAU || type == Move.TALON_TO_FOUNDATION) {
+            // The stock shows if the waste can be recycled, which changes along with the size of the waste
+            bounds.add(getPileBounds(PILE_STOCK));
+            bounds.add(getPileBounds(PILE_WASTE));
+        }
+        if(type == Move.TABLEAU_TO_TABLEAU || type == Move.TABLEAU_TO_FOUNDATION || type == Move.UNCOVER) {
+            bounds.add(getPileBounds(PILE_TABLEAU + Move.from(move)));
+        }
+        if(type == Move.TALON_TO_TABLEAU || type == Move.TABLEAU_TO_TABLEAU || type == Move.FOUNDATION_TO_TABLEAU) {
+            bounds.add(getPileBounds(PILE_TABLEAU + Move.to(move)));
+        }
+        if(foundation >= 0) {
+            bounds.add(getPileBounds(PILE_FOUNDATION + foundation));
+        }
+        return bounds;
+    }
+
+    /**
+     * Gets the area that the specified pile can be painted in, which is the whole of its column below the top row for a
+     * tableau pile, and its column of the top row otherwise. The waste also spans the empty column beside it, which its
+     * last hand drawn is fanned out over
+     *
+     * @param pile The pile
+     *
+     * @return The area of the pile, relative to this view
+     */
+    private Rectangle getPileBounds(int pile) {
+        int width = getWidth();
+        if(pile >= PILE_TABLEAU) {
+            int column = pile - PILE_TABLEAU;
+            return new Rectangle(column * width / COLUMN_COUNT, TABLEAU_TOP, width / COLUMN_COUNT + 1, getHeight() - TABLEAU_TOP);
+        }
+
+        int column = pile == PILE_STOCK ? 0 : pile == PILE_WASTE ? 1 : getFoundationColumn(pile - PILE_FOUNDATION);
+        int columns = pile == PILE_WASTE ? 2 : 1;
+        return new Rectangle(column * width / COLUMN_COUNT, 0, columns * width / COLUMN_COUNT + 1, TABLEAU_TOP);
+    }
+
+    /**
+     * @return The area of the cards being dragged, relative to this view
+     */
+    private Rectangle getDraggedBounds() {
+        return new Rectangle(_dragLocation.x, _dragLocation.y, CARD_WIDTH, (_dragCount - 1) * CARD_OFFSET + CardView.CARD_HEIGHT);
+    }
+
+    /**
+     * Gets the pile that the cards being dragged are dropped onto, the pile under the middle of the first card
+     *
+     * @return The pile, or {@link #PILE_NONE} if there is none
+     */
+    private int getDropPile() {
+        int x = _dragLocation.x + CARD_WIDTH / 2;
+        int y = _dragLocation.y + CARD_HEIGHT / 2;
+        if(x < 0 || x >= getWidth()) {
+            return PILE_NONE;
+        }
+
+        int column = x * COLUMN_COUNT / getWidth();
+        if(y >= TABLEAU_TOP - CARD_OFFSET) {
+            return PILE_TABLEAU + column;
+        }
+        return column >= FOUNDATION_COLUMN ? PILE_FOUNDATION + getFoundationColumn(column) : PILE_NONE;
+    }
+
+    /**
+     * Gets the pile at the specified position
+     *
+     * @param x The horizontal position
+     * @param y The vertical position
+     *
+     * @return The pile, or {@link #PILE_NONE} if there is none
+     */
+    private int getPileAt(int x, int y) {
+        // The waste spreads out of its column when the last hand drawn is fanned out
+        int cursor = _state.getTalonCursor();
+        if(cursor > 0 && contains(getWasteLocation(cursor - 1), x, y)) {
+            return PILE_WASTE;
+        }
+
+        if(x < 0 || x >= getWidth()) {
+            return PILE_NONE;
+        }
+        int column = x * COLUMN_COUNT / getWidth();
+        int columnX = getColumnX(column);
+        if(x < columnX || x >= columnX + CARD_WIDTH || y < TOP) {
+            return PILE_NONE;
+        }
+
+        if(y >= TABLEAU_TOP) {
+            return PILE_TABLEAU + column;
+        }
+        if(y >= TOP + CARD_HEIGHT) {
+            return PILE_NONE;
+        }
+        switch(column) {
+        case 0:
+            return PILE_STOCK;
+        case 1:
+            return PILE_WASTE;
+        case 2:
+            return PILE_NONE;
+        default:
+            return PILE_FOUNDATION + getFoundationColumn(column);
+        }
+    }
+
+    /**
+     * Gets the card of the specified pile at the specified position
+     *
+     * @param pile The pile
+     * @param x The horizontal position
+     * @param y The vertical position
+     *
+     * @return The index of the card within the pile, or -1 if there is none
+     */
+    private int getCardIndexAt(int pile, int x, int y) {
+        if(pile == PILE_NONE || pile == PILE_STOCK) {
+            return -1;
+        }
+        if(pile < PILE_TABLEAU) {
+            // Only the top-most card of the waste and of the foundations can be taken
+            return getPileSize(pile) - 1;
+        }
+
+        int column = pile - PILE_TABLEAU;
+        int size = _state.getColumnSize(column);
+        int backsideCount = _state.getBacksideCount(column);
+        int offset = y - TABLEAU_TOP;
+        int index = offset < backsideCount * BACKSIDE_OFFSET ? offset / BACKSIDE_OFFSET : backsideCount + (offset - backsideCount * BACKSIDE_OFFSET) / CARD_OFFSET;
+        if(index < size) {
+            return index;
+        }
+
+        // The top-most card is fully showing
+        return size > 0 && y < getTableauY(column, size - 1) + CARD_HEIGHT ? size - 1 : -1;
+    }
+
+    /**
+     * Gets the position of the specified card
+     *
+     * @param pile The pile
+     * @param index The index of the card within the pile
+     *
+     * @return The position of the card
+     */
+    private Point getCardLocation(int pile, int index) {
+        if(pile == PILE_WASTE) {
+            return getWasteLocation(index);
+        }
+        if(pile >= PILE_TABLEAU) {
+            return new Point(getColumnX(pile - PILE_TABLEAU), getTableauY(pile - PILE_TABLEAU, index));
+        }
+        return new Point(getColumnX(getFoundationColumn(pile - PILE_FOUNDATION)), TOP);
+    }
+
+    /**
+     * Gets the position of the specified card of the waste. The waste is collated the same way as the talon pile view
+     * collates it, and the cards of the last hand drawn are fanned out when drawing three
+     *
+     * @param index The index of the card within the talon
+     *
+     * @return The position of the card
+     */
+    private Point getWasteLocation(int index) {
+        int cursor = _state.getTalonCursor();
+        int fanSize = _state.getDrawCount() > 1 ? Math.min(_fanSize, cursor) : 0;
+        int fanIndex = index - (cursor - fanSize);
+        int position = index + 1;
+
+        Point location = new Point(getColumnX(1), TOP);
+        int collation = position < (_state.getDrawCount() > 1 ? 13 : 12) ? 0 : position < 22 ? 1 : 2;
+        location.translate(collation * 2, collation);
+        if(fanIndex > 0) {
+            location.translate(fanIndex * WASTE_OFFSET, 0);
+        }
+        return location;
+    }
+
+    /**
+     * @param column The column of the board
+     *
+     * @return The horizontal position of the cards of the specified column, centered within the column
+     */
+    private int getColumnX(int column) {
+        int width = getWidth();
+        return column * width / COLUMN_COUNT + (width / COLUMN_COUNT - CARD_WIDTH) / 2;
+    }
+
+    /**
+     * @param column The tableau pile index
+     * @param index The index of the card within the tableau pile
+     *
+     * @return The vertical position of the specified card of the tableau
+     */
+    private int getTableauY(int column, int index) {
+        int backsideCount = Math.min(index, _state.getBacksideCount(column));
+        return TABLEAU_TOP + backsideCount * BACKSIDE_OFFSET + (index - backsideCount) * CARD_OFFSET;
+    }
+
+    /**
+     * Gets the column of the specified foundation, or the foundation of the specified column as both are mirrored
+     *
+     * @param foundation The index of the foundation, or the column of the board
+     *
+     * @return The column of the foundation, or the index of the foundation
+     */
+    private static int getFoundationColumn(int foundation) {
+        return COLUMN_COUNT - 1 - foundation;
+    }
+
+    /**
+     * @param suite The suite
+     *
+     * @return The index of the foundation holding the specified suite, or -1 if there is none
+     */
+    private int getFoundation(int suite) {
+        for(int i = 0; i < _foundations.length; ++i) {
+            if(_foundations[i] == suite) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @param pile The pile
+     *
+     * @return The number of cards that the specified pile holds
+     */
+    private int getPileSize(int pile) {
+        if(pile == PILE_STOCK) {
+            return _state.getStockSize();
+        }
+        if(pile == PILE_WASTE) {
+            return _state.getTalonCursor();
+        }
+        if(pile >= PILE_TABLEAU) {
+            return _state.getColumnSize(pile - PILE_TABLEAU);
+        }
+        int suite = _foundations[pile - PILE_FOUNDATION];
+        return suite < 0 ? 0 : _state.getFoundationSize(suite);
+    }
+
+    /**
+     * @param pile The pile, other than the stock
+     * @param index The index of the card within the pile
+     *
+     * @return The specified card
+     */
+    private byte getCard(int pile, int index) {
+        if(pile == PILE_WASTE) {
+            return _state.getTalonCard(index);
+        }
+        if(pile >= PILE_TABLEAU) {
+            return _state.getTableauCard(pile - PILE_TABLEAU, index);
+        }
+        return Card.valueOf(_foundations[pile - PILE_FOUNDATION], index);
+    }
+
+    /**
+     * @param pile The pile
+     *
+     * @return TRUE if cards of the specified pile are being dragged, FALSE otherwise
+     */
+    private boolean isDragged(int pile) {
+        return _isDragging && _dragPile == pile;
+    }
+
+    /**
+     * @param location The position of a card
+     * @param x The horizontal position
+     * @param y The vertical position
+     *
+     * @return TRUE if the specified position is over the card, FALSE otherwise
+     */
+    private static boolean contains(Point location, int x, int y) {
+        return x >= location.x && x < location.x + CARD_WIDTH && y >= location.y && y < location.y + CARD_HEIGHT;
+    }
+}
\ No newline at end of file
@@ -28,15 +28,15 @@ import java.awt.Color;
 import java.awt.Component;
 import java.awt.Dimension;
 import java.awt.Graphics;
+import java.awt.Graphics2D;
 import java.awt.Point;
 import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
-import java.util.logging.Level;
 
 import javax.swing.BoxLayout;
 import javax.swing.JLayeredPane;
@@ -45,23 +45,19 @@ import javax.swing.SwingUtilities;
 import framework.api.IView;
 import framework.communication.internal.signal.ISignalReceiver;
 import framework.communication.internal.signal.arguments.EventArgs;
-import framework.core.factories.AbstractFactory;
-import framework.core.factories.ControllerFactory;
-import framework.core.factories.ViewFactory;
 import framework.core.graphics.IRenderable;
 import framework.core.mvc.view.PanelView;
-import framework.core.mvc.view.layout.DragListener;
-import framework.core.physics.CollisionListener;
 import framework.core.physics.ICollidable;
 import framework.utils.MouseListenerEvent;
 import framework.utils.MouseListenerEvent.SupportedActions;
-import framework.utils.logging.Tracelog;
 
-import game.config.OptionsPreferences;
+import game.config.OptionsSnapshot;
 import game.config.OptionsPreferences.DrawOption;
 import game.controllers.CardController;
 import game.controllers.MovementRecorderController;
 import game.models.CardModel;
+import game.views.components.DragOverlay;
+import game.views.helpers.DamageTracker;
 import game.views.helpers.ViewHelper;
 
 /**
@@ -73,23 +69,13 @@ import game.views.helpers.ViewHelper;
 public final class CardView extends PanelView implements ICollidable {
 
     /**
-     * The card selection events for this proxy view
+     * The card selection events for this card view, dragging the card along with the cards on top of it
      * 
      * @author Daniel Ricci {@literal <thedanny09@icloud.com>}
      *
      */
     private final class CardSelectionEvents extends MouseListenerEvent {
         
-        /**
-         * The parent layer pane
-         */
-        private JLayeredPane _parentLayeredPane;
-        
-        /**
-         * The parent panel view
-         */
-        private IView _parentPanelView;
-        
         /**
          * Constructs a new instance of this class type
          */
@@ -108,63 +94,17 @@ public final class CardView extends PanelView implements ICollidable {
                 return;
             }
             
-            // Get the parent of this card view, used as a reference to go back to whatever we were coming from
-            _parentLayeredPane = (JLayeredPane) CardView.this.getParent();
+            startDrag(event, false);
+        }
+        
+        @Override public void mouseDragged(MouseEvent event) {
             
-            // Get the parent IView w.r.t this card view, this is used to make sure that we are not trying to collide with ourselves
-            _parentPanelView = CardView.this.getParentIView();
-
-            // Get the list of components that the parent owns
-            Component[] components =_parentLayeredPane.getComponents();
-
-            // Find the card that is being dragged and take all the siblings below it and populate them into the
-            // layered pane composed by the CardView.this reference
-            mainLabel : for(int i = components.length - 1; i >= 0; --i) {
-
-                if(components[i].equals(CardView.this)) {
-
-                    // Get the siblings of cards within the components list (excluding CardView.this)
-                    List<CardView> cardViews = Arrays.asList(Arrays.copyOfRange(components, 0, i, CardView[].class));
-
-                    // Reverse the list because layered panes associate objects closer to layer 0 as being closer to the screen.
-                    Collections.reverse(cardViews);
-
-                    // Fixes a bug where the layered pane is chopped from the waist down
-                    CardView.this.layeredPane.setSize(layeredPane.getWidth(), layeredPane.getHeight() + (cardViews.size() * 15));
-                    
-                    // For each sibling add it into the associated layere pane and position it correctly within
-                    // the pane, accounting for the fact that CardView.this is the temporary 'root'
-                    for(int j = 0; j < cardViews.size(); ++j) {
-                        layeredPane.add(cardViews.get(j));
-                        layeredPane.setLayer(cardViews.get(j), j);
-                        
-                        // Account for the border offsets of -1 for left and bottom
-                        cardViews.get(j).setBounds(new Rectangle(0, (15 * (j + 1)), cardViews.get(j).getPreferredSize().width, cardViews.get(j).getPreferredSize().height));
-                        _parentLayeredPane.remove(cardViews.get(j));
-                    }
-
-                    // Position the card at the same place where the drag was attempted from, because when you
-                    // add to the application it will position the component at the origin which is not desired
-                    Point initialLocation = CardView.this.getLocation();
-                    
-                    // Note: Add +2 to the width and height because of the initial border size offset
-                    CardView.this.setBounds(new Rectangle(_parentLayeredPane.getParent().getLocation().x + initialLocation.x, _parentLayeredPane.getParent().getLocation().y + initialLocation.y, layeredPane.getWidth(), layeredPane.getHeight()));
-
-                    // Remove the card view reference from it's initial parent
-                    _parentLayeredPane.remove(CardView.this);
-                    
-                    // Get a reference to the game view and status view, and add the card into the proper
-                    // z-order so that it appears underneath the status bar, but over everything else in the game
-                    ViewFactory viewFactory = AbstractFactory.getFactory(ViewFactory.class);
-                    GameView gameView = viewFactory.get(GameView.class);
-                    StatusBarView statusBarView = viewFactory.get(StatusBarView.class);
-
-                    gameView.add(CardView.this, gameView.getComponentZOrder(statusBarView) + 1);
-                    gameView.repaint();
-
-                    break mainLabel;
-                }
+            super.mouseDragged(event);
+            if(getIsConsumed() && event.isConsumed()) {
+                return;
             }
+            
+            drag(event);
         }
 
         @Override public void mouseReleased(MouseEvent event) {
@@ -174,40 +114,7 @@ public final class CardView extends PanelView implements ICollidable {
                 return;
             }
             
-            if(!isEnabled()) {
-                return;
-            }
-            
-            if(_parentLayeredPane == null) {
-                _parentPanelView = null;
-                return;
-            }
-            
-            // If there is a valid collider, set that as the new parent
-            if(_collisionListener.getCollision() != null) {
-                AbstractPileView pileView = (AbstractPileView) _collisionListener.getCollision();
-                
-                // Do not go further if what we have collided with is where we were already, that is not considered a valid collision.
-                // Note: Should this go inside of the drag listener?
-                if(!pileView.equals(_parentPanelView)) { 
-                    // Get the before movement type to know where the move is coming from
-                    Optional<Component> layeredPane = Arrays.asList(pileView.getComponents()).stream().filter(z -> z.getClass() == JLayeredPane.class).findFirst();
-                    if(layeredPane.isPresent()) {
-                        AbstractFactory.getFactory(ControllerFactory.class).get(MovementRecorderController.class).recordMovement((IUndoable)_parentLayeredPane.getParent(), pileView);                  
-                        _parentLayeredPane = (JLayeredPane) layeredPane.get();
-                    }
-                    else {
-                        Tracelog.log(Level.SEVERE, true, "Could not find JLayeredPane within the CardView mouseReleased event...");
-                        return;
-                    }
-                }
-            }
-            
-            // Get the offset that was set, and use this within our calculations
-            AbstractPileView parent = (AbstractPileView) _parentLayeredPane.getParent();
-            parent.addCard(CardView.this);
-            _parentLayeredPane = null;
-            _parentPanelView = null;
+            stopDrag();
         }
     }
     
@@ -225,7 +132,9 @@ public final class CardView extends PanelView implements ICollidable {
                 return;
             }
 
-            if(CardView.this.getParent().getComponents()[0].equals(CardView.this)) {
+            // Only the top-most card of its pile can be turned over or moved
+            IView parentView = getParentIView();
+            if(parentView instanceof AbstractPileView && ((AbstractPileView)parentView).getLastCard() == CardView.this) {
                 if(event.getClickCount() == 1) {
                     uncoverBackside(false);
                 }
@@ -250,16 +159,16 @@ public final class CardView extends PanelView implements ICollidable {
      * The controller associated to this card view
      */
     private CardController _controller;
-
+    
     /**
-     * The draggable listener associated to this view
+     * The movement controller of the game, which records every movement of this card
      */
-    private final DragListener _dragListener = new DragListener(SupportedActions.LEFT);
-
+    private MovementRecorderController _movementController;
+    
     /**
-     * The collision listener associated to this view
+     * The foundation pile views of the board, 0 being the right-most pile
      */
-    private final CollisionListener _collisionListener = new CollisionListener(this, SupportedActions.LEFT);
+    private List<FoundationPileView> _foundationViews;
 
     /**
      * The layered pane that holds the potential list of cards that would be dragged along-side this card vuew
@@ -281,6 +190,36 @@ public final class CardView extends PanelView implements ICollidable {
      */
     private CardProxyView _cardProxy;
     
+    /**
+     * The cards being dragged, starting with this card, or null if this card is not being dragged
+     */
+    private List<CardView> _draggedCards;
+    
+    /**
+     * The position of the mouse relative to this card when the drag started
+     */
+    private final Point _dragOffset = new Point();
+    
+    /**
+     * Indicates if the cards being dragged are only outlined
+     */
+    private boolean _isOutlineDragging;
+    
+    /**
+     * The pile view that the cards being dragged would be dropped onto, or null if there is none
+     */
+    private AbstractPileView _dropTarget;
+    
+    /**
+     * The game view that the cards being dragged are painted on, found once when the drag starts
+     */
+    private GameView _gameView;
+    
+    /**
+     * Indicates if this card is not painted because it is being painted by the drag overlay instead
+     */
+    private boolean _isDragHidden;
+    
     /**
      * Signal indicating that this view should synchronizr with the outline option
      */
@@ -300,10 +239,15 @@ public final class CardView extends PanelView implements ICollidable {
      * Constructs a new instance of this class type
      * 
      * @param cardModel The cards model underlying this card view
+     * @param movementController The movement controller of the game
+     * @param foundationViews The foundation pile views of the board, 0 being the right-most pile
      */
-    public CardView(CardModel cardModel) {
+    public CardView(CardModel cardModel, MovementRecorderController movementController, List<FoundationPileView> foundationViews) {
         this();
         
+        _movementController = movementController;
+        _foundationViews = foundationViews;
+        
         cardModel.addListener(this);
         _controller = new CardController(cardModel);
         getViewProperties().setEntity(_controller);   
@@ -312,12 +256,6 @@ public final class CardView extends PanelView implements ICollidable {
         _cardProxy = new CardProxyView(this);
         _cardProxy.render();
         
-        addMouseListener(_dragListener);
-        addMouseMotionListener(_dragListener);
-        
-        addMouseListener(_collisionListener);
-        addMouseMotionListener(_collisionListener);
-        
         // Add the mouse listener responsible for handling single clicks and double clicks on this card.
         // Note: This will sometimes not be called depending on if the proxy is enabled or not, since the 
         //       proxy sits on top of this card. However, when the backside is being shown, this would indeed
@@ -330,7 +268,7 @@ public final class CardView extends PanelView implements ICollidable {
         addMouseListener(new MouseAdapter() {
             @Override public void mousePressed(MouseEvent event) {
                 if(!SwingUtilities.isRightMouseButton(event)) {
-                    AbstractFactory.getFactory(ViewFactory.class).get(TimerView.class).startGameTimer();
+                    ViewHelper.startGameTimer(CardView.this);
                     removeMouseListener(this);
                 }
             }
@@ -351,12 +289,9 @@ public final class CardView extends PanelView implements ICollidable {
 
                 // When playing in draw three, make sure that cards that are not top-most are not enabled. This
                 // needs to be done after the synchronize.
-                OptionsPreferences optionsPreferences = new OptionsPreferences();
-                optionsPreferences.load();
+                OptionsSnapshot optionsPreferences = OptionsSnapshot.get();
                 if(optionsPreferences.drawOption == DrawOption.THREE && CardView.this.getParentIView().getClass() == TalonPileView.class) {
-                    if(((JLayeredPane)getParent()).getPosition(CardView.this) > 0) {
-                        _dragListener.setEnabled(false);
-                        _collisionListener.setEnabled(false);
+                    if(((TalonPileView)CardView.this.getParentIView()).getLastCard() != CardView.this) {
                         _cardSelectionEvents.setEnabled(false);
                     }
                 }
@@ -365,28 +300,14 @@ public final class CardView extends PanelView implements ICollidable {
         synchronizeWithOptions();
     }
     
-    public static CardView createLightWeightCard(CardView cardView) {
-        CardView newCardView = new CardView();
-        newCardView.setEnabled(cardView.isEnabled());
-        cardView.getRenderableContent().forEach(z -> newCardView.addRenderableContent(z));
-        return newCardView;
-    }
-    
     /**
      * Synchronizes this card view w.r.t the current outline options that are set within the game.
      */
     private void synchronizeWithOptions() {
         // Verify if the option for highlighting is enabled or not
-        OptionsPreferences optionsPreferences = new OptionsPreferences();
-        optionsPreferences.load();
+        OptionsSnapshot optionsPreferences = OptionsSnapshot.get();
         _highlightsEnabled = optionsPreferences.outlineDragging;
 
-        // If the card has its backside shown or the outline option is enabled
-        // then do not allow dragging or collision to work as normal
-        boolean isAvailable = !_controller.getCard().getIsBackside() && !optionsPreferences.outlineDragging;
-        _dragListener.setEnabled(isAvailable);
-        _collisionListener.setEnabled(isAvailable);
-        
         // If the backside is not being shown, then add the event handler for card drag event
         // Note: In the event that the options preferences calls for outline mode, the entire
         //       operation of performing a click-down, click-up, should be done by the proxy and
@@ -421,19 +342,19 @@ public final class CardView extends PanelView implements ICollidable {
         if(_controller.getCard().getIsBackside()) {
             _controller.getCard().setBackside(false);
             _controller.getCard().refresh();
+            if(getParentIView() instanceof TableauPileView) {
+                ((TableauPileView)getParentIView()).flipCard(this);
+            }
             
             // Record the movement
             if(!forceBackside) {
-                AbstractFactory.getFactory(ControllerFactory.class).get(MovementRecorderController.class).recordMovement((IUndoable)CardView.this.getParentIView(), null);
+                _movementController.recordMovement((IUndoable)CardView.this.getParentIView(), null);
             }
 
             // Only allow this card view to have dragging and collision working `vanilla`
             // style if the outline option is not selected
-            OptionsPreferences preferences = new OptionsPreferences();
-            preferences.load();
+            OptionsSnapshot preferences = OptionsSnapshot.get();
             if(!preferences.outlineDragging) {
-                _dragListener.setEnabled(true);
-                _collisionListener.setEnabled(true);
                 _cardSelectionEvents.setEnabled(true);
             }
             
@@ -442,7 +363,26 @@ public final class CardView extends PanelView implements ICollidable {
                 _cardProxy.setVisible(true);
             }
             
-            repaint();
+            DamageTracker.addDamage(this);
+        }
+    }
+    
+    /**
+     * Covers this view with its backside, which is the reverse of uncovering it
+     */
+    public void coverBackside() {
+        if(!_controller.getCard().getIsBackside()) {
+            _controller.getCard().setBackside(true);
+            _controller.getCard().refresh();
+            if(getParentIView() instanceof TableauPileView) {
+                ((TableauPileView)getParentIView()).flipCard(this);
+            }
+            
+            // The backside cannot be dragged, which also means that the outline proxy is no longer needed
+            remove(_cardProxy);
+            synchronizeWithOptions();
+            
+            DamageTracker.addDamage(this);
         }
     }
     
@@ -473,39 +413,27 @@ public final class CardView extends PanelView implements ICollidable {
         if(!_controller.getCard().getIsBackside() && !(getParentIView() instanceof FoundationPileView)) {
             
             // Make sure that we are not double clicking on an ACE. That doesn't make much sense here in this case
-            if(AbstractFactory.getFactory(ViewFactory.class).getAll(FoundationPileView.class).stream().anyMatch(z -> z.layeredPane.getComponentCount() == 1 && z.layeredPane.getComponents()[0] == CardView.this)) {
+            if(_foundationViews.stream().anyMatch(z -> z.layeredPane.getComponentCount() == 1 && z.layeredPane.getComponents()[0] == CardView.this)) {
                 return false;
             }
             
-            // Get the list of foundation views. 
-            List<FoundationPileView> foundationViews = AbstractFactory.getFactory(ViewFactory.class).getAll(FoundationPileView.class);
-            
-            // Reverse the list, so that the card populating the left-most foundation view, this just looks a lot better
-            Collections.reverse(foundationViews);
-            
-            // Go through the list of foundation views and see if there is a match
-            for(FoundationPileView foundationView : foundationViews) {
+            // Go through the foundation views starting with the left-most one, so that the card populates the left-most
+            // foundation view, this just looks a lot better
+            for(int i = _foundationViews.size() - 1; i >= 0; --i) {
+                FoundationPileView foundationView = _foundationViews.get(i);
                 if(foundationView.isValidCollision(CardView.this)) {
                     
                     if(!forcefully) {
                         // Record the fact that a movement occurred 
-                        AbstractFactory.getFactory(ControllerFactory.class).get(MovementRecorderController.class).recordMovement((AbstractPileView)CardView.this.getParentIView(), foundationView);
+                        _movementController.recordMovement((AbstractPileView)CardView.this.getParentIView(), foundationView);
                     }
                     
-                    // Stop the current drag listener of this card from doing anything, so that things
+                    // Stop the current drag of this card from doing anything, so that things
                     // like drag will stop being processed
-                    _dragListener.stopDragEvent();
+                    cancelDrag();
                     
-                    // Add to the layered pane destination
+                    // Add to the layered pane destination, which repaints the area that the card left and entered
                     foundationView.addCard(CardView.this);
-                                        
-                    // Repaint the components
-                    layeredPane.repaint();
-                    foundationView.repaint();
-                   
-                    // Repaint the game view, this will fix a rendering bug where in outline mode, the status bar and
-                    // the tableau view would not render properly. Look at bug #128.
-                    AbstractFactory.getFactory(ViewFactory.class).get(GameView.class).repaint();
                     
                     return true;
                 }
@@ -515,6 +443,171 @@ public final class CardView extends PanelView implements ICollidable {
         return false;
     }
     
+    /**
+     * Picks up this card along with the cards on top of it, so that they can be dragged. The cards stay within their
+     * pile view while they are dragged, and are only moved once they are dropped onto another pile view
+     *
+     * @param event The mouse event that picked up the card
+     * @param isOutlineDragging If only the outlines of the cards are dragged
+     */
+    void startDrag(MouseEvent event, boolean isOutlineDragging) {
+        cancelDrag();
+        if(!(getParent() instanceof JLayeredPane)) {
+            return;
+        }
+        
+        // Take the cards that are shown on top of this one, layered panes associate objects closer to layer 0 as being closer
+        // to the screen. The talon keeps the hidden cards of its stock above its waste
+        Component[] components = getParent().getComponents();
+        List<CardView> cardViews = new ArrayList<CardView>();
+        for(int i = Arrays.asList(components).indexOf(this); i >= 0; --i) {
+            if(components[i] instanceof CardView && components[i].isVisible()) {
+                cardViews.add((CardView)components[i]);
+            }
+        }
+
+        _draggedCards = cardViews;
+        _gameView = ViewHelper.getGameView(this);
+        _isOutlineDragging = isOutlineDragging;
+        _dragOffset.setLocation(SwingUtilities.convertPoint(event.getComponent(), event.getPoint(), this));
+    }
+    
+    /**
+     * Drags the cards that were picked up to the position of the mouse, the drag overlay is shown the first time
+     *
+     * @param event The mouse event
+     */
+    void drag(MouseEvent event) {
+        if(_draggedCards == null || _gameView == null) {
+            return;
+        }
+        
+        GameView gameView = _gameView;
+        DragOverlay overlay = gameView.getDragOverlay();
+        if(!overlay.isVisible()) {
+            Point location = SwingUtilities.convertPoint(getParent(), getLocation(), gameView);
+            CardView lastCard = _draggedCards.get(_draggedCards.size() - 1);
+            Rectangle bounds = new Rectangle(location.x, location.y, getWidth(), lastCard.getY() - getY() + lastCard.getHeight());
+            if(_isOutlineDragging) {
+                int[] offsets = new int[_draggedCards.size()];
+                for(int i = 0; i < offsets.length; ++i) {
+                    offsets[i] = _draggedCards.get(i).getY() - getY();
+                }
+                overlay.startOutlineDrag(offsets, getHeight(), bounds);
+            }
+            else {
+                overlay.startDrag(createDragImage(bounds.width, bounds.height), bounds);
+                setDragHidden(true);
+            }
+        }
+        
+        Point mouse = SwingUtilities.convertPoint(event.getComponent(), event.getPoint(), gameView);
+        overlay.moveTo(mouse.x - _dragOffset.x, mouse.y - _dragOffset.y);
+        updateDropTarget(gameView, overlay.getDragBounds());
+    }
+    
+    /**
+     * Drops the cards being dragged onto the pile view underneath them, or leaves them where they were if there is none
+     */
+    void stopDrag() {
+        if(_draggedCards == null) {
+            return;
+        }
+        
+        List<CardView> cardViews = _draggedCards;
+        AbstractPileView dropTarget = _dropTarget;
+        cancelDrag();
+        
+        if(dropTarget != null) {
+            _movementController.recordMovement((IUndoable)getParentIView(), dropTarget);
+            for(CardView cardView : cardViews) {
+                dropTarget.addCard(cardView);
+            }
+            dropTarget.removeHighlight();
+        }
+    }
+    
+    /**
+     * @return The pile view that the cards being dragged would be dropped onto, or null if there is none
+     */
+    AbstractPileView getDropPileView() {
+        return _dropTarget;
+    }
+    
+    /**
+     * Stops dragging the cards that were picked up, leaving them where they were
+     */
+    private void cancelDrag() {
+        if(_draggedCards == null) {
+            return;
+        }
+        
+        if(_dropTarget != null) {
+            ((ICollidable)_dropTarget).onCollisionStop(this);
+            _dropTarget = null;
+        }
+        
+        if(_gameView != null && _gameView.getDragOverlay().isVisible()) {
+            _gameView.getDragOverlay().stopDrag();
+        }
+        setDragHidden(false);
+        _draggedCards = null;
+        _gameView = null;
+    }
+    
+    /**
+     * Finds the pile view that the cards being dragged would be dropped onto, through the drop zone index of the game view
+     *
+     * @param gameView The game view
+     * @param bounds The bounds of the cards being dragged, relative to the game view
+     */
+    private void updateDropTarget(GameView gameView, Rectangle bounds) {
+        AbstractPileView dropTarget = gameView.getDropZoneIndex().getDropPileView(this, bounds);
+        if(dropTarget != _dropTarget) {
+            if(_dropTarget != null) {
+                ((ICollidable)_dropTarget).onCollisionStop(this);
+            }
+            _dropTarget = dropTarget;
+            if(_dropTarget != null) {
+                ((ICollidable)_dropTarget).onCollisionStart(this);
+            }
+        }
+    }
+    
+    /**
+     * Paints the cards being dragged into an image, once, so that the drag overlay can paint them as they are dragged
+     *
+     * @param width The width of the cards being dragged
+     * @param height The height of the cards being dragged
+     * 
+     * @return The image of the cards being dragged
+     */
+    private BufferedImage createDragImage(int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = image.createGraphics();
+        for(CardView cardView : _draggedCards) {
+            Graphics cardGraphics = graphics.create(0, cardView.getY() - getY(), cardView.getWidth(), cardView.getHeight());
+            cardView.paint(cardGraphics);
+            cardGraphics.dispose();
+        }
+        graphics.dispose();
+        return image;
+    }
+    
+    /**
+     * Sets if the cards being dragged are painted where they are, they are not while the drag overlay paints them
+     *
+     * @param isDragHidden If the cards are not painted
+     */
+    private void setDragHidden(boolean isDragHidden) {
+        for(CardView cardView : _draggedCards) {
+            if(cardView._isDragHidden != isDragHidden) {
+                cardView._isDragHidden = isDragHidden;
+                DamageTracker.addDamage(cardView);
+            }
+        }
+    }
+    
     @Override public void setEnabled(boolean enabled) {
         super.setEnabled(enabled);
         
@@ -522,9 +615,6 @@ public final class CardView extends PanelView implements ICollidable {
         if(_cardProxy != null && _cardProxy.isEnabled() != enabled) {
             _cardProxy.setEnabled(enabled);
         }
-
-        _dragListener.setEnabled(enabled);
-        _collisionListener.setEnabled(enabled);
     }
     
     @Override public void preProcessGraphics(IRenderable renderableData, Graphics context) {        
@@ -536,8 +626,13 @@ public final class CardView extends PanelView implements ICollidable {
     
     @Override public void removeAll() {
         super.removeAll();
-        _dragListener.setEnabled(false);
-        _collisionListener.setEnabled(false);
+        _cardSelectionEvents.setEnabled(false);
+    }
+    
+    @Override public void paint(Graphics context) {
+        if(!_isDragHidden) {
+            super.paint(context);
+        }
     }
 
     @Override public void render() {
@@ -555,7 +650,7 @@ public final class CardView extends PanelView implements ICollidable {
     @Override public void update(EventArgs event) {
         super.update(event);
         addRenderableContent((IRenderable)event.getSource()); 
-        repaint();
+        DamageTracker.addDamage(this);
     }
     
     @Override public void setBounds(int x, int y, int width, int height) {
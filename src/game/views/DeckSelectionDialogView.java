@@ -52,6 +52,7 @@ import framework.core.system.Application;
 import framework.utils.globalisation.Localization;
 
 import game.config.OptionsPreferences;
+import game.config.OptionsSnapshot;
 import game.entities.BacksideCardEntity;
 
 import generated.DataLookup;
@@ -165,8 +166,7 @@ public final class DeckSelectionDialogView extends DialogView {
         // The panel that holds the list of cards
         JPanel cardPanel = new JPanel(new GridBagLayout());
         
-        OptionsPreferences preferences = new OptionsPreferences();
-        preferences.load();
+        OptionsSnapshot preferences = OptionsSnapshot.get();
         
         // Go through card rows and card columns, and populate each index with a JButton
         // containing one of the card images
@@ -0,0 +1,289 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2019 Daniel Ricci {@literal <thedanny09@icloud.com>}
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package game.views;
+
+import java.awt.Component;
+import java.awt.Rectangle;
+import java.awt.event.ComponentAdapter;
+import java.awt.event.ComponentEvent;
+import java.awt.event.ComponentListener;
+import java.awt.event.ContainerAdapter;
+import java.awt.event.ContainerEvent;
+import java.awt.event.ContainerListener;
+import java.util.Arrays;
+import java.util.List;
+
+import framework.api.IView;
+
+/**
+ * Index of the area of the board that every pile occupies, used to find the pile that a stack of dragged cards is
+ * being dropped onto.
+ *
+ * The board is split into the seven columns of the tableau, each column holding at most one pile in the top row and one
+ * tableau pile. The zone of a tableau pile is its top-most card, or the whole pile when it is empty, and the zone of
+ * every other pile is the pile itself. The zones are only computed again after the board or a pile was resized or moved,
+ * or after the number of cards of a pile changed, so that finding the pile under a stack only looks at the two columns
+ * that the stack spans instead of building the bounds of every pile each time that the mouse is dragged.
+ *
+ * @author Daniel Ricci {@literal <thedanny09@icloud.com>}
+ */
+public final class DropZoneIndex {
+
+    /**
+     * The number of zones, one for every pile of the board
+     */
+    public static final int ZONE_COUNT = 13;
+
+    /**
+     * The number of columns of the board
+     */
+    private static final int COLUMN_COUNT = 7;
+
+    /**
+     * The zone of the stock
+     */
+    private static final int ZONE_STOCK = 0;
+
+    /**
+     * The zone of the talon
+     */
+    private static final int ZONE_TALON = 1;
+
+    /**
+     * The zone of the first foundation, followed by the zones of the other three
+     */
+    private static final int ZONE_FOUNDATION = 2;
+
+    /**
+     * The zone of the left-most tableau pile, followed by the zones of the other six
+     */
+    private static final int ZONE_TABLEAU = 6;
+
+    /**
+     * The board that the piles are laid out on
+     */
+    private final Component _board;
+
+    /**
+     * The piles, indexed by zone
+     */
+    private final Component[] _piles = new Component[ZONE_COUNT];
+
+    /**
+     * The bounds of every zone, relative to the board
+     */
+    private final Rectangle[] _zones = new Rectangle[ZONE_COUNT];
+
+    /**
+     * The zone of the pile in the top row of every column, or -1 for a column without one
+     */
+    private final int[] _topZones = new int[COLUMN_COUNT];
+
+    /**
+     * The column of every horizontal position of the board
+     */
+    private int[] _columns = new int[0];
+
+    /**
+     * Indicates if the zones must be computed again before they are used
+     */
+    private boolean _isInvalid = true;
+
+    /**
+     * Constructs a new instance of this class type
+     *
+     * @param board The board that the piles are laid out on
+     * @param stockView The stock
+     * @param talonView The talon
+     * @param foundationViews The four foundation piles
+     * @param tableauViews The seven tableau piles
+     */
+    public DropZoneIndex(Component board, StockView stockView, TalonPileView talonView, List<FoundationPileView> foundationViews, List<TableauPileView> tableauViews) {
+        _board = board;
+        _piles[ZONE_STOCK] = stockView;
+        _piles[ZONE_TALON] = talonView;
+        for(int i = 0; i < foundationViews.size(); ++i) {
+            _piles[ZONE_FOUNDATION + i] = foundationViews.get(i);
+        }
+        for(TableauPileView tableauView : tableauViews) {
+            _piles[ZONE_TABLEAU + tableauView.getColumn()] = tableauView;
+        }
+
+        ComponentListener boundsListener = new ComponentAdapter() {
+            @Override public void componentResized(ComponentEvent event) {
+                invalidate();
+            }
+            @Override public void componentMoved(ComponentEvent event) {
+                invalidate();
+            }
+        };
+        ContainerListener cardsListener = new ContainerAdapter() {
+            @Override public void componentAdded(ContainerEvent event) {
+                invalidate();
+            }
+            @Override public void componentRemoved(ContainerEvent event) {
+                invalidate();
+            }
+        };
+
+        _board.addComponentListener(boundsListener);
+        for(int zone = 0; zone < ZONE_COUNT; ++zone) {
+            _zones[zone] = new Rectangle();
+            _piles[zone].addComponentListener(boundsListener);
+            if(_piles[zone] instanceof AbstractPileView) {
+                ((AbstractPileView)_piles[zone]).layeredPane.addContainerListener(cardsListener);
+            }
+        }
+    }
+
+    /**
+     * Marks the zones so that they are computed again the next time that they are used
+     */
+    public void invalidate() {
+        _isInvalid = true;
+    }
+
+    /**
+     * Gets the pile that the specified card can be dropped onto. When the cards overlap more than one pile that accepts
+     * them, the pile that they overlap the most is used
+     *
+     * @param cardView The card being dropped, followed by the cards on top of it
+     * @param bounds The bounds of the cards being dropped, relative to the board
+     *
+     * @return The pile that the card can be dropped onto, or null if there is none
+     */
+    public AbstractPileView getDropPileView(CardView cardView, Rectangle bounds) {
+        if(_isInvalid) {
+            refresh();
+        }
+
+        IView parentView = cardView.getParentIView();
+        AbstractPileView dropPileView = null;
+        long dropArea = 0;
+
+        int lastColumn = getColumn(bounds.x + bounds.width - 1);
+        for(int column = getColumn(bounds.x); column <= lastColumn; ++column) {
+            for(int row = 0; row < 2; ++row) {
+                int zone = row == 0 ? _topZones[column] : ZONE_TABLEAU + column;
+                if(zone == -1 || _piles[zone] == parentView || !(_piles[zone] instanceof AbstractPileView)) {
+                    continue;
+                }
+
+                long area = getOverlap(_zones[zone], bounds);
+                if(area > dropArea && ((AbstractPileView)_piles[zone]).isValidDrop(cardView)) {
+                    dropPileView = (AbstractPileView)_piles[zone];
+                    dropArea = area;
+                }
+            }
+        }
+
+        return dropPileView;
+    }
+
+    /**
+     * Computes the column of every horizontal position of the board, and the zone of every pile
+     */
+    private void refresh() {
+        int width = Math.max(_board.getWidth(), 1);
+        if(_columns.length != width) {
+            _columns = new int[width];
+        }
+
+        // The columns are split half-way between two neighbouring tableau piles
+        int column = 0;
+        int boundary = getColumnBoundary(column);
+        for(int x = 0; x < width; ++x) {
+            while(column + 1 < COLUMN_COUNT && x >= boundary) {
+                boundary = getColumnBoundary(++column);
+            }
+            _columns[x] = column;
+        }
+
+        Arrays.fill(_topZones, -1);
+        for(int zone = 0; zone < ZONE_COUNT; ++zone) {
+            Component pile = _piles[zone];
+            Rectangle bounds = pile.getBounds(_zones[zone]);
+            if(zone >= ZONE_TABLEAU) {
+                AbstractPileView pileView = (AbstractPileView)pile;
+                CardView lastCard = pileView.getLastCard();
+                if(lastCard != null) {
+                    bounds.setBounds(
+                        bounds.x + pileView.layeredPane.getX() + lastCard.getX(),
+                        bounds.y + pileView.layeredPane.getY() + lastCard.getY(),
+                        lastCard.getWidth(),
+                        lastCard.getHeight()
+                    );
+                }
+            }
+            else {
+                _topZones[getColumn(bounds.x + bounds.width / 2)] = zone;
+            }
+        }
+
+        _isInvalid = false;
+    }
+
+    /**
+     * Gets the horizontal position where the specified column ends
+     *
+     * @param column The column
+     *
+     * @return The first horizontal position past the column
+     */
+    private int getColumnBoundary(int column) {
+        if(column + 1 >= COLUMN_COUNT) {
+            return Integer.MAX_VALUE;
+        }
+
+        Component left = _piles[ZONE_TABLEAU + column];
+        Component right = _piles[ZONE_TABLEAU + column + 1];
+        return (left.getX() + left.getWidth() + right.getX()) / 2;
+    }
+
+    /**
+     * Gets the column at the specified horizontal position of the board
+     *
+     * @param x The horizontal position, relative to the board
+     *
+     * @return The column
+     */
+    private int getColumn(int x) {
+        return _columns[Math.max(0, Math.min(x, _columns.length - 1))];
+    }
+
+    /**
+     * Gets the area that the specified bounds have in common
+     *
+     * @param zone The bounds of a zone
+     * @param bounds The bounds of the cards being dropped
+     *
+     * @return The area in common, or 0 if the bounds do not overlap
+     */
+    private static long getOverlap(Rectangle zone, Rectangle bounds) {
+        long width = Math.min(zone.x + zone.width, bounds.x + bounds.width) - Math.max(zone.x, bounds.x);
+        long height = Math.min(zone.y + zone.height, bounds.y + bounds.height) - Math.max(zone.y, bounds.y);
+        return width > 0 && height > 0 ? width * height : 0;
+    }
+}
\ No newline at end of file
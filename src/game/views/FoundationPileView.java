@@ -29,6 +29,8 @@ import java.awt.Component;
 import java.awt.Dimension;
 import java.awt.Graphics;
 import java.awt.Point;
+import java.awt.Rectangle;
+import java.util.Arrays;
 
 import framework.api.IView;
 import framework.communication.internal.signal.arguments.EventArgs;
@@ -36,7 +38,10 @@ import framework.core.graphics.IRenderable;
 import framework.core.physics.ICollidable;
 
 import game.controllers.CardController;
+import game.engine.Card;
+import game.engine.GameState;
 import game.entities.FoundationCardEntity;
+import game.views.helpers.DamageTracker;
 import game.views.helpers.ViewHelper;
 
 /**
@@ -46,10 +51,18 @@ import game.views.helpers.ViewHelper;
  */
 public final class FoundationPileView extends AbstractPileView implements ICollidable {
 
+    /**
+     * The index of this pile among the foundation piles, 0 being the right-most pile
+     */
+    private final int _index;
+
     /**
      * Creates a new instance of this class type
+     *
+     * @param index The index of this pile among the foundation piles, 0 being the right-most pile
      */
-    public FoundationPileView() {
+    public FoundationPileView(int index) {
+        _index = index;
         
         // The background the the opaqueness of this view
         // must be set this way to achieve the proper xor effect
@@ -59,6 +72,41 @@ public final class FoundationPileView extends AbstractPileView implements IColli
         ViewHelper.registerForCardsAutocomplete(this);
     }
 
+    /**
+     * @return The index of this pile among the foundation piles, 0 being the right-most pile
+     */
+    public int getIndex() {
+        return _index;
+    }
+
+    /**
+     * Synchronizes this pile with the specified game state, taking the card views of the cards that the state holds within this pile
+     *
+     * @param state The game state
+     * @param suite The suite held by this pile, or -1 if this pile is empty
+     * @param cardViews The card views of the game, indexed by encoded card
+     */
+    public void synchronize(GameState state, int suite, CardView[] cardViews) {
+        Rectangle damage = getCardsBounds(Arrays.asList(layeredPane.getComponents()));
+        layeredPane.removeAll();
+        if(suite != -1) {
+            for(int rank = Card.ACE; rank < state.getFoundationSize(suite); ++rank) {
+                CardView view = cardViews[Card.valueOf(suite, rank)];
+                view.setVisible(true);
+                if(!view.isEnabled()) {
+                    view.setEnabled(true);
+                }
+                view.uncoverBackside(true);
+                
+                layeredPane.add(view);
+                layeredPane.setLayer(view, rank);
+                view.setBounds(new Rectangle(0, 0, view.getPreferredSize().width, view.getPreferredSize().height));
+            }
+        }
+        damage.add(getCardsBounds(Arrays.asList(layeredPane.getComponents())));
+        DamageTracker.addDamage(layeredPane, damage);
+    }
+
     @Override public void preProcessGraphics(IRenderable renderableData, Graphics context) {
         super.preProcessGraphics(renderableData, context);
         if(getIsHighlighted() && layeredPane.getComponentCount() == 0) {
@@ -84,9 +132,16 @@ public final class FoundationPileView extends AbstractPileView implements IColli
         }
     }
 
+    @Override public boolean isValidDrop(CardView cardView) {
+        return isValidCollision(cardView);
+    }
+
     @Override public void addCard(CardView cardView) {
         super.addCard(cardView);
-        GameView.scanGameForWin();
+        GameView gameView = ViewHelper.getGameView(this);
+        if(gameView != null) {
+            gameView.scanGameForWin();
+        }
     }
 
     @Override protected Point getCardOffset(CardView cardView) {
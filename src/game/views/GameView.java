@@ -26,11 +26,15 @@ package game.views;
 
 import java.awt.Color;
 import java.awt.Component;
+import java.awt.Graphics;
 import java.awt.GridBagConstraints;
 import java.awt.GridBagLayout;
 import java.awt.Insets;
+import java.awt.event.ComponentAdapter;
+import java.awt.event.ComponentEvent;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
+import java.awt.image.BufferedImage;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -38,20 +42,27 @@ import javax.swing.AbstractButton;
 import javax.swing.JOptionPane;
 import javax.swing.SwingUtilities;
 
+import framework.communication.internal.signal.arguments.EventArgs;
 import framework.core.factories.AbstractFactory;
-import framework.core.factories.ControllerFactory;
 import framework.core.factories.ViewFactory;
 import framework.core.mvc.view.PanelView;
 import framework.core.navigation.MenuBuilder;
 import framework.core.system.Application;
 import framework.utils.globalisation.Localization;
 
-import game.config.OptionsPreferences;
+import game.config.OptionsSnapshot;
+import game.config.OptionsSnapshot.IOptionsListener;
+import game.controllers.CardController;
 import game.controllers.MovementRecorderController;
+import game.engine.Card;
+import game.engine.GameSession;
+import game.engine.GameState;
 import game.menu.NewGameMenuItem;
 import game.models.CardModel;
+import game.views.components.DragOverlay;
 import game.views.helpers.ViewHelper;
 import game.views.helpers.WinAnimationHelper;
+import game.views.helpers.WinAnimationHelper.WinAnimation;
 
 import resources.LocalizationStrings;
 
@@ -61,12 +72,88 @@ import resources.LocalizationStrings;
  * @author {@literal Daniel Ricci {@literal <thedanny09@icloud.com>}}
  *
  */
-public final class GameView extends PanelView {
+public final class GameView extends PanelView implements IBoardView {
 
+    /**
+     * The session of the game
+     */
+    private final GameSession _session;
+    
+    /**
+     * The movement controller of the game, handed to every view of this board
+     */
+    private final MovementRecorderController _controller;
+    
+    /**
+     * The overlay that paints the cards being dragged
+     */
+    private final DragOverlay _dragOverlay = new DragOverlay(this);
+    
+    /**
+     * The index of the area that every pile occupies, used to find the pile that dragged cards are dropped onto
+     */
+    private final DropZoneIndex _dropZoneIndex;
+    
+    /**
+     * The stock view
+     */
+    private final StockView _stockView;
+    
+    /**
+     * The talon pile view
+     */
+    private final TalonPileView _talonView;
+    
+    /**
+     * The foundation pile views, 0 being the right-most pile, which are scanned for a win condition
+     */
+    private final List<FoundationPileView> _foundationViews;
+    
+    /**
+     * The tableau pile views, 0 being the right-most pile
+     */
+    private final List<TableauPileView> _tableauViews;
+    
+    /**
+     * The card views of the game, indexed by encoded card
+     */
+    private final CardView[] _cardViews = new CardView[Card.ENCODED_LIMIT];
+    
+    /**
+     * The status bar view of the game, which holds the score and the game timer
+     */
+    private StatusBarView _statusBarView;
+    
+    /**
+     * The listener that synchronizes the cards whenever the outline dragging option changes
+     */
+    private final IOptionsListener _optionsListener = (previous, current) -> {
+        if(previous.outlineDragging != current.outlineDragging) {
+            EventArgs args = new EventArgs(this, CardView.EVENT_OUTLINE_SYNCHRONIZE);
+            args.setSuppressUpdate(true);
+            AbstractFactory.getFactory(ViewFactory.class).multicastSignalListeners(CardView.class, args);
+        }
+    };
+    
+    /**
+     * The trail left by the cards bouncing off the board when the game is won, or null if there is none
+     */
+    private BufferedImage _winAnimationTrail;
+    
+    /**
+     * The win animation played on this view, or null if it was not played
+     */
+    private WinAnimation _winAnimation;
+    
     /**
      * Creates a new instance of this class type
+     * 
+     * @param session The session of the game
      */
-    public GameView() {
+    public GameView(GameSession session) {
+        _session = session;
+        _controller = new MovementRecorderController(session, this);
+
         this.setLayout(new GridBagLayout());
         this.setBackground(new Color(0, 128, 0));
         
@@ -80,11 +167,18 @@ public final class GameView extends PanelView {
         ViewFactory viewFactory = AbstractFactory.getFactory(ViewFactory.class);
         
         // Create the total list of cards
-        List<CardModel> cards = CardModel.newInstances();
+        List<CardModel> cards = CardModel.newInstances(session.getDealNumber());
         
-        // Create the globally available movement controller
-        AbstractFactory.getFactory(ControllerFactory.class).add(new MovementRecorderController(), true);
+        // Create the foundation views ahead of the other piles, since the cards of every pile are moved onto them
+        List<FoundationPileView> foundationViews = new ArrayList<FoundationPileView>(Card.SUITE_COUNT);
+        for(int i = 0; i < Card.SUITE_COUNT; ++i) {
+            foundationViews.add(viewFactory.add(new FoundationPileView(i)));
+        }
+        _foundationViews = foundationViews;
         
+        StockView stockView = null;
+        TalonPileView talonView = null;
+        List<TableauPileView> tableauViews = new ArrayList<TableauPileView>(_columnSize);
         for(int row = _rowSize - 1; row >= 0; --row) {
             gameConstraints.gridy = row;
 
@@ -105,7 +199,7 @@ public final class GameView extends PanelView {
                     switch(gameConstraints.gridx) {
                     case 0: {
                         // Create the stock view 
-                        StockView stockView = viewFactory.add(new StockView(), true);
+                        stockView = viewFactory.add(new StockView(talonView), true);
                         GridBagConstraints stockConstraints = (GridBagConstraints)gameConstraints.clone();
                         stockConstraints.insets = new Insets(gameConstraints.insets.top, 0, -5, -5);
                         stockConstraints.ipadx = 5;
@@ -115,7 +209,7 @@ public final class GameView extends PanelView {
                     }
                     case 1: {
                         // Create the talon view
-                        TalonPileView talonView = viewFactory.add(new TalonPileView(cards), true);
+                        talonView = viewFactory.add(new TalonPileView(cards, _controller, foundationViews), true);
                         GridBagConstraints talonConstraints = (GridBagConstraints)gameConstraints.clone();
                         talonConstraints.insets = new Insets(gameConstraints.insets.top, 0, -5, -30);
                         talonConstraints.ipadx = 30;
@@ -127,16 +221,16 @@ public final class GameView extends PanelView {
                     case 4:
                     case 5:
                     case 6:
-                        // Create the foundation view
-                        FoundationPileView foundationView = viewFactory.add(new FoundationPileView());
-                        this.add(foundationView, gameConstraints);
+                        // Add the foundation view, the right-most one being the first
+                        this.add(foundationViews.get(_columnSize - 1 - gameConstraints.gridx), gameConstraints);
                     break;
                     }
                 }
                 else {
                     
                     List<CardModel> subList = cards.subList(0, gameConstraints.gridx + 1);
-                    TableauPileView view = viewFactory.add(new TableauPileView(new ArrayList<CardModel>(subList)));
+                    TableauPileView view = viewFactory.add(new TableauPileView(gameConstraints.gridx, new ArrayList<CardModel>(subList), _controller, foundationViews));
+                    tableauViews.add(view);
                     subList.clear();
                     
                     this.add(view, gameConstraints);
@@ -144,14 +238,35 @@ public final class GameView extends PanelView {
             }
         }
         
+        _stockView = stockView;
+        _talonView = talonView;
+        _tableauViews = tableauViews;
+        for(CardView cardView : viewFactory.getAll(CardView.class)) {
+            _cardViews[cardView.getViewProperties().getEntity(CardController.class).getCard().getCardEntity().getEncodedCard()] = cardView;
+        }
+        _dropZoneIndex = new DropZoneIndex(
+            this,
+            _stockView,
+            _talonView,
+            _foundationViews,
+            _tableauViews
+        );
+        
+        // Lay out the cards of the seven tableau piles again, in a single pass, whenever the board is resized
+        addComponentListener(new ComponentAdapter() {
+            @Override public void componentResized(ComponentEvent event) {
+                for(TableauPileView tableauView : _tableauViews) {
+                    tableauView.layoutCards();
+                }
+            }
+        });
+        
         addStatusBarView();
         addMouseListener(new MouseAdapter() {
             @Override public void mousePressed(MouseEvent event) {
-                OptionsPreferences preferences = new OptionsPreferences();
-                preferences.load();
-                if(preferences.timedGame) {
+                if(_session.getOptions().timedGame) {
                     if(!SwingUtilities.isRightMouseButton(event)) {
-                        AbstractFactory.getFactory(ViewFactory.class).get(TimerView.class).startGameTimer();
+                        _statusBarView.getTimerView().startGameTimer();
                         removeMouseListener(this);
                     }
                 }
@@ -159,13 +274,56 @@ public final class GameView extends PanelView {
         });
         
         ViewHelper.registerForCardsAutocomplete(this);
+        OptionsSnapshot.addListener(_optionsListener);
+    }
+    
+    @Override public long getDealNumber() {
+        return _session.getDealNumber();
+    }
+    
+    @Override public GameSession getSession() {
+        return _session;
+    }
+    
+    @Override public MovementRecorderController getController() {
+        return _controller;
+    }
+    
+    @Override public StatusBarView getStatusBarView() {
+        return _statusBarView;
+    }
+    
+    @Override public void synchronize(GameState state, int[] foundations, int fanSize) {
+        synchronizeBoard(state, foundations, fanSize);
+        scanGameForWin();
+    }
+    
+    /**
+     * Synchronizes the board with the specified game state, moving every card view onto the pile view that holds its card.
+     * Every pile view is laid out in a single pass, and only repaints the area that its cards left and entered
+     *
+     * @param state The game state
+     * @param foundations The suite held by each foundation pile view, or -1 for a foundation pile view that is empty
+     * @param fanSize The number of cards at the top of the waste that belong to the last hand drawn
+     */
+    @Override public void synchronizeBoard(GameState state, int[] foundations, int fanSize) {
+        for(TableauPileView tableauView : _tableauViews) {
+            tableauView.synchronize(state, _cardViews);
+        }
+        
+        for(int i = 0; i < _foundationViews.size(); ++i) {
+            _foundationViews.get(i).synchronize(state, foundations[i], _cardViews);
+        }
+        
+        _talonView.synchronize(state, _cardViews, fanSize);
+        _stockView.synchronize();
     }
     
     /**
      * Adds the status bar view to this view
      */
     private void addStatusBarView() {
-        StatusBarView statusBarView = AbstractFactory.getFactory(ViewFactory.class).add(new StatusBarView(), true);
+        _statusBarView = AbstractFactory.getFactory(ViewFactory.class).add(new StatusBarView(_controller), true);
         GridBagConstraints barConstraints = new GridBagConstraints(); 
         barConstraints.anchor = GridBagConstraints.SOUTH;
         barConstraints.gridx = 0;
@@ -175,31 +333,82 @@ public final class GameView extends PanelView {
         barConstraints.weighty = 1.0;
         barConstraints.gridwidth = 7;
         barConstraints.insets = new Insets(0, -2, 0, -2);
-        add(statusBarView, barConstraints, 0);
+        add(_statusBarView, barConstraints, 0);
     }
     
     /**
-     * Gets the current card component used on this view. This is the card
-     * that would exist when performing a drag operation
+     * @return The overlay that paints the cards being dragged
+     */
+    public DragOverlay getDragOverlay() {
+        return _dragOverlay;
+    }
+    
+    /**
+     * @return The talon pile view
+     */
+    public TalonPileView getTalonView() {
+        return _talonView;
+    }
+    
+    /**
+     * @return The foundation pile views, 0 being the right-most pile
+     */
+    public List<FoundationPileView> getFoundationViews() {
+        return _foundationViews;
+    }
+    
+    /**
+     * @return The tableau pile views, 0 being the right-most pile
+     */
+    public List<TableauPileView> getTableauViews() {
+        return _tableauViews;
+    }
+    
+    @Override public void addNotify() {
+        super.addNotify();
+        
+        // The cards being dragged are painted above the board by the glass pane of the window showing this board
+        getRootPane().setGlassPane(_dragOverlay);
+    }
+    
+    /**
+     * Sets the trail left by the cards bouncing off the board when the game is won, which is painted above every pile
      *
-     * @return The currently dragged card of this view
+     * @param winAnimationTrail The image of the trail, or null to stop painting it
      */
-    public CardView getCardComponent() {
-        for(Component comp : getComponents()) {
-            if(comp instanceof CardView) {
-                return (CardView) comp;
-            }
+    public void setWinAnimationTrail(BufferedImage winAnimationTrail) {
+        _winAnimationTrail = winAnimationTrail;
+        repaint();
+    }
+    
+    @Override public void destructor() {
+        OptionsSnapshot.removeListener(_optionsListener);
+        if(_winAnimation != null) {
+            _winAnimation.clear();
         }
-        
-        return null;
+        super.destructor();
+    }
+    
+    @Override protected void paintChildren(Graphics context) {
+        super.paintChildren(context);
+        if(_winAnimationTrail != null) {
+            context.drawImage(_winAnimationTrail, 0, 0, null);
+        }
+    }
+    
+    /**
+     * @return The index of the area that every pile occupies
+     */
+    public DropZoneIndex getDropZoneIndex() {
+        return _dropZoneIndex;
     }
     
     /**
      * Scans the board for a win condition
      */
-    public static void scanGameForWin() {
+    public void scanGameForWin() {
         boolean isWinner = true;
-        for(FoundationPileView foundationView : AbstractFactory.getFactory(ViewFactory.class).getAll(FoundationPileView.class)) {
+        for(FoundationPileView foundationView : _foundationViews) {
             if(foundationView.layeredPane.getComponentCount() != 13) {
                 isWinner = false;
                 break;
@@ -207,14 +416,17 @@ public final class GameView extends PanelView {
         }
         
         if(isWinner) {
-            processWin();
+            processWin(this);
         }
     }
     
     /**
      * Forces the game to win
      */
-    public static void forceGameWin() {
+    public void forceGameWin() {
+        
+        // The cards are moved without being recorded, so the recorded movements can no longer be undone
+        _controller.clearUndo();
         
         List<CardView> cards = AbstractFactory.getFactory(ViewFactory.class).getAll(CardView.class);
         cards.stream().forEach(z -> z.uncoverBackside(true));
@@ -239,39 +451,60 @@ public final class GameView extends PanelView {
     
     /**
      * Process the events that will occur after a win has been detected 
+     *
+     * @param boardView The view that shows the board of the game that was won
      */
-    private static void processWin() {
+    public static void processWin(IBoardView boardView) {
+        StatusBarView statusBarView = boardView.getStatusBarView();
+        
         // Stop the game timer
-        TimerView gameTimerView = AbstractFactory.getFactory(ViewFactory.class).get(TimerView.class);
+        TimerView gameTimerView = statusBarView.getTimerView();
         gameTimerView.stop();
+        
+        // The game is over, so nothing can be undone anymore
+        boardView.getController().clearUndo();
 
         // Update the score with the bonus
-        long bonus = AbstractFactory.getFactory(ViewFactory.class).get(ScoreView.class).updateScoreBonus(gameTimerView.getTime());
+        long bonus = statusBarView.getScoreView().updateScoreBonus(gameTimerView.getTime());
         
         // Show the updated text on the status bar
-        AbstractFactory.getFactory(ViewFactory.class).get(StatusBarView.class).setMenuDescription(String.format(Localization.instance().getLocalizedString(LocalizationStrings.GAME_WON_STATUS_BAR), bonus));
+        statusBarView.setMenuDescription(String.format(Localization.instance().getLocalizedString(LocalizationStrings.GAME_WON_STATUS_BAR), bonus));
         
-        // Perform the animation on all the cards
-        WinAnimationHelper.processCards();
+        // Perform the animation on all the cards, the board view has no card views to animate
+        if(boardView instanceof GameView) {
+            GameView gameView = (GameView)boardView;
+            if(gameView._winAnimation != null) {
+                gameView._winAnimation.clear();
+            }
+            gameView._winAnimation = WinAnimationHelper.processCards(gameView);
+        }
+        else {
+            showGameOverDialog(boardView);
+        }
     }
     
     /**
      * Shows the game over dialog, prompting the user to choose what they would like to do
+     *
+     * @param boardView The view that shows the board of the game that was won
      */
-    public static void showGameOverDialog() {
+    public static void showGameOverDialog(IBoardView boardView) {
         // Show the dialog indicating that game has won
         if(JOptionPane.showConfirmDialog(Application.instance, Localization.instance().getLocalizedString(LocalizationStrings.GAME_OVER), Localization.instance().getLocalizedString(LocalizationStrings.GAME_OVER_HEADER), JOptionPane.YES_NO_OPTION, JOptionPane.WARNING_MESSAGE) == JOptionPane.YES_OPTION) { 
             MenuBuilder.search(Application.instance.getJMenuBar(), NewGameMenuItem.class).getComponent(AbstractButton.class).doClick();
         }
         else {
             // Clear the description and other status bar texts
-            AbstractFactory.getFactory(ViewFactory.class).get(StatusBarView.class).clearMenuDescription();
+            boardView.getStatusBarView().clearMenuDescription();
 
+            if(!(boardView instanceof GameView)) {
+                return;
+            }
+            GameView gameView = (GameView)boardView;
             
-            GameView gameView = AbstractFactory.getFactory(ViewFactory.class).get(GameView.class);
             // Get the tree and synchronize against it. Exceptions will be thrown during the removal process if we dont
             synchronized(gameView.getTreeLock()) {
-                Component[] components = AbstractFactory.getFactory(ViewFactory.class).get(GameView.class).getComponents();
+                Component[] components = gameView.getComponents();
                 for(int i = 0; i < components.length; ++i) {
                     if(!(components[i] instanceof StatusBarView)) {
                         gameView.remove(components[i]);
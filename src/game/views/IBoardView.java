@@ -0,0 +1,78 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2019 Daniel Ricci {@literal <thedanny09@icloud.com>}
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package game.views;
+
+import framework.api.IView;
+
+import game.controllers.MovementRecorderController;
+import game.engine.GameSession;
+import game.engine.GameState;
+
+/**
+ * Defines the view that shows the board of the game being played, which is laid out again from the recorded game state
+ * every time that a movement is undone or redone, or that the board has shown something else such as a replay.
+ * 
+ * @author Daniel Ricci {@literal <thedanny09@icloud.com>}
+ */
+public interface IBoardView extends IView {
+
+    /**
+     * @return The deal number of the game
+     */
+    public long getDealNumber();
+
+    /**
+     * @return The session of the game
+     */
+    public GameSession getSession();
+
+    /**
+     * @return The movement controller of the game, which is created by this view and used by every view of its board
+     */
+    public MovementRecorderController getController();
+
+    /**
+     * @return The status bar view of the game, which holds the score and the game timer
+     */
+    public StatusBarView getStatusBarView();
+
+    /**
+     * Synchronizes the board with the specified game state and scans the board for a win condition
+     *
+     * @param state The game state
+     * @param foundations The suite held by each foundation, or -1 for a foundation that is empty
+     * @param fanSize The number of cards at the top of the waste that belong to the last hand drawn
+     */
+    public void synchronize(GameState state, int[] foundations, int fanSize);
+
+    /**
+     * Synchronizes the board with the specified game state
+     *
+     * @param state The game state
+     * @param foundations The suite held by each foundation, or -1 for a foundation that is empty
+     * @param fanSize The number of cards at the top of the waste that belong to the last hand drawn
+     */
+    public void synchronizeBoard(GameState state, int[] foundations, int fanSize);
+}
\ No newline at end of file
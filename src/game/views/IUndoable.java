@@ -27,24 +27,10 @@ package game.views;
 import framework.api.IView;
 
 /**
- * Defines the functionality required to perform an undo operation on a particular component
+ * Defines a component whose movements are recorded by the movement recorder. Undoing or redoing a movement
+ * does not go through the component, the board is laid out again from the recorded game state instead.
  * 
  * @author Daniel Ricci {@literal <thedanny09@icloud.com>}
  */
-public interface IUndoable extends IView {    
-           
-    /**
-     * Performs an undo based on the last backup that was performed on this component
-     */
-    public void undoLastAction();
-
-    /**
-     * Performs a logical backup with respect to the state and business logic of this component
-     */
-    public void performBackup();
-    
-    /**
-     * Clears the backup associated to this component
-     */
-    public void clearBackup();
+public interface IUndoable extends IView {
 }
\ No newline at end of file
@@ -0,0 +1,171 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2019 Daniel Ricci {@literal <thedanny09@icloud.com>}
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package game.views;
+
+import java.awt.Dimension;
+import java.awt.FlowLayout;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+
+import javax.swing.BoxLayout;
+import javax.swing.JButton;
+import javax.swing.JLabel;
+import javax.swing.JOptionPane;
+import javax.swing.JPanel;
+import javax.swing.JSlider;
+import javax.swing.event.ChangeEvent;
+import javax.swing.event.ChangeListener;
+
+import framework.core.mvc.view.DialogView;
+import framework.core.system.Application;
+import framework.utils.globalisation.Localization;
+
+import game.engine.Card;
+import game.engine.ReplayPlayer;
+
+import resources.LocalizationStrings;
+
+/**
+ * The replay dialog view shows a timeline of the game being played. Moving along the timeline lays the board out
+ * as it was at that point of the game, all the pile views being updated at once from the state of the replay.
+ *
+ * @author Daniel Ricci {@literal <thedanny09@icloud.com>}
+ */
+public final class ReplayDialogView extends DialogView {
+
+    /**
+     * The width of the timeline
+     */
+    private final int _timelineWidth = 400;
+
+    /**
+     * The player of the replay
+     */
+    private final ReplayPlayer _player;
+
+    /**
+     * The view that shows the board, which is laid out at the position of the replay
+     */
+    private final IBoardView _boardView;
+
+    /**
+     * The timeline of the replay
+     */
+    private final JSlider _timeline;
+
+    /**
+     * The label showing the position within the replay
+     */
+    private final JLabel _positionLabel = new JLabel();
+
+    /**
+     * The Close button
+     */
+    private final JButton _closeButton = new JButton("Close");
+
+    /**
+     * Constructs a new instance of this class type
+     *
+     * @param player The player of the replay
+     * @param boardView The view that shows the board
+     */
+    public ReplayDialogView(ReplayPlayer player, IBoardView boardView) {
+        super(Application.instance, Localization.instance().getLocalizedString(LocalizationStrings.REPLAY).replace("...", ""));
+        _player = player;
+        _boardView = boardView;
+        _timeline = new JSlider(0, player.getActionCount(), player.getPosition());
+        getContentPane().setLayout(new BoxLayout(getContentPane(), BoxLayout.Y_AXIS));
+        setModal(true);
+        setResizable(false);
+    }
+
+    @Override protected void enterActionPerformed(ActionEvent event) {
+        _closeButton.doClick();
+    }
+
+    @Override public void render() {
+
+        _timeline.setPreferredSize(new Dimension(_timelineWidth, _timeline.getPreferredSize().height));
+        _timeline.addChangeListener(new ChangeListener() {
+            @Override public void stateChanged(ChangeEvent event) {
+                seek(_timeline.getValue());
+            }
+        });
+
+        // The Close button action event
+        _closeButton.addActionListener(new ActionListener() {
+            @Override public void actionPerformed(ActionEvent event) {
+                setDialogResult(JOptionPane.OK_OPTION);
+                setVisible(false);
+            }
+        });
+
+        JPanel timelinePanel = new JPanel(new FlowLayout(FlowLayout.CENTER));
+        timelinePanel.add(_timeline);
+
+        JPanel actionsPanel = new JPanel(new FlowLayout(FlowLayout.CENTER));
+        actionsPanel.add(_positionLabel);
+        actionsPanel.add(_closeButton);
+
+        add(timelinePanel);
+        add(actionsPanel);
+
+        updatePositionLabel();
+
+        // Pack the UI to fit, and keep the board visible by placing the dialog at the bottom of the application
+        pack();
+        setLocation(Application.instance.getX() + (Application.instance.getWidth() - getWidth()) / 2, Application.instance.getY() + Application.instance.getHeight() - getHeight());
+
+        // Render the UI
+        super.render();
+    }
+
+    /**
+     * Lays out the board at the specified position of the replay
+     *
+     * @param position The number of actions of the replay to have played
+     */
+    private void seek(int position) {
+        _player.seek(position);
+
+        int[] foundations = _player.getFoundationSuites(Card.SUITE_COUNT);
+        _boardView.synchronizeBoard(_player.getState(), foundations, _player.getFanSize());
+
+        updatePositionLabel();
+    }
+
+    /**
+     * Updates the label showing the position within the replay
+     */
+    private void updatePositionLabel() {
+        if(!_player.hasTimestamps()) {
+            _positionLabel.setText(String.format(Localization.instance().getLocalizedString(LocalizationStrings.REPLAY_POSITION_UNTIMED), _player.getPosition(), _player.getActionCount()));
+            return;
+        }
+        
+        long seconds = _player.getElapsedTime() / 1000;
+        _positionLabel.setText(String.format(Localization.instance().getLocalizedString(LocalizationStrings.REPLAY_POSITION), _player.getPosition(), _player.getActionCount(), seconds / 60, seconds % 60));
+    }
+}
\ No newline at end of file
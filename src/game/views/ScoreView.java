@@ -33,11 +33,10 @@ import framework.communication.internal.signal.arguments.EventArgs;
 import framework.core.mvc.view.PanelView;
 import framework.utils.globalisation.Localization;
 
-import game.config.OptionsPreferences;
-import game.config.OptionsPreferences.DrawOption;
-import game.config.OptionsPreferences.ScoringOption;
+import game.config.OptionsSnapshot;
+import game.engine.GameSession;
+import game.engine.Scoring;
 import game.models.MovementModel;
-import game.models.MovementModel.MovementType;
 
 import resources.LocalizationStrings;
 
@@ -59,20 +58,17 @@ public class ScoreView extends PanelView {
     protected final JLabel scoreValue = new JLabel();
     
     /**
-     * The current score 
+     * The session of the game, which holds the current score
      */
-    protected static long SCORE_CURRENT;
-    
-    /**
-     * The previous score
-     */
-    @SuppressWarnings("unused")
-    private static long SCORE_BEFORE = SCORE_CURRENT;
+    protected final GameSession session;
     
     /**
      * Constructs a new instance of this class type
+     *
+     * @param session The session of the game
      */
-    public ScoreView() {
+    public ScoreView(GameSession session) {
+        this.session = session;
         this.setBackground(Color.WHITE);
 
         // Set the VGap so that the score renders appropriately
@@ -83,32 +79,6 @@ public class ScoreView extends PanelView {
         add(scoreValue);
     }
     
-    /**
-     * Adds the specified offset to the current score.
-     *
-     * @param offsetToScore The score to offset the current score with, a +- value of something defined on your end
-     */
-    protected void addToScore(long offsetToScore) {
-        SCORE_CURRENT = Math.max(0, SCORE_CURRENT + offsetToScore);
-        scoreValue.setText(toString());        
-    }
-    
-    /**
-     * Adds the specified offset to the current score. This method will perform a backup of what the
-     * score previously was. How this method differs from the `addToScore` method is that it
-     * is friendly for performing an undo.
-     * 
-     * The reason to not call this method over the other is in the case where the score being perform
-     * could not ever be undone, such as when 10 seconds has elapsed and the score loses -2, you can never
-     * get that back so dont backup the score there
-     *
-     * @param offsetToScore The score to offset the current score with, a +- value of something defined on your end
-     */
-    private void addToScoreAndBackup(long offsetToScore) {
-        SCORE_BEFORE = SCORE_CURRENT;
-        addToScore(offsetToScore);
-    }
-       
     /**
      * Updates the score based on the bonus logic
      *
@@ -117,106 +87,52 @@ public class ScoreView extends PanelView {
      * @return The bonus that will be used
      */
     public long updateScoreBonus(long seconds) {
-        long bonus = 0;
-        
-        if(seconds > 30) {
-            bonus = 700000 / seconds;
-            addToScore(bonus);
-        }
-        
+        long bonus = Scoring.getTimeBonus(session.getOptions().scoringOption, seconds);
+        setScore(session.getScore() + bonus);
         return bonus;
     }
     
     /**
-     * Updates the score based on the specified deck plays.
+     * Updates the score based on the time of the game timer
      *
-     * @param deckPlays The number of decks played
-     */
-    public void updateScoreDeckFinished(int deckPlays) {
-        OptionsPreferences preferences = new OptionsPreferences();
-        preferences.load();
-        
-        if(preferences.drawOption == DrawOption.THREE && preferences.scoringOption == ScoringOption.STANDARD) {
-            if(deckPlays > 3) {
-                addToScoreAndBackup(-20);
-            }
-        }
-        else {
-            addToScoreAndBackup(-100);    
-        }
-    }
-    
-    /**
-     * Updates the score based on a timer interval tick of the game
+     * @param fromSeconds The time of the game timer that the score was already updated for, in seconds
+     * @param toSeconds The time of the game timer, in seconds
      */
-    public void updateScoreTimerTick() {
-        addToScore(-2);
+    public void updateScoreTime(long fromSeconds, long toSeconds) {
+        setScore(Scoring.applyTimePenalty(session.getOptions().scoringOption, session.getScore(), fromSeconds, toSeconds));
     }
     
     /**
-     * Updates the score based on a cards' backside being revealed
-     */
-    public void updateScoreCardTurnOver() {
-        addToScore(5);
-    }
-    
-    /**
-     * Updates the score based on an operation
+     * Sets the score of the game and shows it
      *
-     * @param from where the operation started from
-     * @param to where the operation ended at
-     * @param isUndo If the operation being done is an undo operation
-     * 
+     * @param score The score
      */
-     protected void updateScore(MovementType from, MovementType to, boolean isUndo) {
-         long scoreFromMovement = getMovementScore(from, to, isUndo); 
-         addToScoreAndBackup(scoreFromMovement + (isUndo ? - 2 : 0));
-     }
-     
-    private long getMovementScore(MovementType from, MovementType to, boolean isUndo) {
-        
-        long score = 0;
-        
-        if(from == MovementType.TALON && to == MovementType.TABLEAU) {
-            score = 5;
-        }
-        else if(from == MovementType.TALON && to == MovementType.FOUNDATION) {
-            score = 10;
-        }
-        else if (from == MovementType.TABLEAU && to == MovementType.FOUNDATION) {
-            score = 10;
-        }
-        else if(from == MovementType.FOUNDATION && to == MovementType.TABLEAU) {
-            score = -15;
-        }
-        
-        // If the score is being undone then flip the sign of the score
-        if(isUndo) {
-            score *= -1;
-        }
-        
-        return score;
+    private void setScore(long score) {
+        session.setScore(score);
+        scoreValue.setText(toString());
     }
      
     @Override public void render() {
         super.render();
-        addToScore(0);
+        scoreValue.setText(toString());
     }
     
-    @Override public void destructor() {
-        super.destructor();
-        SCORE_CURRENT = 0;
-        SCORE_BEFORE = 0;
-    }
-        
     @Override public String toString() {
-        return String.valueOf(SCORE_CURRENT);
+        return String.valueOf(session.getScore());
     }
     
     @Override public final void update(EventArgs event) {
         if(event.getSource() instanceof MovementModel) {
             MovementModel movement = (MovementModel) event.getSource();
-            updateScore(movement.getFrom(), movement.getTo(), movement.getIsUndo());
+            OptionsSnapshot options = session.getOptions();
+            long scoreBefore = session.getScore();
+            if(movement.getIsUndo()) {
+                setScore(Scoring.applyUndo(options.scoringOption, scoreBefore, movement.getScore()));
+            }
+            else {
+                setScore(Scoring.applyMove(options.scoringOption, options.drawOption, scoreBefore, movement.getMove(), session.getDeckPlays()));
+                movement.setScore(session.getScore() - scoreBefore);
+            }
         }
     }
 }
\ No newline at end of file
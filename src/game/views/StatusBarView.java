@@ -36,35 +36,43 @@ import javax.swing.JPanel;
 import javax.swing.border.EmptyBorder;
 
 import framework.core.factories.AbstractFactory;
-import framework.core.factories.ControllerFactory;
 import framework.core.factories.ViewFactory;
 import framework.core.mvc.view.PanelView;
 
-import game.config.OptionsPreferences;
+import game.config.OptionsSnapshot;
+import game.config.OptionsSnapshot.IOptionsListener;
 import game.config.OptionsPreferences.ScoringOption;
 import game.controllers.MovementRecorderController;
+import game.engine.GameSession;
 
 public final class StatusBarView extends PanelView {
 
     /**
      * The game timer view
      */
-    private final TimerView _gameTimerView = AbstractFactory.getFactory(ViewFactory.class).add(new TimerView(), true);
+    private final TimerView _gameTimerView;
     
     /**
      * The game score view
      */
-    private ScoreView _scoreView = null;
+    private final ScoreView _scoreView;
     
     /**
      * The menu description label
      */
     private final JLabel _menuDescription = new JLabel();
     
+    /**
+     * The listener that synchronizes this view whenever the options change
+     */
+    private final IOptionsListener _optionsListener = (previous, current) -> synchronizeWithOptions();
+    
     /**
      * Constructs a new instance of this class type
+     *
+     * @param controller The movement controller of the game, whose session holds the score and the game timer
      */
-    public StatusBarView() {
+    public StatusBarView(MovementRecorderController controller) {
         this.setBackground(Color.WHITE);
 
         this.setLayout(new BorderLayout());
@@ -88,16 +96,17 @@ public final class StatusBarView extends PanelView {
 
         
         // The scoring option should only be shown in Standard and Vegas scoring modes
-        OptionsPreferences preferences = new OptionsPreferences();
-        preferences.load();
+        GameSession session = controller.getSession();
+        OptionsSnapshot preferences = session.getOptions();
         
-        // Create the score view based on the currently set scoring standard      
-        _scoreView = AbstractFactory.getFactory(ViewFactory.class).add(preferences.scoringOption == ScoringOption.VEGAS ? new VegasScoreView() : new ScoreView(), true);
+        // Create the score view based on the scoring standard of the game      
+        _scoreView = AbstractFactory.getFactory(ViewFactory.class).add(preferences.scoringOption == ScoringOption.VEGAS ? new VegasScoreView(session) : new ScoreView(session), true);
         _scoreView.setBorder(null);
         _scoreView.render();
+        _gameTimerView = AbstractFactory.getFactory(ViewFactory.class).add(new TimerView(session, _scoreView), true);
         
         // register the score view to recieve events from the movement controller
-        AbstractFactory.getFactory(ControllerFactory.class).get(MovementRecorderController.class).addSignalListener(_scoreView);
+        controller.addSignalListener(_scoreView);
         
         if(preferences.scoringOption != ScoringOption.NONE) {
             rightSidePanel.add(_scoreView,BorderLayout.WEST);    
@@ -106,8 +115,9 @@ public final class StatusBarView extends PanelView {
         rightSidePanel.add(_gameTimerView, BorderLayout.EAST);
         add(rightSidePanel, BorderLayout.EAST); 
         
-        // Synchronize w.r.t the currently set options
+        // Synchronize w.r.t the currently set options, and again whenever they change
         synchronizeWithOptions();
+        OptionsSnapshot.addListener(_optionsListener);
     }
     
     /**
@@ -126,12 +136,25 @@ public final class StatusBarView extends PanelView {
         setMenuDescription("");
     }
     
+    /**
+     * @return The game timer view
+     */
+    public TimerView getTimerView() {
+        return _gameTimerView;
+    }
+    
+    /**
+     * @return The game score view
+     */
+    public ScoreView getScoreView() {
+        return _scoreView;
+    }
+    
     /**
      * Synchronizes the options results w.r.t the status bar and it's related content
      */
     public void synchronizeWithOptions() {
-        OptionsPreferences preferences = new OptionsPreferences();
-        preferences.load();
+        OptionsSnapshot preferences = OptionsSnapshot.get();
         this.setVisible(preferences.statusBar);
         _gameTimerView.setVisible(preferences.timedGame);
         _scoreView.setVisible(preferences.scoringOption != ScoringOption.NONE);
@@ -140,4 +163,9 @@ public final class StatusBarView extends PanelView {
     @Override public void render() {
         synchronizeWithOptions();
     }
+    
+    @Override public void destructor() {
+        OptionsSnapshot.removeListener(_optionsListener);
+        super.destructor();
+    }
 }
\ No newline at end of file
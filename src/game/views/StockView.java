@@ -36,8 +36,6 @@ import javax.swing.SwingUtilities;
 import framework.communication.internal.signal.ISignalReceiver;
 import framework.communication.internal.signal.arguments.EventArgs;
 import framework.communication.internal.signal.arguments.ViewEventArgs;
-import framework.core.factories.AbstractFactory;
-import framework.core.factories.ViewFactory;
 import framework.core.graphics.IRenderable;
 import framework.core.mvc.view.PanelView;
 import framework.utils.MouseListenerEvent;
@@ -70,12 +68,15 @@ public final class StockView extends PanelView implements IUndoable {
      * A reference to the talon view. This is stored so that we dont need to query the view factory to get the Talon
      * which is costly given where it is being used
      */
-    private final TalonPileView _talonView = AbstractFactory.getFactory(ViewFactory.class).get(TalonPileView.class);
+    private final TalonPileView _talonView;
     
     /**
      * Constructs a new instance of this class type
+     *
+     * @param talonView The talon view that the cards of this stock are drawn onto
      */
-    public StockView() {
+    public StockView(TalonPileView talonView) {
+        _talonView = talonView;
         setOpaque(false);
         ViewHelper.registerForCardsAutocomplete(this);
         
@@ -83,7 +84,7 @@ public final class StockView extends PanelView implements IUndoable {
         addMouseListener(new MouseAdapter() {
             @Override public void mousePressed(MouseEvent event) {
                 if(!SwingUtilities.isRightMouseButton(event)) {
-                    AbstractFactory.getFactory(ViewFactory.class).get(TimerView.class).startGameTimer();
+                    ViewHelper.startGameTimer(StockView.this);
                     removeMouseListener(this);
                 }
             }
@@ -98,28 +99,12 @@ public final class StockView extends PanelView implements IUndoable {
                     return;
                 }
 
-                _talonView.cycleNextHand();
+                _talonView.cycleNextHand(StockView.this);
+                synchronize();
                 
-                TalonCardState talonState = _talonView.getState();
-                if(talonState == TalonCardState.DECK_PLAYED) {
-                    if(_talonView.isTalonEnded()) {
-                        _stockCardEntities.get(0).enableTalonEnd();
-                    }
-                    else {
-                        _stockCardEntities.get(0).enableTalonRecycled();
-                    }
+                if(_talonView.getState() != TalonCardState.DECK_PLAYED && !SwingUtilities.isRightMouseButton(event)) {
+                    ViewHelper.startGameTimer(StockView.this);
                 }
-                else {
-                    _stockCardEntities.remove(0);
-                    _stockCardEntities.add(0, new StockCardEntity());
-                    if(!SwingUtilities.isRightMouseButton(event)) {
-                        AbstractFactory.getFactory(ViewFactory.class).get(TimerView.class).startGameTimer();
-                    }
-                }
-                
-                // Force an update to occur. We dont really need to worry about data binding
-                // for something as straight forward as updating this view
-                update(new ViewEventArgs(StockView.this, ""));
             }
         });
         
@@ -186,25 +171,25 @@ public final class StockView extends PanelView implements IUndoable {
         repaint();
     }
 
-    @Override public void undoLastAction() {
-        _talonView.revertLastHand();
-
-        if(_talonView.isDeckPlayed()) {
-            _stockCardEntities.get(0).enableTalonRecycled();
+    /**
+     * Synchronizes the cards shown by this view with the state of the talon
+     */
+    public void synchronize() {
+        if(_talonView.getState() == TalonCardState.DECK_PLAYED) {
+            if(_talonView.isTalonEnded()) {
+                _stockCardEntities.get(0).enableTalonEnd();
+            }
+            else {
+                _stockCardEntities.get(0).enableTalonRecycled();
+            }
         }
         else {
             _stockCardEntities.remove(0);
             _stockCardEntities.add(0, new StockCardEntity());
         }
         
-        render();
-    }
-
-    @Override public void performBackup() {
-        // Not needed
-    }
-
-    @Override public void clearBackup() {
-        // Not needed
+        // Force an update to occur. We dont really need to worry about data binding
+        // for something as straight forward as updating this view
+        update(new ViewEventArgs(StockView.this, ""));
     }
 }
\ No newline at end of file
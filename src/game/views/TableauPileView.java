@@ -30,8 +30,9 @@ import java.awt.Dimension;
 import java.awt.Graphics;
 import java.awt.Point;
 import java.awt.Rectangle;
+import java.awt.event.ContainerAdapter;
+import java.awt.event.ContainerEvent;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
 import java.util.logging.Level;
 
@@ -43,9 +44,13 @@ import framework.core.mvc.view.PanelView;
 import framework.core.physics.ICollidable;
 import framework.utils.logging.Tracelog;
 
-import game.config.OptionsPreferences;
+import game.config.OptionsSnapshot;
 import game.controllers.CardController;
+import game.controllers.MovementRecorderController;
+import game.engine.Card;
+import game.engine.GameState;
 import game.models.CardModel;
+import game.views.helpers.DamageTracker;
 
 /**
  * This view represents a single Tableau pile 
@@ -70,14 +75,34 @@ public class TableauPileView extends AbstractPileView implements ICollidable {
     private final PanelView _noCardPanelView = new PanelView();
 
     /**
-     * A reference to the options preferences resource
+     * The index of this pile within the tableau, 0 being the left-most pile
      */
-    private final OptionsPreferences _preferences = new OptionsPreferences();
+    private final int _column;
+    
+    /**
+     * The vertical offset of every card within this pile, indexed from the bottom-most card upwards
+     */
+    private final int[] _cardOffsets = new int[Card.DECK_SIZE];
+    
+    /**
+     * The number of offsets, starting from the bottom-most card, that are up to date
+     */
+    private int _cardOffsetsCount;
     
     /**
      * Constructs a new instance of this class type
+     * 
+     * @param column The index of this pile within the tableau, 0 being the left-most pile
      */
-    private TableauPileView() {
+    private TableauPileView(int column) {
+        _column = column;
+        
+        // The offsets of the cards that were above a removed card no longer apply
+        layeredPane.addContainerListener(new ContainerAdapter() {
+            @Override public void componentRemoved(ContainerEvent event) {
+                _cardOffsetsCount = Math.min(_cardOffsetsCount, layeredPane.getComponentCount());
+            }
+        });
         
         // Force the rendering engine to attempt to render this view so that it can
         // render the panel view when no cards are available and the player is in outline mode
@@ -93,14 +118,56 @@ public class TableauPileView extends AbstractPileView implements ICollidable {
     /**
      * Constructs a new instance of this class type
      * 
+     * @param column The index of this pile within the tableau, 0 being the left-most pile
      * @param cards A list of card models to associate to this pile view
+     * @param controller The movement controller of the game
+     * @param foundationViews The foundation pile views of the board, 0 being the right-most pile
      */
-    public TableauPileView(List<CardModel> cards) {
-        this();
+    public TableauPileView(int column, List<CardModel> cards, MovementRecorderController controller, List<FoundationPileView> foundationViews) {
+        this(column);
         for(int i = 0; i < cards.size(); ++i) {
             //Create the card view
             cards.get(i).setBackside(i + 1 < cards.size());
-            CardView view = AbstractFactory.getFactory(ViewFactory.class).add(new CardView(cards.get(i)));
+            CardView view = AbstractFactory.getFactory(ViewFactory.class).add(new CardView(cards.get(i), controller, foundationViews));
+            
+            // Add the view to the layered pane
+            layeredPane.add(view);
+            layeredPane.setLayer(view, i);
+            
+            // Set the bounds of the view within the layered pane
+            Point offset = getCardOffset(view);
+            view.setBounds(new Rectangle(offset.x, offset.y, view.getPreferredSize().width, view.getPreferredSize().height));
+        }
+    }
+    
+    /**
+     * @return The index of this pile within the tableau, 0 being the left-most pile
+     */
+    public int getColumn() {
+        return _column;
+    }
+    
+    /**
+     * Synchronizes this pile with the specified game state, taking the card views of the cards that the state holds within this pile
+     *
+     * @param state The game state
+     * @param cardViews The card views of the game, indexed by encoded card
+     */
+    public void synchronize(GameState state, CardView[] cardViews) {
+        Rectangle damage = getCardsBounds(Arrays.asList(layeredPane.getComponents()));
+        layeredPane.removeAll();
+        for(int i = 0; i < state.getColumnSize(_column); ++i) {
+            CardView view = cardViews[state.getTableauCard(_column, i)];
+            view.setVisible(true);
+            if(!view.isEnabled()) {
+                view.setEnabled(true);
+            }
+            if(i < state.getBacksideCount(_column)) {
+                view.coverBackside();
+            }
+            else {
+                view.uncoverBackside(true);
+            }
             
             // Add the view to the layered pane
             layeredPane.add(view);
@@ -110,13 +177,14 @@ public class TableauPileView extends AbstractPileView implements ICollidable {
             Point offset = getCardOffset(view);
             view.setBounds(new Rectangle(offset.x, offset.y, view.getPreferredSize().width, view.getPreferredSize().height));
         }
+        damage.add(getCardsBounds(Arrays.asList(layeredPane.getComponents())));
+        DamageTracker.addDamage(layeredPane, damage);
     }
     
     @Override public void preProcessGraphics(IRenderable renderableData, Graphics context) {
         super.preProcessGraphics(renderableData, context);
         if(getIsHighlighted() && layeredPane.getComponentCount() == 0) {
-            _preferences.load();
-            if(_preferences.outlineDragging) {
+            if(OptionsSnapshot.get().outlineDragging) {
                 _noCardPanelView.setSize(new Dimension(CardView.CARD_WIDTH, CardView.CARD_HEIGHT));
                 _noCardPanelView.setPreferredSize(_noCardPanelView.getSize());
                 add(_noCardPanelView);
@@ -139,34 +207,75 @@ public class TableauPileView extends AbstractPileView implements ICollidable {
         repaint();
     }
     
+    /**
+     * Lays out every card of this pile at its offset, computing the offset of every card again in a single pass
+     */
+    public void layoutCards() {
+        _cardOffsetsCount = 0;
+        int count = layeredPane.getComponentCount();
+        for(int index = 0; index < count; ++index) {
+            layeredPane.getComponent(count - 1 - index).setLocation(0, getCardOffset(index));
+        }
+        DamageTracker.addDamage(layeredPane);
+    }
+    
+    /**
+     * Indicates that the specified card of this pile was flipped, so that the offsets of the cards above it are computed again
+     * 
+     * @param cardView The card that was flipped
+     */
+    public void flipCard(CardView cardView) {
+        int position = layeredPane.getIndexOf(cardView);
+        if(position != -1) {
+            _cardOffsetsCount = Math.min(_cardOffsetsCount, layeredPane.getComponentCount() - position);
+        }
+    }
+    
     @Override protected Point getCardOffset(CardView cardView) {
         
-        List<Component> cardComponents = Arrays.asList(layeredPane.getComponents());
-        Collections.reverse(cardComponents);
-        int index = cardComponents.indexOf(cardView);
-        if(index == -1) {
+        // The card being placed is the top-most card of the layered pane, which is found right away
+        int position = layeredPane.getIndexOf(cardView);
+        if(position == -1) {
             Tracelog.log(Level.SEVERE, true, "Cannot find the offset for the card " + cardView);
             return new Point();
         }
         
-        // If there is only one card then it will have an offset of 0
-        if(index == 0) {
-            return new Point();
+        return new Point(0, getCardOffset(layeredPane.getComponentCount() - 1 - position));
+    }
+    
+    /**
+     * Gets the vertical offset of the card at the specified index, computing the offsets that are not up to date from the
+     * last offset that is
+     * 
+     * @param index The index of the card, 0 being the bottom-most card
+     * 
+     * @return The vertical offset of the card
+     */
+    private int getCardOffset(int index) {
+        int count = layeredPane.getComponentCount();
+        for(; _cardOffsetsCount <= index; ++_cardOffsetsCount) {
+            
+            // If there is only one card then it will have an offset of 0
+            if(_cardOffsetsCount == 0) {
+                _cardOffsets[0] = 0;
+                continue;
+            }
+            
+            // If the card before this one has it's backside showing, then it should be
+            // positioned 3 pixels lower than that card, otherwise 15 pixels lower
+            CardView previousCard = (CardView)layeredPane.getComponent(count - _cardOffsetsCount);
+            _cardOffsets[_cardOffsetsCount] = _cardOffsets[_cardOffsetsCount - 1] + (previousCard.isBacksideShowing() ? CARD_OFFSET_BACKSIDE : CARD_OFFSET);
         }
-       
-        // Get a reference to the previous card and it's bounds
-        CardView previousCard = (CardView)cardComponents.get(index - 1);
-        Rectangle previousCardBounds = previousCard.getBounds();
         
-        // If the card before this one has it's backside showing, then it should be
-        // positioned 3 pixels lower than that card
-        if(previousCard.isBacksideShowing()) {
-            return new Point(0, previousCardBounds.y + CARD_OFFSET_BACKSIDE);
-        }
-        // Subsequent cards should be 12 pixels down from the previous card
-        else {
-            return new Point(0, previousCardBounds.y + CARD_OFFSET);
+        return _cardOffsets[index];
+    }
+
+    @Override public boolean isValidDrop(CardView cardView) {
+        CardView lastCard = getLastCard();
+        if(lastCard == null) {
+            return layeredPane.getComponentCount() == 0 && cardView.getViewProperties().getEntity(CardController.class).getCard().getCardEntity().isCardKing();
         }
+        return lastCard.isValidCollision(cardView);
     }
 
     @Override public boolean isValidCollision(Component source) {
@@ -26,22 +26,38 @@ package game.views;
 
 import java.awt.Color;
 import java.awt.FlowLayout;
-import java.util.Timer;
-import java.util.TimerTask;
 
 import javax.swing.JLabel;
+import javax.swing.Timer;
 
-import framework.core.factories.AbstractFactory;
-import framework.core.factories.ViewFactory;
 import framework.core.mvc.view.PanelView;
 
+import game.engine.GameSession;
+
 public final class TimerView extends PanelView {
 
-    private Timer _timer = new Timer(true);
+    /**
+     * The timer that ticks every second on the event dispatch thread, which is the thread that scores the moves, so that
+     * the penalty of the game timer and the score of a move are never applied at the same time
+     */
+    private final Timer _timer = new Timer(1000, event -> onTick());
 
     private JLabel _label = new JLabel();
     
-    private long _time = 0;
+    /**
+     * The session of the game, which owns the game timer shown by this view
+     */
+    private final GameSession _session;
+    
+    /**
+     * The score view that is updated as the game timer runs
+     */
+    private final ScoreView _scoreView;
+    
+    /**
+     * The time up to which the score view was penalized, in seconds
+     */
+    private long _penalizedTime;
     
     private boolean _running;
     
@@ -49,8 +65,13 @@ public final class TimerView extends PanelView {
     
     /**
      * Constructs a new instance of this class type
+     *
+     * @param session The session of the game
+     * @param scoreView The score view that is penalized as the game timer runs
      */
-    public TimerView() {
+    public TimerView(GameSession session, ScoreView scoreView) {
+        _session = session;
+        _scoreView = scoreView;
         this.setBackground(Color.WHITE);
         _label.setText(this.toString());
         add(_label);
@@ -66,35 +87,38 @@ public final class TimerView extends PanelView {
         }
         
         _running = true;
-        _time = 0;        
-        _timer.schedule(new TimerTask() {
-            @Override public void run() {
-                ++_time;
-                _label.setText(TimerView.this.toString());
-                if(_time % 10 == 0) {
-                    AbstractFactory.getFactory(ViewFactory.class).get(ScoreView.class).updateScoreTimerTick();
-                }
-            }
-        }, 1000, 1000);
+        _session.startTimer();
+        _timer.start();
+    }
+    
+    /**
+     * Shows the time of the game timer and penalizes the score for the time that went by since the last tick
+     */
+    private void onTick() {
+        long time = _session.getTime();
+        _label.setText(this.toString());
+        _scoreView.updateScoreTime(_penalizedTime, time);
+        _penalizedTime = time;
     }
     
     public long getTime() {
-        return _time;
+        return _session.getTime();
     }
     
     public void stop() {
+        _session.stopTimer();
         _cancelled = true;
-        _timer.cancel();
+        _timer.stop();
         _running = false;
     }
     
     @Override public void destructor() {
         _cancelled = true;
-        _timer.cancel();
+        _timer.stop();
         super.destructor();
     }
     
     @Override public String toString() {
-        return "Time: " + String.valueOf(_time);
+        return "Time: " + String.valueOf(_session.getTime());
     }
 }
@@ -0,0 +1,160 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2019 Daniel Ricci {@literal <thedanny09@icloud.com>}
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package game.views.components;
+
+import java.awt.Color;
+import java.awt.Graphics;
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import javax.swing.JComponent;
+import javax.swing.JLayeredPane;
+import javax.swing.JRootPane;
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+
+/**
+ * Debugging overlay that briefly flashes the regions of a window that were repainted, sitting above every other layer
+ * of the window without taking any mouse events.
+ *
+ * @author Daniel Ricci {@literal <thedanny09@icloud.com>}
+ */
+public final class DamageOverlay extends JComponent {
+
+    /**
+     * The time that a repainted region stays flashed, in milliseconds
+     */
+    private static final int FLASH_DURATION = 250;
+
+    /**
+     * The color that fills a flashed region
+     */
+    private static final Color FILL_COLOR = new Color(255, 0, 0, 64);
+
+    /**
+     * The color that outlines a flashed region
+     */
+    private static final Color OUTLINE_COLOR = Color.RED;
+
+    /**
+     * The regions being flashed, relative to this overlay
+     */
+    private final List<Rectangle> _regions = new ArrayList<Rectangle>();
+
+    /**
+     * The time at which every region being flashed stops being flashed, in milliseconds
+     */
+    private final List<Long> _expirations = new ArrayList<Long>();
+
+    /**
+     * The timer that removes the regions once they stop being flashed
+     */
+    private final Timer _expirationTimer = new Timer(FLASH_DURATION / 2, event -> removeExpiredRegions());
+
+    /**
+     * Constructs a new instance of this class type
+     */
+    public DamageOverlay() {
+        setOpaque(false);
+    }
+
+    /**
+     * Flashes the specified region of the specified window
+     *
+     * @param rootPane The root pane of the window
+     * @param region The region that was repainted, relative to the root pane
+     */
+    public void flash(JRootPane rootPane, Rectangle region) {
+
+        // Sit above every layer of the window, including the drag layer
+        JLayeredPane layeredPane = rootPane.getLayeredPane();
+        if(getParent() != layeredPane) {
+            if(getParent() != null) {
+                getParent().remove(this);
+            }
+            clear();
+            layeredPane.add(this, JLayeredPane.DRAG_LAYER + 1);
+        }
+        setBounds(0, 0, layeredPane.getWidth(), layeredPane.getHeight());
+
+        Rectangle bounds = SwingUtilities.convertRectangle(rootPane, region, this);
+        _regions.add(bounds);
+        _expirations.add(System.currentTimeMillis() + FLASH_DURATION);
+        repaint(bounds);
+
+        if(!_expirationTimer.isRunning()) {
+            _expirationTimer.start();
+        }
+    }
+
+    /**
+     * Stops flashing every region
+     */
+    public void clear() {
+        _expirationTimer.stop();
+        for(Rectangle region : _regions) {
+            repaint(region);
+        }
+        _regions.clear();
+        _expirations.clear();
+    }
+
+    @Override public boolean contains(int x, int y) {
+        return false;
+    }
+
+    @Override protected void paintComponent(Graphics context) {
+        super.paintComponent(context);
+        for(Rectangle region : _regions) {
+            context.setColor(FILL_COLOR);
+            context.fillRect(region.x, region.y, region.width, region.height);
+            context.setColor(OUTLINE_COLOR);
+            context.drawRect(region.x, region.y, region.width - 1, region.height - 1);
+        }
+    }
+
+    /**
+     * Removes the regions that stopped being flashed
+     */
+    private void removeExpiredRegions() {
+        long now = System.currentTimeMillis();
+        Iterator<Rectangle> regions = _regions.iterator();
+        Iterator<Long> expirations = _expirations.iterator();
+        while(regions.hasNext()) {
+            Rectangle region = regions.next();
+            if(expirations.next() <= now) {
+                regions.remove();
+                expirations.remove();
+                repaint(region);
+            }
+        }
+
+        if(_regions.isEmpty()) {
+            _expirationTimer.stop();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,182 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2019 Daniel Ricci {@literal <thedanny09@icloud.com>}
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package game.views.components;
+
+import java.awt.Component;
+import java.awt.Graphics;
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+
+import javax.swing.JComponent;
+import javax.swing.SwingUtilities;
+import javax.swing.border.Border;
+
+/**
+ * The overlay that paints the cards being dragged, sitting above the board as the glass pane of the application.
+ *
+ * The cards being dragged are not taken out of their pile while they are dragged, they are painted once into an image
+ * that this overlay paints at the position of the mouse, or only their outlines are painted when outline dragging is
+ * enabled. Moving the cards only repaints the area that they left and the area that they entered.
+ *
+ * @author Daniel Ricci {@literal <thedanny09@icloud.com>}
+ */
+public final class DragOverlay extends JComponent {
+
+    /**
+     * The component whose coordinates the bounds of the cards being dragged are relative to
+     */
+    private final Component _board;
+
+    /**
+     * The border painted around every card when only their outlines are painted
+     */
+    private final Border _border = new ExclusiveLineBorder(1);
+
+    /**
+     * The bounds of the cards being dragged, relative to the board
+     */
+    private final Rectangle _bounds = new Rectangle();
+
+    /**
+     * The image of the cards being dragged, or null if only their outlines are painted
+     */
+    private BufferedImage _image;
+
+    /**
+     * The position of every card being dragged relative to the first one, when only their outlines are painted
+     */
+    private int[] _outlineOffsets;
+
+    /**
+     * The height of a card, when only their outlines are painted
+     */
+    private int _outlineHeight;
+
+    /**
+     * Constructs a new instance of this class type
+     *
+     * @param board The component whose coordinates the bounds of the cards being dragged are relative to
+     */
+    public DragOverlay(Component board) {
+        _board = board;
+        setOpaque(false);
+        setVisible(false);
+    }
+
+    /**
+     * Starts painting the specified image of the cards being dragged
+     *
+     * @param image The image of the cards being dragged
+     * @param bounds The bounds of the cards being dragged, relative to the board
+     */
+    public void startDrag(BufferedImage image, Rectangle bounds) {
+        _image = image;
+        _outlineOffsets = null;
+        startDrag(bounds);
+    }
+
+    /**
+     * Starts painting the outlines of the cards being dragged
+     *
+     * @param offsets The position of every card being dragged relative to the first one
+     * @param cardHeight The height of a card
+     * @param bounds The bounds of the cards being dragged, relative to the board
+     */
+    public void startOutlineDrag(int[] offsets, int cardHeight, Rectangle bounds) {
+        _image = null;
+        _outlineOffsets = offsets;
+        _outlineHeight = cardHeight;
+        startDrag(bounds);
+    }
+
+    /**
+     * Moves the cards being dragged to the specified position
+     *
+     * @param x The horizontal position of the cards, relative to the board
+     * @param y The vertical position of the cards, relative to the board
+     */
+    public void moveTo(int x, int y) {
+        if(_bounds.x == x && _bounds.y == y) {
+            return;
+        }
+
+        repaintBounds();
+        _bounds.setLocation(x, y);
+        repaintBounds();
+    }
+
+    /**
+     * Gets the bounds of the cards being dragged. The bounds are updated as the cards are moved and must not be modified
+     *
+     * @return The bounds of the cards being dragged, relative to the board
+     */
+    public Rectangle getDragBounds() {
+        return _bounds;
+    }
+
+    /**
+     * Stops painting the cards being dragged
+     */
+    public void stopDrag() {
+        repaintBounds();
+        _image = null;
+        _outlineOffsets = null;
+        setVisible(false);
+    }
+
+    @Override protected void paintComponent(Graphics context) {
+        super.paintComponent(context);
+
+        Point location = SwingUtilities.convertPoint(_board, _bounds.x, _bounds.y, this);
+        if(_image != null) {
+            context.drawImage(_image, location.x, location.y, null);
+        }
+        else if(_outlineOffsets != null) {
+            for(int offset : _outlineOffsets) {
+                _border.paintBorder(this, context, location.x, location.y + offset, _bounds.width, _outlineHeight);
+            }
+            context.setPaintMode();
+        }
+    }
+
+    /**
+     * Sets the bounds of the cards being dragged and shows them
+     *
+     * @param bounds The bounds of the cards being dragged, relative to the board
+     */
+    private void startDrag(Rectangle bounds) {
+        _bounds.setBounds(bounds);
+        setVisible(true);
+        repaintBounds();
+    }
+
+    /**
+     * Repaints the area covered by the cards being dragged
+     */
+    private void repaintBounds() {
+        repaint(SwingUtilities.convertRectangle(_board, _bounds, this));
+    }
+}
\ No newline at end of file
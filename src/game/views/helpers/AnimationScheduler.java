@@ -0,0 +1,182 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2019 Daniel Ricci {@literal <thedanny09@icloud.com>}
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package game.views.helpers;
+
+import java.awt.DisplayMode;
+import java.awt.GraphicsEnvironment;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.swing.Timer;
+
+/**
+ * Runs the animations of the game on the event dispatching thread, advancing their simulation in fixed steps and
+ * rendering them once per frame of the display.
+ *
+ * The simulation of every animation is advanced by as many fixed steps as the time that elapsed since the last frame
+ * calls for, so that an animation runs at the same speed no matter how often frames are rendered. Whatever time is left
+ * over, less than a step, is handed to the render as the fraction of the next step that has already elapsed so that
+ * an animation can interpolate between its last two steps. When frames are late, the simulation only catches up a
+ * bounded number of steps and the frames in between are skipped, instead of the animation falling further behind.
+ *
+ * @author Daniel Ricci {@literal <thedanny09@icloud.com>}
+ */
+public final class AnimationScheduler {
+
+    /**
+     * An animation that can be run by this scheduler
+     *
+     * @author Daniel Ricci {@literal <thedanny09@icloud.com>}
+     */
+    public interface IAnimation {
+
+        /**
+         * Advances the simulation of this animation by a single fixed step
+         *
+         * @return TRUE if the animation should keep on running, FALSE if it is done
+         */
+        boolean step();
+
+        /**
+         * Renders this animation
+         *
+         * @param alpha The fraction of the next step that has already elapsed, between 0 inclusively and 1 exclusively
+         */
+        void render(double alpha);
+    }
+
+    /**
+     * The number of steps that the simulation of an animation is advanced by every second
+     */
+    public static final int STEP_RATE = 80;
+
+    /**
+     * The duration of a step, in nanoseconds
+     */
+    private static final long STEP_DURATION = 1000000000L / STEP_RATE;
+
+    /**
+     * The most steps that are caught up within a single frame, any time past those is dropped
+     */
+    private static final int MAX_STEPS_PER_FRAME = 8;
+
+    /**
+     * The refresh rate used when the refresh rate of the display is not known
+     */
+    private static final int DEFAULT_REFRESH_RATE = 60;
+
+    /**
+     * The animations being run
+     */
+    private static final List<IAnimation> ANIMATIONS = new ArrayList<IAnimation>();
+
+    /**
+     * The timer that renders a frame, at the refresh rate of the display
+     */
+    private static final Timer FRAME_TIMER = new Timer(1000 / getRefreshRate(), event -> renderFrame());
+
+    /**
+     * The time of the last frame, in nanoseconds
+     */
+    private static long _lastFrameTime;
+
+    /**
+     * The time that elapsed and was not yet simulated, in nanoseconds
+     */
+    private static long _elapsedTime;
+
+    /**
+     * Constructs a new instance of this class type
+     */
+    private AnimationScheduler() {
+    }
+
+    /**
+     * Starts running the specified animation, its first step is taken at the next frame
+     *
+     * @param animation The animation
+     */
+    public static void start(IAnimation animation) {
+        if(!ANIMATIONS.contains(animation)) {
+            ANIMATIONS.add(animation);
+        }
+
+        if(!FRAME_TIMER.isRunning()) {
+            _lastFrameTime = System.nanoTime();
+            _elapsedTime = 0;
+            FRAME_TIMER.start();
+        }
+    }
+
+    /**
+     * Stops running the specified animation
+     *
+     * @param animation The animation
+     */
+    public static void stop(IAnimation animation) {
+        ANIMATIONS.remove(animation);
+        if(ANIMATIONS.isEmpty()) {
+            FRAME_TIMER.stop();
+        }
+    }
+
+    /**
+     * Advances the simulation of every animation by the steps that elapsed since the last frame, and renders them
+     */
+    private static void renderFrame() {
+        long now = System.nanoTime();
+        _elapsedTime = Math.min(_elapsedTime + now - _lastFrameTime, MAX_STEPS_PER_FRAME * STEP_DURATION);
+        _lastFrameTime = now;
+
+        // An animation can stop any animation while it runs, including itself
+        List<IAnimation> animations = new ArrayList<IAnimation>(ANIMATIONS);
+        for(; _elapsedTime >= STEP_DURATION; _elapsedTime -= STEP_DURATION) {
+            for(IAnimation animation : animations) {
+                if(ANIMATIONS.contains(animation) && !animation.step()) {
+                    stop(animation);
+                }
+            }
+        }
+
+        double alpha = (double)_elapsedTime / STEP_DURATION;
+        for(IAnimation animation : animations) {
+            if(ANIMATIONS.contains(animation)) {
+                animation.render(alpha);
+            }
+        }
+    }
+
+    /**
+     * @return The refresh rate of the display, in frames per second
+     */
+    private static int getRefreshRate() {
+        if(GraphicsEnvironment.isHeadless()) {
+            return DEFAULT_REFRESH_RATE;
+        }
+
+        DisplayMode displayMode = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDisplayMode();
+        return displayMode.getRefreshRate() == DisplayMode.REFRESH_RATE_UNKNOWN ? DEFAULT_REFRESH_RATE : displayMode.getRefreshRate();
+    }
+}
\ No newline at end of file
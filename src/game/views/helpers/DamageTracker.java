@@ -0,0 +1,162 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2019 Daniel Ricci {@literal <thedanny09@icloud.com>}
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package game.views.helpers;
+
+import java.awt.Component;
+import java.awt.Rectangle;
+
+import javax.swing.JRootPane;
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+
+import game.views.components.DamageOverlay;
+
+/**
+ * Collects the regions of the board that were touched by a move, a highlight or a flip, and repaints them all at once.
+ *
+ * Every region is converted into the coordinates of the root pane of the window and merged into a single rectangle, which
+ * is repainted once per frame, instead of every view repainting itself and the piles around it. When debugging, every
+ * rectangle that is repainted is briefly flashed by a {@link DamageOverlay} so that the repainted regions can be seen.
+ *
+ * @author Daniel Ricci {@literal <thedanny09@icloud.com>}
+ */
+public final class DamageTracker {
+
+    /**
+     * The delay between two repaints, in milliseconds
+     */
+    private static final int FRAME_DELAY = 1000 / 60;
+
+    /**
+     * The region that must be repainted at the next frame, relative to the root pane
+     */
+    private static final Rectangle DAMAGE = new Rectangle(0, 0, -1, -1);
+
+    /**
+     * The timer that repaints the damaged region at the next frame
+     */
+    private static final Timer FRAME_TIMER = new Timer(FRAME_DELAY, event -> flush());
+
+    /**
+     * The overlay that flashes the repainted regions when debugging
+     */
+    private static final DamageOverlay DEBUG_OVERLAY = new DamageOverlay();
+
+    /**
+     * The root pane that the damaged region is relative to
+     */
+    private static JRootPane _rootPane;
+
+    /**
+     * Indicates if the repainted regions are flashed
+     */
+    private static boolean _isDebugging;
+
+    static {
+        FRAME_TIMER.setRepeats(false);
+    }
+
+    /**
+     * Constructs a new instance of this class type
+     */
+    private DamageTracker() {
+    }
+
+    /**
+     * Marks the whole area of the specified component as having to be repainted
+     *
+     * @param component The component
+     */
+    public static void addDamage(Component component) {
+        addDamage(component, new Rectangle(0, 0, component.getWidth(), component.getHeight()));
+    }
+
+    /**
+     * Marks the specified area of the specified component as having to be repainted
+     *
+     * @param component The component
+     * @param bounds The area to repaint, relative to the component
+     */
+    public static void addDamage(Component component, Rectangle bounds) {
+        if(bounds.isEmpty()) {
+            return;
+        }
+
+        // A component that is not on screen is repainted by itself, once it is shown
+        JRootPane rootPane = component.isShowing() ? SwingUtilities.getRootPane(component) : null;
+        if(rootPane == null) {
+            component.repaint(bounds.x, bounds.y, bounds.width, bounds.height);
+            return;
+        }
+
+        // The damaged region only spans a single window
+        if(rootPane != _rootPane) {
+            flush();
+            _rootPane = rootPane;
+        }
+
+        DAMAGE.add(SwingUtilities.convertRectangle(component, bounds, rootPane));
+        if(!FRAME_TIMER.isRunning()) {
+            FRAME_TIMER.start();
+        }
+    }
+
+    /**
+     * Sets if the repainted regions are flashed
+     *
+     * @param isDebugging If the repainted regions are flashed
+     */
+    public static void setIsDebugging(boolean isDebugging) {
+        _isDebugging = isDebugging;
+        if(!isDebugging) {
+            DEBUG_OVERLAY.clear();
+        }
+    }
+
+    /**
+     * @return TRUE if the repainted regions are flashed, FALSE otherwise
+     */
+    public static boolean getIsDebugging() {
+        return _isDebugging;
+    }
+
+    /**
+     * Repaints the damaged region
+     */
+    private static void flush() {
+        FRAME_TIMER.stop();
+        if(_rootPane == null || DAMAGE.isEmpty()) {
+            return;
+        }
+
+        Rectangle damage = new Rectangle(DAMAGE);
+        DAMAGE.setBounds(0, 0, -1, -1);
+
+        _rootPane.repaint(damage);
+        if(_isDebugging) {
+            DEBUG_OVERLAY.flash(_rootPane, damage);
+        }
+    }
+}
\ No newline at end of file
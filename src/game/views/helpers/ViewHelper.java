@@ -24,22 +24,20 @@
 
 package game.views.helpers;
 
+import java.awt.Component;
 import java.awt.event.MouseEvent;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 import javax.swing.SwingUtilities;
 
 import framework.api.IView;
-import framework.core.factories.AbstractFactory;
-import framework.core.factories.ViewFactory;
 import framework.utils.MouseListenerEvent;
 import framework.utils.MouseListenerEvent.SupportedActions;
 
 import game.views.CardView;
+import game.views.GameView;
 import game.views.TableauPileView;
-import game.views.TalonPileView;
 
 /**
  * Helper class for common view related functionality
@@ -48,6 +46,30 @@ import game.views.TalonPileView;
  */
 public class ViewHelper {
     
+    /**
+     * Gets the game view that the specified component is shown on, by walking up the parents of the component rather
+     * than going through the view factory
+     *
+     * @param component The component
+     *
+     * @return The game view, or null if the component is not shown on the game view
+     */
+    public static GameView getGameView(Component component) {
+        return (GameView)SwingUtilities.getAncestorOfClass(GameView.class, component);
+    }
+    
+    /**
+     * Starts the game timer of the game view that the specified component is shown on
+     *
+     * @param component The component
+     */
+    public static void startGameTimer(Component component) {
+        GameView gameView = getGameView(component);
+        if(gameView != null) {
+            gameView.getStatusBarView().getTimerView().startGameTimer();
+        }
+    }
+    
     /**
      * Registers the specified view so that it can initiate an Autocomplete opertation 
      *
@@ -64,28 +86,32 @@ public class ViewHelper {
                     return;
                 }
                 
-                performCardsAutocomplete();
+                // The game view registers itself as well, and it is not one of its own ancestors
+                Component component = view.getContainerClass();
+                GameView gameView = component instanceof GameView ? (GameView)component : getGameView(component);
+                if(gameView != null) {
+                    performCardsAutocomplete(gameView);
+                }
             }
         });
     }
     
     /**
      * Performs an auto complete based on all available cards
+     *
+     * @param gameView The game view to auto complete
      */
-    private static void performCardsAutocomplete() {
-        ViewFactory viewFactory = AbstractFactory.getFactory(ViewFactory.class);
+    private static void performCardsAutocomplete(GameView gameView) {
         List<CardView> cards = new ArrayList<CardView>();
         
         // Get the top-most talon card
-        CardView talonCard = viewFactory.get(TalonPileView.class).getLastCard();
+        CardView talonCard = gameView.getTalonView().getLastCard();
         if(talonCard != null) {
             cards.add(talonCard);    
         }
         
         // Get all available top-most front-facing cards
-        List<TableauPileView> tableauPileViews = viewFactory.getAll(TableauPileView.class);
-        Collections.reverse(tableauPileViews);
-        for(TableauPileView view : tableauPileViews) {
+        for(TableauPileView view : gameView.getTableauViews()) {
             CardView card = view.getLastCard();
             if(card != null && !card.isBacksideShowing()) {
                 cards.add(card);
@@ -112,7 +138,7 @@ public class ViewHelper {
         // If the talon card was moved then enabled the top-most card so that the next card can be played
         // TODO Can this be self-contained??
         if(talonCard != null && !cards.contains(talonCard)) {
-            CardView lastTalonCard = viewFactory.get(TalonPileView.class).getLastCard();
+            CardView lastTalonCard = gameView.getTalonView().getLastCard();
             if(lastTalonCard != null) {
                 lastTalonCard.setEnabled(true);
             }
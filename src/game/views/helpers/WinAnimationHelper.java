@@ -24,6 +24,7 @@
 
 package game.views.helpers;
 
+import java.awt.Graphics2D;
 import java.awt.Point;
 import java.awt.Rectangle;
 import java.awt.event.ComponentAdapter;
@@ -32,22 +33,21 @@ import java.awt.event.KeyAdapter;
 import java.awt.event.KeyEvent;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Queue;
-import java.util.Timer;
-import java.util.TimerTask;
 
-import framework.core.factories.AbstractFactory;
-import framework.core.factories.ViewFactory;
+import javax.swing.SwingUtilities;
+
 import framework.core.system.Application;
 
-import game.config.OptionsPreferences;
+import game.config.OptionsSnapshot;
 import game.views.CardView;
 import game.views.FoundationPileView;
 import game.views.GameView;
-import game.views.StatusBarView;
 
 /**
  * This helper class performs a win animation on the specified card
@@ -56,61 +56,15 @@ import game.views.StatusBarView;
  */
 public class WinAnimationHelper {
 
-    /** 
-     * The timer used to update the position of the cards associated to the foundations
-     */
-    private static Timer _timer;
-
-    /**
-     * The queue of foundation views, ordered in priority of rendering importance
-     */
-    private static final Queue<FoundationPileView> _foundations = new LinkedList<FoundationPileView>();
-    
     /**
-     * The key adapter that handles when a key is pressed during the animation phase
-     */
-    private static final KeyAdapter _keyAdapter = new KeyAdapter() {
-        @Override public void keyPressed(KeyEvent event) {
-            clear();
-            GameView.showGameOverDialog();
-        }
-    };
-    
-    /**
-     * The mouse adapter that handles when a mouse button is pressed during the animation phase
-     */
-    private static final MouseAdapter _mouseAdapter = new MouseAdapter() {
-        @Override public void mousePressed(MouseEvent event) {
-            clear();
-            GameView.showGameOverDialog();
-        }
-    };
-    
-    /**
-     * The component adapter that handles when the window changes size during the animation phase
-     * which causes the layout manager to destroy the layout of the game
-     */
-    private static final ComponentAdapter _componentAdapter = new ComponentAdapter() {
-        @Override public void componentResized(ComponentEvent event) {
-            clear();
-            GameView.showGameOverDialog();
-        }        
-    };
-    
-    /**
-     * The canvas width
-     */
-    private static int _canvasWidth;
-    
-    /**
-     * The canvas height
+     * The card view that is being manipulated
      */
-    private static int _canvasHeight;
+    private final CardView _cardView;
     
     /**
-     * The card view that is being manipulated
+     * The image of the card view that is being manipulated, which is drawn into the trail at every step
      */
-    private final CardView _cardView;
+    private final BufferedImage _sprite;
 
     /**
      * The x-position being used for the card coordinate
@@ -142,6 +96,11 @@ public class WinAnimationHelper {
         Point position = cardView.getParentIView().getContainerClass().getLocation();
         _x = position.getX();
         _y = position.getY();
+        
+        _sprite = new BufferedImage(cardView.getWidth(), cardView.getHeight(), BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = _sprite.createGraphics();
+        cardView.paint(graphics);
+        graphics.dispose();
 
         if(_deltaX == 0) {
             _deltaX = 1;
@@ -149,124 +108,70 @@ public class WinAnimationHelper {
     }
     
     /**
-     * Process all the cards held by the foundation views
+     * Process all the cards held by the foundation views of the specified game view
+     *
+     * @param gameView The game view
+     *
+     * @return The animation that was started
      */
-    public static void processCards() {
-        // Get the list of foundation piles
-        List<FoundationPileView> foundationsList = AbstractFactory.getFactory(ViewFactory.class).getAll(FoundationPileView.class);
+    public static WinAnimation processCards(GameView gameView) {
+        // Get the list of foundation piles, copied since it is reversed
+        List<FoundationPileView> foundationsList = new ArrayList<FoundationPileView>(gameView.getFoundationViews());
         
         // Reverse the list so that we start with the left-most pile.
         Collections.reverse(foundationsList);
 
-        // Initialize this helper class
-        initialize();
-        
-        // Populate the queue of items to be processed
-        _foundations.addAll(foundationsList);
-    }
-    
-    /**
-     * Initializes this helper in preparation for rendering the cards associated to the foundations
-     */
-    private static void initialize() {
-        OptionsPreferences preferences = new OptionsPreferences();
-        preferences.load();
-        
-        GameView gameView = AbstractFactory.getFactory(ViewFactory.class).get(GameView.class);
-        _canvasWidth = gameView.getWidth();
-        _canvasHeight = gameView.getHeight() - (preferences.statusBar ? AbstractFactory.getFactory(ViewFactory.class).get(StatusBarView.class).getHeight() : 0);
-        
-        // Clear this class before proceeding
-        clear();
-
-        Application.instance.getJMenuBar().addMouseListener(_mouseAdapter);
-        for(int i = 0; i < Application.instance.getJMenuBar().getMenuCount(); ++i) {
-            Application.instance.getJMenuBar().getMenu(i).setEnabled(false);
-        }
-
-        // Add the listeners for detecting whenever a click or a mouse event occurs during
-        // the animation so that the animation will stop and the dialog for starting a new game will get prompted
-        gameView.addMouseListener(_mouseAdapter);
-        Application.instance.addKeyListener(_keyAdapter);
-        Application.instance.addComponentListener(_componentAdapter);
-        
-        _timer = new Timer(true);
-        _timer.schedule(new TimerTask() {
-            WinAnimationHelper helper = null;
-            boolean hadValues = false;
-            @Override public void run() {
-                if(_foundations.size() > 0) {
-                    hadValues = true;
-                    if(helper != null) {
-                        if(!helper.update()) {
-                            helper._cardView.getParent().remove(helper._cardView);
-                            helper = null;
-                        }
-                    }
-                    else {
-                        // Get a reference to the current head of the foundations list
-                        FoundationPileView foundation = _foundations.poll();
-
-                        // If the foundation exists then remove it from the list and get the
-                        // last card. Provided that it exists then create a helper object to
-                        // animate the card and put the foundation at the back of the queue
-                        if(foundation != null) {
-                            _foundations.remove(foundation);
-                            CardView card = foundation.getLastCard();
-                            if(card != null) {
-                                helper = new WinAnimationHelper(card);
-                                _foundations.add(foundation);
-                            }
-                        }
-                    }
-                }
-                else {
-                    if(hadValues) {
-                        clear();
-                        GameView.showGameOverDialog();
-                    }
-                }
-            }
-        }, 0, 1000/80);
+        // Initialize the animation, and populate the queue of items to be processed
+        WinAnimation animation = new WinAnimation(gameView);
+        animation._foundations.addAll(foundationsList);
+        AnimationScheduler.start(animation);
+        return animation;
     }
 
     /**
      * Performs an update by performing both a next step point calculation and a draw routine
      *
+     * @param animation The animation that this card belongs to
+     *
      * @return TRUE if the operation was successful, false otherwise
      */
-    private boolean update() {
+    private boolean update(WinAnimation animation) {
 
-        Point point = calculateNextStep();
+        Point point = calculateNextStep(animation._canvasWidth, animation._canvasHeight);
         if(point == null) {
             return false;
         }
         
-        draw(point);
+        draw(point, animation._trailGraphics, animation._damage);
         return true;    
     }
     
     /**
-     * Draws the currently set card view to the specified position
+     * Draws the currently set card view into the trail at the specified position
      *
      * @param point The position to draw to
+     * @param trailGraphics The graphics context of the trail, or null if the animation was cleared
+     * @param damage The area of the game view that was drawn into since the last frame, which is grown by this draw
      */
-    private void draw(Point point) {
-        CardView cardView = CardView.createLightWeightCard(_cardView);
-        cardView.render();
+    private void draw(Point point, Graphics2D trailGraphics, Rectangle damage) {
+        if(trailGraphics == null) {
+            return;
+        }
         
-        ViewFactory viewFactory = AbstractFactory.getFactory(ViewFactory.class);
-        GameView gameView = viewFactory.get(GameView.class);
-        gameView.add(cardView, 0);
-        cardView.setBounds(new Rectangle(point.x, point.y, _cardView.getWidth(), _cardView.getHeight()));        
+        trailGraphics.drawImage(_sprite, point.x, point.y, null);
+        damage.add(point.x, point.y);
+        damage.add(point.x + _sprite.getWidth(), point.y + _sprite.getHeight());
     }
     
     /**
      * Calculates the next position that the currently set card will be at
      *
+     * @param canvasWidth The canvas width
+     * @param canvasHeight The canvas height
+     *
      * @return The position associated to the next step where the card would be at 
      */
-    private Point calculateNextStep() {
+    private Point calculateNextStep(int canvasWidth, int canvasHeight) {
 
         // Take the change in X and the change in Y and apply them respectively
         _x += _deltaX;
@@ -274,15 +179,15 @@ public class WinAnimationHelper {
 
         // If you are outside the left or right canvas limits then the card should not 
         // longer be positioned anywhere relevant so do not return any position
-        if(_x < -CardView.CARD_WIDTH || _x > _canvasWidth) {
+        if(_x < -CardView.CARD_WIDTH || _x > canvasWidth) {
             return null;
         }
         
         // If the position is outside canvas height (with respect to the bottom of the card)
-        if(_y > _canvasHeight - CardView.CARD_HEIGHT) {
+        if(_y > canvasHeight - CardView.CARD_HEIGHT) {
             
             // Normalize the position of the card by placing it on the theoretical bottom of the canvas
-            _y = _canvasHeight - CardView.CARD_HEIGHT;
+            _y = canvasHeight - CardView.CARD_HEIGHT;
             
             // Take the change in `y` inverse it, this along will cause the card to bounce upwards
             // Take only a small percentage of the delta so that it bounces less
@@ -295,31 +200,195 @@ public class WinAnimationHelper {
     }
     
     /**
-     * Clears the contents of this helper
+     * The animation that bounces the cards associated to the foundations off the board, one card at a time starting with the
+     * left-most foundation. Every step of a card is drawn into the trail as it is simulated, so there is nothing to
+     * interpolate and a frame only repaints the area of the trail that was drawn into since the last frame.
+     * 
+     * Everything that the animation uses belongs to the animation, which is owned by the game view that it is played on
+     *
+     * @author Daniel Ricci {@literal <thedanny09@icloud.com>}
      */
-    public static void clear() {
-        if(_timer != null) {
-            _timer.cancel();
-            _timer = null;
+    public static final class WinAnimation implements AnimationScheduler.IAnimation {
+        
+        /**
+         * The game view that the animation is played on
+         */
+        private final GameView _gameView;
+        
+        /**
+         * The queue of foundation views, ordered in priority of rendering importance
+         */
+        private final Queue<FoundationPileView> _foundations = new LinkedList<FoundationPileView>();
+        
+        /**
+         * The area of the game view that was drawn into since the last frame
+         */
+        private final Rectangle _damage = new Rectangle(0, 0, -1, -1);
+        
+        /**
+         * The key adapter that handles when a key is pressed during the animation phase
+         */
+        private final KeyAdapter _keyAdapter = new KeyAdapter() {
+            @Override public void keyPressed(KeyEvent event) {
+                clear();
+                GameView.showGameOverDialog(_gameView);
+            }
+        };
+        
+        /**
+         * The mouse adapter that handles when a mouse button is pressed during the animation phase
+         */
+        private final MouseAdapter _mouseAdapter = new MouseAdapter() {
+            @Override public void mousePressed(MouseEvent event) {
+                clear();
+                GameView.showGameOverDialog(_gameView);
+            }
+        };
+        
+        /**
+         * The component adapter that handles when the window changes size during the animation phase
+         * which causes the layout manager to destroy the layout of the game
+         */
+        private final ComponentAdapter _componentAdapter = new ComponentAdapter() {
+            @Override public void componentResized(ComponentEvent event) {
+                clear();
+                GameView.showGameOverDialog(_gameView);
+            }        
+        };
+        
+        /**
+         * The graphics context used to draw into the trail left by the cards bouncing off the board. Every step of every card
+         * is drawn into the trail once, and the game view paints the trail above the piles
+         */
+        private Graphics2D _trailGraphics;
+        
+        /**
+         * The canvas width
+         */
+        private final int _canvasWidth;
+        
+        /**
+         * The canvas height
+         */
+        private final int _canvasHeight;
+        
+        /**
+         * The helper of the card being animated, or null if the next card must be picked
+         */
+        private WinAnimationHelper _helper;
+        
+        /**
+         * Indicates if there were any foundations to animate
+         */
+        private boolean _hadValues;
+        
+        /**
+         * Indicates if the animation was cleared
+         */
+        private boolean _isCleared;
+        
+        /**
+         * Constructs a new instance of this class type, in preparation for rendering the cards associated to the foundations
+         *
+         * @param gameView The game view that the animation is played on
+         */
+        private WinAnimation(GameView gameView) {
+            OptionsSnapshot preferences = OptionsSnapshot.get();
+            
+            _gameView = gameView;
+            _canvasWidth = gameView.getWidth();
+            _canvasHeight = gameView.getHeight() - (preferences.statusBar ? gameView.getStatusBarView().getHeight() : 0);
+            
+            // The trail starts out fully transparent so that the board is seen through it
+            BufferedImage trail = new BufferedImage(Math.max(gameView.getWidth(), 1), Math.max(gameView.getHeight(), 1), BufferedImage.TYPE_INT_ARGB);
+            _trailGraphics = trail.createGraphics();
+            gameView.setWinAnimationTrail(trail);
+
+            Application.instance.getJMenuBar().addMouseListener(_mouseAdapter);
+            for(int i = 0; i < Application.instance.getJMenuBar().getMenuCount(); ++i) {
+                Application.instance.getJMenuBar().getMenu(i).setEnabled(false);
+            }
+
+            // Add the listeners for detecting whenever a click or a mouse event occurs during
+            // the animation so that the animation will stop and the dialog for starting a new game will get prompted
+            gameView.addMouseListener(_mouseAdapter);
+            Application.instance.addKeyListener(_keyAdapter);
+            Application.instance.addComponentListener(_componentAdapter);
         }
         
-        ViewFactory viewFactory = AbstractFactory.getFactory(ViewFactory.class);
-        if(viewFactory != null) {
-            GameView gameView = viewFactory.get(GameView.class);
-            if(gameView != null) {
-                gameView.removeMouseListener(_mouseAdapter);
+        /**
+         * Clears the contents of this animation
+         */
+        public void clear() {
+            if(_isCleared) {
+                return;
+            }
+            _isCleared = true;
+            
+            AnimationScheduler.stop(this);
+            
+            // The trail stays on the board until the next game, only its graphics context is released
+            _trailGraphics.dispose();
+            _trailGraphics = null;
+            
+            _gameView.removeMouseListener(_mouseAdapter);
+            Application.instance.removeKeyListener(_keyAdapter);
+            Application.instance.getJMenuBar().removeMouseListener(_mouseAdapter);
+            Application.instance.removeComponentListener(_componentAdapter);
+
+            // Enable back all the menu items
+            // TODO - Can this can actually be put within the MenuBuilder and then just be called from there?
+            for(int i = 0; i < Application.instance.getJMenuBar().getMenuCount(); ++i) {
+                Application.instance.getJMenuBar().getMenu(i).setEnabled(true);
             }
+            
+            _foundations.clear();
         }
-        Application.instance.removeKeyListener(_keyAdapter);
-        Application.instance.getJMenuBar().removeMouseListener(_mouseAdapter);
-        Application.instance.removeComponentListener(_componentAdapter);
+        
+        @Override public boolean step() {
+            if(_foundations.size() > 0) {
+                _hadValues = true;
+                if(_helper != null) {
+                    if(!_helper.update(this)) {
+                        _helper._cardView.getParent().remove(_helper._cardView);
+                        _helper = null;
+                    }
+                }
+                else {
+                    // Get a reference to the current head of the foundations list
+                    FoundationPileView foundation = _foundations.poll();
 
-        // Enable back all the menu items
-        // TODO - Can this can actually be put within the MenuBuilder and then just be called from there?
-        for(int i = 0; i < Application.instance.getJMenuBar().getMenuCount(); ++i) {
-            Application.instance.getJMenuBar().getMenu(i).setEnabled(true);
+                    // If the foundation exists then remove it from the list and get the
+                    // last card. Provided that it exists then create a helper object to
+                    // animate the card and put the foundation at the back of the queue
+                    if(foundation != null) {
+                        _foundations.remove(foundation);
+                        CardView card = foundation.getLastCard();
+                        if(card != null) {
+                            _helper = new WinAnimationHelper(card);
+                            _foundations.add(foundation);
+                        }
+                    }
+                }
+            }
+            else if(_hadValues) {
+                
+                // The dialog is shown once the current frame is done, it would otherwise block the scheduler
+                clear();
+                SwingUtilities.invokeLater(() -> GameView.showGameOverDialog(_gameView));
+                return false;
+            }
+            
+            return true;
         }
         
-        _foundations.clear();
+        @Override public void render(double alpha) {
+            if(_damage.isEmpty()) {
+                return;
+            }
+            
+            _gameView.repaint(_damage);
+            _damage.setBounds(0, 0, -1, -1);
+        }
     }
 }
\ No newline at end of file